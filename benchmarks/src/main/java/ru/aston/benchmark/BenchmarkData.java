@@ -0,0 +1,54 @@
+package ru.aston.benchmark;
+
+import java.util.Random;
+
+/**
+ * Генератор исходных данных для бенчмарков.
+ * Все данные строятся с фиксированным зерном, чтобы прогоны были сравнимы между собой.
+ *
+ * @author Серова Дарья
+ * @version 1.0
+ * @since 2023-08-15
+ */
+
+final class BenchmarkData {
+
+    /**
+     * Зерно генератора случайных чисел.
+     */
+    private static final long SEED = 42L;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Возвращает массив из {@code size} случайных целых чисел.
+     *
+     * @param size количество элементов.
+     * @return массив случайных значений.
+     */
+    static Integer[] randomIntegers(int size) {
+        Random random = new Random(SEED);
+        Integer[] values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt();
+        }
+        return values;
+    }
+
+    /**
+     * Возвращает массив из {@code count} случайных индексов в диапазоне {@code [0, size)}.
+     *
+     * @param size  размер списка.
+     * @param count количество индексов.
+     * @return массив индексов.
+     */
+    static int[] randomIndexes(int size, int count) {
+        Random random = new Random(SEED);
+        int[] indexes = new int[count];
+        for (int i = 0; i < count; i++) {
+            indexes[i] = random.nextInt(size);
+        }
+        return indexes;
+    }
+}
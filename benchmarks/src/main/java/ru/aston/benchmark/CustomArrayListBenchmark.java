@@ -0,0 +1,235 @@
+package ru.aston.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.aston.CustomArrayList;
+import ru.aston.CustomListPool;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки основных операций {@link CustomArrayList}.
+ * Для каждой операции есть пара методов: {@code custom*} измеряет {@code CustomArrayList},
+ * {@code jdk*} - {@link ArrayList} как базовую линию.
+ *
+ * <p>{@code customPooledAppend} берет список из {@link CustomListPool} и возвращает его обратно, поэтому
+ * после прогрева не создает ни списков, ни массивов; его стоит запускать с профилировщиком {@code -prof gc}.
+ *
+ * <p>Вставка по индексу измеряется вместе с последующим удалением из той же позиции, чтобы размер списка
+ * оставался равным {@code size} на протяжении всей итерации.
+ *
+ * @author Серова Дарья
+ * @version 1.0
+ * @since 2023-08-15
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class CustomArrayListBenchmark {
+
+    /**
+     * Количество индексов, по которым циклически проходят {@code get} и {@code set}.
+     */
+    private static final int INDEX_COUNT = 1024;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private Integer[] values;
+
+    private int[] indexes;
+
+    private int cursor;
+
+    private CustomArrayList<Integer> customList;
+
+    private ArrayList<Integer> jdkList;
+
+    private final CustomListPool pool = new CustomListPool(1 << 24, 1);
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        values = BenchmarkData.randomIntegers(size);
+        indexes = BenchmarkData.randomIndexes(size, INDEX_COUNT);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        customList = new CustomArrayList<>();
+        jdkList = new ArrayList<>();
+        for (Integer value : values) {
+            customList.add(value);
+            jdkList.add(value);
+        }
+        cursor = 0;
+    }
+
+    private int nextIndex() {
+        int index = indexes[cursor];
+        cursor = (cursor + 1) & (INDEX_COUNT - 1);
+        return index;
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> customAppend() {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        for (Integer value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public int customPooledAppend() {
+        CustomArrayList<Integer> list = pool.acquire();
+        for (Integer value : values) {
+            list.add(value);
+        }
+        int result = list.size();
+        pool.release(list);
+        return result;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> jdkAppend() {
+        ArrayList<Integer> list = new ArrayList<>();
+        for (Integer value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public Integer customInsertRemoveHead() {
+        customList.add(0, values[0]);
+        return customList.remove(0);
+    }
+
+    @Benchmark
+    public Integer jdkInsertRemoveHead() {
+        jdkList.add(0, values[0]);
+        return jdkList.remove(0);
+    }
+
+    @Benchmark
+    public Integer customInsertRemoveMiddle() {
+        int index = size / 2;
+        customList.add(index, values[0]);
+        return customList.remove(index);
+    }
+
+    @Benchmark
+    public Integer jdkInsertRemoveMiddle() {
+        int index = size / 2;
+        jdkList.add(index, values[0]);
+        return jdkList.remove(index);
+    }
+
+    @Benchmark
+    public Integer customInsertRemoveTail() {
+        customList.add(size, values[0]);
+        return customList.remove(size);
+    }
+
+    @Benchmark
+    public Integer jdkInsertRemoveTail() {
+        jdkList.add(size, values[0]);
+        return jdkList.remove(size);
+    }
+
+    @Benchmark
+    public Integer customGet() {
+        return customList.get(nextIndex());
+    }
+
+    @Benchmark
+    public Integer jdkGet() {
+        return jdkList.get(nextIndex());
+    }
+
+    @Benchmark
+    public void customGetScan(Blackhole bh) {
+        for (int i = 0; i < size; i++) {
+            bh.consume(customList.get(i));
+        }
+    }
+
+    @Benchmark
+    public void jdkGetScan(Blackhole bh) {
+        for (int i = 0; i < size; i++) {
+            bh.consume(jdkList.get(i));
+        }
+    }
+
+    @Benchmark
+    public Integer customSet() {
+        int index = nextIndex();
+        return customList.set(index, values[index]);
+    }
+
+    @Benchmark
+    public Integer jdkSet() {
+        int index = nextIndex();
+        return jdkList.set(index, values[index]);
+    }
+
+    /**
+     * Бенчмарк {@code clear()}. Перед каждым вызовом список заполняется заново, поэтому используется
+     * отдельное состояние с {@link Level#Invocation}.
+     */
+    @State(Scope.Thread)
+    public static class ClearState {
+
+        @Param({"10", "1000", "100000", "10000000"})
+        private int size;
+
+        private Integer[] values;
+
+        private CustomArrayList<Integer> customList;
+
+        private ArrayList<Integer> jdkList;
+
+        @Setup(Level.Trial)
+        public void setUpTrial() {
+            values = BenchmarkData.randomIntegers(size);
+            customList = new CustomArrayList<>();
+            jdkList = new ArrayList<>();
+        }
+
+        @Setup(Level.Invocation)
+        public void fill() {
+            customList.clear();
+            jdkList.clear();
+            for (Integer value : values) {
+                customList.add(value);
+                jdkList.add(value);
+            }
+        }
+    }
+
+    @Benchmark
+    public void customClear(ClearState state) {
+        state.customList.clear();
+    }
+
+    @Benchmark
+    public void jdkClear(ClearState state) {
+        state.jdkList.clear();
+    }
+}
@@ -0,0 +1,124 @@
+package ru.aston.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.aston.CustomArrayList;
+import ru.aston.util.MergeSortUtil;
+import ru.aston.util.QuickSortUtil;
+import ru.aston.util.RadixSortUtil;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки обеих перегрузок {@link QuickSortUtil#quickSort} и устойчивой сортировки {@link MergeSortUtil#sort},
+ * а также поразрядной сортировки {@link RadixSortUtil#sortByLongKey} по тому же ключу.
+ * Базовая линия - {@link ArrayList#sort(Comparator)} на тех же данных.
+ * Перед каждым вызовом список заново заполняется неотсортированными данными.
+ *
+ * @author Серова Дарья
+ * @version 1.0
+ * @since 2023-08-15
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "-Xss64m"})
+public class QuickSortBenchmark {
+
+    private static final Comparator<Integer> REVERSE = Comparator.reverseOrder();
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private Integer[] values;
+
+    private CustomArrayList<Integer> customList;
+
+    private ArrayList<Integer> jdkList;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        values = BenchmarkData.randomIntegers(size);
+        customList = new CustomArrayList<>();
+        jdkList = new ArrayList<>();
+    }
+
+    @Setup(Level.Invocation)
+    public void fill() {
+        customList.clear();
+        jdkList.clear();
+        for (Integer value : values) {
+            customList.add(value);
+            jdkList.add(value);
+        }
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> customQuickSortComparable() {
+        QuickSortUtil.quickSort(customList, 0, customList.size() - 1);
+        return customList;
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> customQuickSortComparator() {
+        QuickSortUtil.quickSort(customList, REVERSE, 0, customList.size() - 1);
+        return customList;
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> customParallelQuickSortComparable() {
+        QuickSortUtil.parallelQuickSort(customList, 0, customList.size() - 1);
+        return customList;
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> customParallelQuickSortComparator() {
+        QuickSortUtil.parallelQuickSort(customList, REVERSE, 0, customList.size() - 1);
+        return customList;
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> customMergeSortComparable() {
+        MergeSortUtil.sort(customList, 0, customList.size() - 1);
+        return customList;
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> customMergeSortComparator() {
+        MergeSortUtil.sort(customList, REVERSE, 0, customList.size() - 1);
+        return customList;
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> customRadixSortLongKey() {
+        RadixSortUtil.sortByLongKey(customList, Integer::longValue, 0, customList.size() - 1);
+        return customList;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> jdkSortComparable() {
+        jdkList.sort(null);
+        return jdkList;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> jdkSortComparator() {
+        jdkList.sort(REVERSE);
+        return jdkList;
+    }
+}
@@ -0,0 +1,418 @@
+package ru.aston;
+
+import ru.aston.codec.ElementCodec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Базовая реализация {@link CustomList}, хранящая элементы в блоках {@link ByteBuffer} одинаковой емкости.
+ *
+ * <p>Элементы кодируются {@link ElementCodec} фиксированного размера. Емкость блока равна степени двойки,
+ * поэтому позиция элемента вычисляется сдвигом и маской индекса и {@link #get(int)} выполняется за {@code O(1)}.
+ * При заполнении добавляется новый блок, существующие данные не копируются. Вставка и удаление в середине
+ * сдвигают хвост списка блочным копированием байтов.
+ *
+ * <p>Наследники определяют, где выделяются блоки ({@link #allocateChunk(int, int)}) и как они освобождаются
+ * ({@link #releaseChunks(ByteBuffer[], int)}). После {@link #close()} любые операции со списком бросают
+ * {@link IllegalStateException}. Список не потокобезопасен.
+ *
+ * @param <E> тип элементов в листе.
+ * @author Серова Дарья
+ * @version 1.0
+ * @see OffHeapCustomList
+ * @see MappedCustomList
+ * @since 2023-08-15
+ */
+
+abstract class ChunkedBufferCustomList<E> implements CustomList<E>, AutoCloseable {
+
+    private final ElementCodec<E> codec;
+
+    private final int elementSize;
+
+    private final int chunkShift;
+
+    private final int chunkMask;
+
+    /**
+     * Блоки с элементами. Заполнены первые {@code chunkCount} ячеек.
+     */
+    private ByteBuffer[] chunks;
+
+    private int chunkCount;
+
+    /**
+     * Промежуточный буфер для блочного сдвига элементов, создается при первой вставке или удалении.
+     */
+    private byte[] scratch;
+
+    private int size;
+
+    private boolean closed;
+
+    /**
+     * Создает пустой список с заданной емкостью блока.
+     *
+     * @param codec         кодек элементов.
+     * @param chunkCapacity количество элементов в одном блоке, степень двойки.
+     * @throws IllegalArgumentException если емкость блока не является положительной степенью двойки
+     *                                  или размер блока в байтах превышает {@link Integer#MAX_VALUE}.
+     */
+    ChunkedBufferCustomList(ElementCodec<E> codec, int chunkCapacity) {
+        if (chunkCapacity <= 0 || Integer.bitCount(chunkCapacity) != 1) {
+            throw new IllegalArgumentException("Chunk capacity must be a positive power of two!");
+        }
+        if ((long) chunkCapacity * codec.size() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Chunk size in bytes can't be greater than " + Integer.MAX_VALUE);
+        }
+        this.codec = codec;
+        this.elementSize = codec.size();
+        this.chunkShift = Integer.numberOfTrailingZeros(chunkCapacity);
+        this.chunkMask = chunkCapacity - 1;
+        this.chunks = new ByteBuffer[1];
+    }
+
+    /**
+     * Добавляет передаваемый элемент в конец списка.
+     * Если в последнем блоке нет места, выделяется новый блок.
+     *
+     * @param element элемент, который нужно добавить в список.
+     * @return {@code true} - элемент успешно добавлен.
+     * @throws IllegalStateException если список закрыт.
+     */
+    @Override
+    public boolean add(E element) {
+        ensureOpen();
+        ensureChunkFor(size);
+        write(size, element);
+        size++;
+        onSizeChanged(size);
+        return true;
+    }
+
+    /**
+     * Вставляет передаваемый элемент в список в указанную позицию, сдвигая последующие элементы вправо.
+     *
+     * @param index   позиция для вставки.
+     * @param element элемент, который должен быть вставлен.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index > size || index < 0)}.
+     * @throws IllegalStateException     если список закрыт.
+     */
+    @Override
+    public void add(int index, E element) {
+        ensureOpen();
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be greater than the current array size = " + size
+                    + " or less than 0!");
+        }
+        ensureChunkFor(size);
+        move(index, index + 1, size - index);
+        write(index, element);
+        size++;
+        onSizeChanged(size);
+    }
+
+    /**
+     * Возвращает элемент в указанной позиции списка, декодируя его из блока.
+     *
+     * @param index позиция искомого элемента в списке.
+     * @return элемент в указанной позиции.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     * @throws IllegalStateException     если список закрыт.
+     */
+    @Override
+    public E get(int index) {
+        ensureOpen();
+        checkIndex(index);
+        return codec.read(chunks[index >>> chunkShift], (index & chunkMask) * elementSize);
+    }
+
+    /**
+     * Заменяет элемент в указанной позиции в списке передаваемым элементом.
+     *
+     * @param index   позиция замещаемого элемента.
+     * @param element элемент, который будет сохранен в указанную позицию.
+     * @return элемент, ранее находившийся в указанном положении.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     * @throws IllegalStateException     если список закрыт.
+     */
+    @Override
+    public E set(int index, E element) {
+        ensureOpen();
+        checkIndex(index);
+        ByteBuffer chunk = chunks[index >>> chunkShift];
+        int offset = (index & chunkMask) * elementSize;
+        E oldValue = codec.read(chunk, offset);
+        codec.write(chunk, offset, element);
+        return oldValue;
+    }
+
+    /**
+     * Удаляет элемент в списке из указанной позиции, сдвигая последующие элементы влево.
+     *
+     * @param index позиция удаляемого элемента.
+     * @return элемент, который был удален из списка.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     * @throws IllegalStateException     если список закрыт.
+     */
+    @Override
+    public E remove(int index) {
+        ensureOpen();
+        checkIndex(index);
+        E oldValue = get(index);
+        move(index + 1, index, size - 1 - index);
+        size--;
+        onSizeChanged(size);
+        return oldValue;
+    }
+
+    /**
+     * Вставляет все элементы передаваемого списка в указанную позицию.
+     * Хвост списка сдвигается один раз блочным копированием. Элементы передаваемого списка сначала копируются
+     * во временный массив, так как он может быть представлением этого же списка.
+     *
+     * @param index позиция для вставки первого элемента.
+     * @param list  список, элементы которого нужно вставить.
+     * @return {@code true} - если список изменился.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index > size || index < 0)}.
+     * @throws IllegalStateException     если список закрыт.
+     */
+    @Override
+    public boolean addAll(int index, CustomList<? extends E> list) {
+        ensureOpen();
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be greater than the current array size = " + size
+                    + " or less than 0!");
+        }
+        int count = list.size();
+        if (count == 0) {
+            return false;
+        }
+        if (size + count < 0) {
+            throw new IllegalStateException("List can't hold more than " + Integer.MAX_VALUE + " elements!");
+        }
+        Object[] elements = new Object[count];
+        for (int i = 0; i < count; i++) {
+            elements[i] = list.get(i);
+        }
+        ensureChunkFor(size + count - 1);
+        move(index, index + count, size - index);
+        for (int i = 0; i < count; i++) {
+            write(index + i, (E) elements[i]);
+        }
+        size += count;
+        onSizeChanged(size);
+        return true;
+    }
+
+    /**
+     * Удаляет из списка элементы с позициями от {@code fromIndex} включительно до {@code toIndex} не включительно.
+     * Хвост списка сдвигается один раз блочным копированием.
+     *
+     * @param fromIndex позиция первого удаляемого элемента.
+     * @param toIndex   позиция, следующая за последним удаляемым элементом.
+     * @throws IndexOutOfBoundsException если {@code (fromIndex < 0 || toIndex > size || fromIndex > toIndex)}.
+     * @throws IllegalStateException     если список закрыт.
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        ensureOpen();
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex
+                    + ") is out of bounds for size = " + size);
+        }
+        move(toIndex, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+        onSizeChanged(size);
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return возвращает количество элементов в списке.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Удаляет все элементы из этого списка. Выделенные блоки сохраняются для повторного использования.
+     *
+     * @throws IllegalStateException если список закрыт.
+     */
+    @Override
+    public void clear() {
+        ensureOpen();
+        size = 0;
+        onSizeChanged(size);
+    }
+
+    /**
+     * Возвращает объем памяти, занятой блоками списка, в байтах.
+     *
+     * @return количество выделенных байт.
+     */
+    public long allocatedBytes() {
+        return ((long) chunkCount << chunkShift) * elementSize;
+    }
+
+    /**
+     * Освобождает все блоки списка. Повторный вызов ничего не делает.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        releaseChunks(chunks, chunkCount);
+        chunks = null;
+        chunkCount = 0;
+        scratch = null;
+        size = 0;
+    }
+
+    /**
+     * Выделяет новый блок.
+     *
+     * @param chunkIndex порядковый номер блока.
+     * @param bytes      размер блока в байтах.
+     * @return буфер размером {@code bytes} байт.
+     */
+    protected abstract ByteBuffer allocateChunk(int chunkIndex, int bytes);
+
+    /**
+     * Освобождает блоки при закрытии списка.
+     *
+     * @param chunks     массив блоков.
+     * @param chunkCount количество выделенных блоков.
+     */
+    protected abstract void releaseChunks(ByteBuffer[] chunks, int chunkCount);
+
+    /**
+     * Вызывается после каждого изменения количества элементов.
+     *
+     * @param newSize новое количество элементов.
+     */
+    protected void onSizeChanged(int newSize) {
+    }
+
+    /**
+     * Восстанавливает ранее сохраненные элементы: выделяет блоки для {@code restoredSize} элементов
+     * и устанавливает размер списка без записи элементов.
+     *
+     * @param restoredSize количество восстановленных элементов.
+     */
+    protected void restore(int restoredSize) {
+        if (restoredSize > 0) {
+            ensureChunkFor(restoredSize - 1);
+        }
+        size = restoredSize;
+    }
+
+    /**
+     * Возвращает количество выделенных блоков.
+     */
+    protected int chunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * Возвращает блок с указанным порядковым номером.
+     */
+    protected ByteBuffer chunk(int chunkIndex) {
+        return chunks[chunkIndex];
+    }
+
+    /**
+     * Проверяет, что список не закрыт.
+     *
+     * @throws IllegalStateException если список закрыт.
+     */
+    protected void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("List is closed!");
+        }
+    }
+
+    private void write(int index, E element) {
+        codec.write(chunks[index >>> chunkShift], (index & chunkMask) * elementSize, element);
+    }
+
+    /**
+     * Выделяет блок, в котором будет находиться элемент с индексом {@code index}, если его еще нет.
+     */
+    private void ensureChunkFor(int index) {
+        if (index == Integer.MAX_VALUE) {
+            throw new IllegalStateException("List can't hold more than " + Integer.MAX_VALUE + " elements!");
+        }
+        int chunkIndex = index >>> chunkShift;
+        while (chunkCount <= chunkIndex) {
+            if (chunkCount == chunks.length) {
+                ByteBuffer[] newChunks = new ByteBuffer[chunks.length * 2];
+                System.arraycopy(chunks, 0, newChunks, 0, chunkCount);
+                chunks = newChunks;
+            }
+            chunks[chunkCount] = allocateChunk(chunkCount, (chunkMask + 1) * elementSize);
+            chunkCount++;
+        }
+    }
+
+    /**
+     * Перемещает {@code count} элементов с позиции {@code from} на позицию {@code to}.
+     * Области могут пересекаться. Копирование выполняется отрезками, не пересекающими границы блоков.
+     */
+    private void move(int from, int to, int count) {
+        if (count <= 0 || from == to) {
+            return;
+        }
+        if (scratch == null) {
+            scratch = new byte[(chunkMask + 1) * elementSize];
+        }
+
+        int chunkCapacity = chunkMask + 1;
+        if (to > from) {
+            int remaining = count;
+            while (remaining > 0) {
+                int srcEnd = from + remaining;
+                int dstEnd = to + remaining;
+                int length = Math.min(remaining,
+                        Math.min(((srcEnd - 1) & chunkMask) + 1, ((dstEnd - 1) & chunkMask) + 1));
+                copy(srcEnd - length, dstEnd - length, length);
+                remaining -= length;
+            }
+        } else {
+            int done = 0;
+            while (done < count) {
+                int src = from + done;
+                int dst = to + done;
+                int length = Math.min(count - done,
+                        Math.min(chunkCapacity - (src & chunkMask), chunkCapacity - (dst & chunkMask)));
+                copy(src, dst, length);
+                done += length;
+            }
+        }
+    }
+
+    /**
+     * Копирует {@code length} элементов, которые не пересекают границы блоков, через промежуточный буфер.
+     */
+    private void copy(int src, int dst, int length) {
+        int bytes = length * elementSize;
+        ByteBuffer source = chunks[src >>> chunkShift].duplicate();
+        source.position((src & chunkMask) * elementSize);
+        source.get(scratch, 0, bytes);
+        ByteBuffer target = chunks[dst >>> chunkShift].duplicate();
+        target.position((dst & chunkMask) * elementSize);
+        target.put(scratch, 0, bytes);
+    }
+
+    private void checkIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be greater than the current array size = " + size
+                    + " or less than 0!");
+        }
+    }
+
+}
@@ -0,0 +1,254 @@
+package ru.aston;
+
+/**
+ * {@code ChunkedCustomList} реализация интерфейса {@link CustomList} для очень больших списков.
+ *
+ * <p>Элементы хранятся в блоках (<i>chunk</i>) одинаковой емкости, равной степени двойки. При заполнении
+ * выделяется только новый блок, существующие элементы никогда не копируются, поэтому рост списка не требует
+ * одного огромного непрерывного массива и не удваивает занятую память на время копирования. Растет только
+ * каталог блоков, который в {@code chunkCapacity} раз меньше самого списка.
+ *
+ * <p>Позиция элемента вычисляется сдвигом и маской индекса, поэтому {@link #get(int)} и {@link #set(int, Object)}
+ * выполняются за {@code O(1)}. Вставка и удаление в середине сдвигают хвост списка копированием внутри блоков
+ * с переносом граничного элемента в соседний блок. Список не потокобезопасен.
+ *
+ * @param <E> тип элементов в листе.
+ * @author Серова Дарья
+ * @version 1.0
+ * @see CustomList
+ * @since 2023-08-15
+ */
+
+public class ChunkedCustomList<E> implements CustomList<E> {
+
+    /**
+     * Количество элементов в блоке по умолчанию.
+     */
+    private static final int DEFAULT_CHUNK_CAPACITY = 1 << 12;
+
+    /**
+     * Начальная емкость каталога блоков.
+     */
+    private static final int DEFAULT_DIRECTORY_CAPACITY = 8;
+
+    private final int chunkShift;
+
+    private final int chunkMask;
+
+    private Object[][] chunks;
+
+    /**
+     * Количество выделенных блоков.
+     */
+    private int chunkCount;
+
+    private int size;
+
+    /**
+     * Создает пустой список с емкостью блока 4096 элементов.
+     */
+    public ChunkedCustomList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * Создает пустой список с заданной емкостью блока.
+     *
+     * @param chunkCapacity количество элементов в одном блоке, степень двойки.
+     * @throws IllegalArgumentException если емкость блока не является положительной степенью двойки.
+     */
+    public ChunkedCustomList(int chunkCapacity) {
+        if (chunkCapacity <= 0 || Integer.bitCount(chunkCapacity) != 1) {
+            throw new IllegalArgumentException("Chunk capacity must be a positive power of two!");
+        }
+        this.chunkShift = Integer.numberOfTrailingZeros(chunkCapacity);
+        this.chunkMask = chunkCapacity - 1;
+        this.chunks = new Object[DEFAULT_DIRECTORY_CAPACITY][];
+    }
+
+    /**
+     * Добавляет передаваемый элемент в конец списка.
+     *
+     * @param element элемент, который нужно добавить в список.
+     * @return {@code true} - элемент успешно добавлен.
+     */
+    @Override
+    public boolean add(E element) {
+        ensureChunkForNext();
+        chunks[size >>> chunkShift][size & chunkMask] = element;
+        size++;
+        return true;
+    }
+
+    /**
+     * Вставляет передаваемый элемент в список в указанную позицию.
+     * Сдвигает вправо элемент, находящийся в этой позиции, и все последующие элементы.
+     *
+     * @param index   позиция для вставки.
+     * @param element элемент, который должен быть вставлен.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index > size || index < 0)}.
+     */
+    @Override
+    public void add(int index, E element) {
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be greater than the current array size = " + size
+                    + " or less than 0!");
+        }
+        ensureChunkForNext();
+        int lastChunk = size >>> chunkShift;
+        int chunkCapacity = chunkMask + 1;
+        Object carry = element;
+        for (int k = index >>> chunkShift; k <= lastChunk; k++) {
+            Object[] chunk = chunks[k];
+            int start = k == index >>> chunkShift ? index & chunkMask : 0;
+            if (k < lastChunk) {
+                Object next = chunk[chunkMask];
+                System.arraycopy(chunk, start, chunk, start + 1, chunkCapacity - 1 - start);
+                chunk[start] = carry;
+                carry = next;
+            } else {
+                System.arraycopy(chunk, start, chunk, start + 1, (size & chunkMask) - start);
+                chunk[start] = carry;
+            }
+        }
+        size++;
+    }
+
+    /**
+     * Возвращает элемент в указанной позиции списка.
+     *
+     * @param index позиция искомого элемента в списке.
+     * @return элемент в указанной позиции.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        return (E) chunks[index >>> chunkShift][index & chunkMask];
+    }
+
+    /**
+     * Заменяет элемент в указанной позиции в списке передаваемым элементом.
+     *
+     * @param index   позиция замещаемого элемента.
+     * @param element элемент, который будет сохранен в указанную позицию.
+     * @return элемент, ранее находившийся в указанном положении.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    @Override
+    public E set(int index, E element) {
+        checkIndex(index);
+        Object[] chunk = chunks[index >>> chunkShift];
+        E oldValue = (E) chunk[index & chunkMask];
+        chunk[index & chunkMask] = element;
+        return oldValue;
+    }
+
+    /**
+     * Удаляет элемент в списке из указанной позиции.
+     * Сдвигает влево все последующие элементы.
+     *
+     * @param index позиция удаляемого элемента.
+     * @return элемент, который был удален из списка.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+        int last = size - 1;
+        int lastChunk = last >>> chunkShift;
+        E oldValue = (E) chunks[index >>> chunkShift][index & chunkMask];
+        for (int k = index >>> chunkShift; k <= lastChunk; k++) {
+            Object[] chunk = chunks[k];
+            int start = k == index >>> chunkShift ? index & chunkMask : 0;
+            int end = k < lastChunk ? chunkMask : last & chunkMask;
+            System.arraycopy(chunk, start + 1, chunk, start, end - start);
+            chunk[end] = k < lastChunk ? chunks[k + 1][0] : null;
+        }
+        size = last;
+        return oldValue;
+    }
+
+    /**
+     * Удаляет из списка элементы в диапазоне {@code [fromIndex, toIndex)} за один проход по хвосту списка.
+     *
+     * @param fromIndex позиция первого удаляемого элемента.
+     * @param toIndex   позиция после последнего удаляемого элемента.
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы списка.
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex
+                    + ") is out of bounds for size = " + size);
+        }
+        int removed = toIndex - fromIndex;
+        for (int i = toIndex; i < size; i++) {
+            chunks[(i - removed) >>> chunkShift][(i - removed) & chunkMask] = chunks[i >>> chunkShift][i & chunkMask];
+        }
+        for (int i = size - removed; i < size; i++) {
+            chunks[i >>> chunkShift][i & chunkMask] = null;
+        }
+        size -= removed;
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return возвращает количество элементов в списке.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Удаляет все элементы из этого списка и освобождает все блоки.
+     * Список будет пустым.
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < chunkCount; i++) {
+            chunks[i] = null;
+        }
+        chunkCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Возвращает количество элементов, которое список вмещает без выделения нового блока.
+     *
+     * @return суммарная емкость выделенных блоков.
+     */
+    public long capacity() {
+        return (long) chunkCount << chunkShift;
+    }
+
+    /**
+     * Выделяет блок для элемента с позицией {@code size}, если он еще не выделен.
+     * При заполнении каталога копируются только ссылки на блоки.
+     */
+    private void ensureChunkForNext() {
+        if (size == Integer.MAX_VALUE) {
+            throw new OutOfMemoryError("Required array size is too large");
+        }
+        int chunkIndex = size >>> chunkShift;
+        if (chunkIndex < chunkCount) {
+            return;
+        }
+        if (chunkCount == chunks.length) {
+            Object[][] directory = new Object[chunks.length * 2][];
+            System.arraycopy(chunks, 0, directory, 0, chunkCount);
+            chunks = directory;
+        }
+        chunks[chunkCount++] = new Object[chunkMask + 1];
+    }
+
+    private void checkIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be greater than the current array size = " + size
+                    + " or less than 0!");
+        }
+    }
+
+}
@@ -0,0 +1,259 @@
+package ru.aston;
+
+/**
+ * {@code CircularCustomList} реализация интерфейса {@link CustomList} на кольцевом буфере.
+ *
+ * <p>Элементы хранятся во внутреннем массиве начиная с позиции {@code head}, при достижении конца массива
+ * продолжаются с его начала. Емкость массива всегда равна степени двойки, поэтому позиция элемента
+ * вычисляется маской: {@code (head + index) & (capacity - 1)}.
+ *
+ * <p>Добавление и удаление в начале и в конце списка выполняются за {@code O(1)}: для вставки в начало
+ * сдвигается только {@code head}. При вставке и удалении в середине сдвигается меньшая из двух частей списка,
+ * то есть не более {@code size / 2} элементов. Список не потокобезопасен.
+ *
+ * @param <E> тип элементов в листе.
+ * @author Серова Дарья
+ * @version 1.0
+ * @see CustomList
+ * @since 2023-08-15
+ */
+
+public class CircularCustomList<E> implements CustomList<E> {
+
+    /**
+     * Емкость по умолчанию.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Максимальная емкость - наибольшая степень двойки, которую можно выделить.
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private Object[] elementData;
+
+    /**
+     * Позиция первого элемента во внутреннем массиве.
+     */
+    private int head;
+
+    private int size;
+
+    /**
+     * Создает пустой список с начальной емкостью 16.
+     */
+    public CircularCustomList() {
+        this.elementData = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Создает пустой список с емкостью не меньше заданной. Емкость округляется вверх до степени двойки.
+     *
+     * @param capacity начальная емкость листа.
+     * @throws IllegalArgumentException если заданная емкость отрицательная или больше 2^30.
+     */
+    public CircularCustomList(int capacity) {
+        if (capacity < 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 0 and " + MAX_CAPACITY + "!");
+        }
+        this.elementData = new Object[Math.max(1, Integer.highestOneBit(Math.max(1, capacity - 1)) << 1)];
+    }
+
+    /**
+     * Добавляет передаваемый элемент в конец списка.
+     *
+     * @param element элемент, который нужно добавить в список.
+     * @return {@code true} - элемент успешно добавлен.
+     */
+    @Override
+    public boolean add(E element) {
+        addLast(element);
+        return true;
+    }
+
+    /**
+     * Добавляет передаваемый элемент в начало списка за {@code O(1)}.
+     *
+     * @param element элемент, который нужно добавить в список.
+     */
+    public void addFirst(E element) {
+        ensureCapacityForOneMore();
+        head = (head - 1) & mask();
+        elementData[head] = element;
+        size++;
+    }
+
+    /**
+     * Добавляет передаваемый элемент в конец списка за {@code O(1)}.
+     *
+     * @param element элемент, который нужно добавить в список.
+     */
+    public void addLast(E element) {
+        ensureCapacityForOneMore();
+        elementData[(head + size) & mask()] = element;
+        size++;
+    }
+
+    /**
+     * Вставляет передаваемый элемент в список в указанную позицию.
+     * Сдвигает меньшую из частей списка до и после позиции вставки.
+     *
+     * @param index   позиция для вставки.
+     * @param element элемент, который должен быть вставлен.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index > size || index < 0)}.
+     */
+    @Override
+    public void add(int index, E element) {
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be greater than the current array size = " + size
+                    + " or less than 0!");
+        }
+        ensureCapacityForOneMore();
+        int mask = mask();
+        if (index < size - index) {
+            head = (head - 1) & mask;
+            for (int i = 0; i < index; i++) {
+                elementData[(head + i) & mask] = elementData[(head + i + 1) & mask];
+            }
+        } else {
+            for (int i = size; i > index; i--) {
+                elementData[(head + i) & mask] = elementData[(head + i - 1) & mask];
+            }
+        }
+        elementData[(head + index) & mask] = element;
+        size++;
+    }
+
+    /**
+     * Возвращает элемент в указанной позиции списка.
+     *
+     * @param index позиция искомого элемента в списке.
+     * @return элемент в указанной позиции.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        return (E) elementData[(head + index) & mask()];
+    }
+
+    /**
+     * Заменяет элемент в указанной позиции в списке передаваемым элементом.
+     *
+     * @param index   позиция замещаемого элемента.
+     * @param element элемент, который будет сохранен в указанную позицию.
+     * @return элемент, ранее находившийся в указанном положении.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    @Override
+    public E set(int index, E element) {
+        checkIndex(index);
+        int position = (head + index) & mask();
+        E oldValue = (E) elementData[position];
+        elementData[position] = element;
+        return oldValue;
+    }
+
+    /**
+     * Удаляет элемент в списке из указанной позиции.
+     * Сдвигает меньшую из частей списка до и после удаляемого элемента.
+     *
+     * @param index позиция удаляемого элемента.
+     * @return элемент, который был удален из списка.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+        int mask = mask();
+        E oldValue = (E) elementData[(head + index) & mask];
+        if (index < size - 1 - index) {
+            for (int i = index; i > 0; i--) {
+                elementData[(head + i) & mask] = elementData[(head + i - 1) & mask];
+            }
+            elementData[head] = null;
+            head = (head + 1) & mask;
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                elementData[(head + i) & mask] = elementData[(head + i + 1) & mask];
+            }
+            elementData[(head + size - 1) & mask] = null;
+        }
+        size--;
+        return oldValue;
+    }
+
+    /**
+     * Удаляет и возвращает первый элемент списка за {@code O(1)}.
+     *
+     * @return удаленный элемент.
+     * @throws IndexOutOfBoundsException если список пуст.
+     */
+    public E removeFirst() {
+        return remove(0);
+    }
+
+    /**
+     * Удаляет и возвращает последний элемент списка за {@code O(1)}.
+     *
+     * @return удаленный элемент.
+     * @throws IndexOutOfBoundsException если список пуст.
+     */
+    public E removeLast() {
+        return remove(size - 1);
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return возвращает количество элементов в списке.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Удаляет все элементы из этого списка.
+     * Список будет пустым.
+     */
+    @Override
+    public void clear() {
+        int mask = mask();
+        for (int i = 0; i < size; i++) {
+            elementData[(head + i) & mask] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    private int mask() {
+        return elementData.length - 1;
+    }
+
+    /**
+     * Увеличивает емкость в два раза, если массив заполнен. Элементы копируются в начало нового массива.
+     */
+    private void ensureCapacityForOneMore() {
+        if (size < elementData.length) {
+            return;
+        }
+        if (elementData.length == MAX_CAPACITY) {
+            throw new IllegalStateException("List can't hold more than " + MAX_CAPACITY + " elements!");
+        }
+        Object[] array = new Object[elementData.length * 2];
+        int firstPart = Math.min(size, elementData.length - head);
+        System.arraycopy(elementData, head, array, 0, firstPart);
+        System.arraycopy(elementData, 0, array, firstPart, size - firstPart);
+        elementData = array;
+        head = 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be greater than the current array size = " + size
+                    + " or less than 0!");
+        }
+    }
+
+}
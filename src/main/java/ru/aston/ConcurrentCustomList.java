@@ -0,0 +1,263 @@
+package ru.aston;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * {@code ConcurrentCustomList} потокобезопасная реализация интерфейса {@link CustomList}
+ * для одновременного добавления элементов в конец списка из многих потоков.
+ *
+ * <p>Элементы хранятся в сегментах, емкость каждого следующего сегмента в два раза больше предыдущего
+ * (16, 32, 64, ...). Сегменты выделяются по мере необходимости и никогда не копируются.
+ * {@link #add(Object)} резервирует позицию атомарным счетчиком без блокировок, записывает элемент
+ * в сегмент и продвигает счетчик опубликованных элементов через все подряд записанные позиции.
+ * Поэтому {@link #size()} всегда равен длине непрерывного префикса полностью записанных элементов,
+ * а {@link #get(int)} для любого индекса меньше {@code size()} возвращает записанный элемент.
+ * Ни один поток не ждет другой: элемент, записанный раньше предшествующих, публикует поток,
+ * который запишет последний из них. Поэтому элемент может стать видимым в {@code size()} уже после
+ * возврата из {@code add}, когда будут записаны все предшествующие элементы.
+ *
+ * <p>{@link #get(int)} и {@link #set(int, Object)} безопасно вызывать одновременно с добавлением.
+ * Вставка и удаление в середине списка требуют сдвига элементов и не поддерживаются.
+ * {@link #clear()} не атомарен относительно одновременного добавления и должен вызываться,
+ * когда другие потоки не изменяют список.
+ *
+ * @param <E> тип элементов в листе.
+ * @author Серова Дарья
+ * @version 1.0
+ * @see CustomList
+ * @since 2023-08-15
+ */
+
+public class ConcurrentCustomList<E> implements CustomList<E> {
+
+    /**
+     * Степень двойки емкости первого сегмента.
+     */
+    private static final int FIRST_SEGMENT_SHIFT = 4;
+
+    private static final int FIRST_SEGMENT_CAPACITY = 1 << FIRST_SEGMENT_SHIFT;
+
+    /**
+     * Количество сегментов, достаточное для {@link #MAX_SIZE} элементов.
+     */
+    private static final int SEGMENT_COUNT = 32 - FIRST_SEGMENT_SHIFT;
+
+    /**
+     * Максимальное количество элементов в списке.
+     */
+    static final int MAX_SIZE = Integer.MAX_VALUE - FIRST_SEGMENT_CAPACITY;
+
+    /**
+     * Маркер записанного {@code null}: пустая ячейка сегмента означает, что элемент еще не записан.
+     */
+    private static final Object NULL = new Object();
+
+    private final AtomicReferenceArray<AtomicReferenceArray<Object>> segments =
+            new AtomicReferenceArray<>(SEGMENT_COUNT);
+
+    /**
+     * Количество зарезервированных позиций.
+     */
+    private final AtomicInteger reserved = new AtomicInteger();
+
+    /**
+     * Количество опубликованных элементов.
+     */
+    private final AtomicInteger published = new AtomicInteger();
+
+    /**
+     * Добавляет передаваемый элемент в конец списка. Не использует блокировки.
+     *
+     * @param element элемент, который нужно добавить в список.
+     * @return {@code true} - элемент успешно добавлен.
+     * @throws IllegalStateException если список уже содержит максимально возможное количество элементов.
+     */
+    @Override
+    public boolean add(E element) {
+        int index = reserved.getAndIncrement();
+        if (index < 0 || index >= MAX_SIZE) {
+            reserved.getAndDecrement();
+            throw new IllegalStateException("List can't hold more than " + MAX_SIZE + " elements!");
+        }
+
+        int position = index + FIRST_SEGMENT_CAPACITY;
+        int highBit = 31 - Integer.numberOfLeadingZeros(position);
+        segment(highBit - FIRST_SEGMENT_SHIFT).set(position ^ (1 << highBit), element == null ? NULL : element);
+        publish();
+        return true;
+    }
+
+    /**
+     * Не поддерживается: вставка в середину списка требует сдвига элементов.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public void add(int index, E element) {
+        throw new UnsupportedOperationException("ConcurrentCustomList supports only appending elements!");
+    }
+
+    /**
+     * Возвращает элемент в указанной позиции списка.
+     *
+     * @param index позиция искомого элемента в списке.
+     * @return элемент в указанной позиции.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        int position = index + FIRST_SEGMENT_CAPACITY;
+        int highBit = 31 - Integer.numberOfLeadingZeros(position);
+        return unmask(segments.get(highBit - FIRST_SEGMENT_SHIFT).get(position ^ (1 << highBit)));
+    }
+
+    /**
+     * Атомарно заменяет элемент в указанной позиции в списке передаваемым элементом.
+     *
+     * @param index   позиция замещаемого элемента.
+     * @param element элемент, который будет сохранен в указанную позицию.
+     * @return элемент, ранее находившийся в указанном положении.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    @Override
+    public E set(int index, E element) {
+        checkIndex(index);
+        int position = index + FIRST_SEGMENT_CAPACITY;
+        int highBit = 31 - Integer.numberOfLeadingZeros(position);
+        return unmask(segments.get(highBit - FIRST_SEGMENT_SHIFT)
+                .getAndSet(position ^ (1 << highBit), element == null ? NULL : element));
+    }
+
+    /**
+     * Не поддерживается: удаление из середины списка требует сдвига элементов.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public E remove(int index) {
+        throw new UnsupportedOperationException("ConcurrentCustomList supports only appending elements!");
+    }
+
+    /**
+     * Добавляет все элементы передаваемого списка в конец этого списка.
+     * Элементы добавляются по одному и могут чередоваться с элементами, добавленными другими потоками.
+     *
+     * @param list список, элементы которого нужно добавить.
+     * @return {@code true} - если список изменился.
+     */
+    @Override
+    public boolean addAll(CustomList<? extends E> list) {
+        int count = list.size();
+        for (int i = 0; i < count; i++) {
+            add(list.get(i));
+        }
+        return count > 0;
+    }
+
+    /**
+     * Не поддерживается: вставка в середину списка требует сдвига элементов.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public boolean addAll(int index, CustomList<? extends E> list) {
+        throw new UnsupportedOperationException("ConcurrentCustomList supports only appending elements!");
+    }
+
+    /**
+     * Не поддерживается: удаление из середины списка требует сдвига элементов.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        throw new UnsupportedOperationException("ConcurrentCustomList supports only appending elements!");
+    }
+
+    /**
+     * Не поддерживается: удаление из середины списка требует сдвига элементов.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException("ConcurrentCustomList supports only appending elements!");
+    }
+
+    /**
+     * Возвращает количество опубликованных элементов в списке.
+     *
+     * @return возвращает количество элементов в списке.
+     */
+    @Override
+    public int size() {
+        return published.get();
+    }
+
+    /**
+     * Удаляет все элементы из этого списка, освобождая сегменты.
+     * Не должен вызываться одновременно с добавлением элементов.
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments.set(i, null);
+        }
+        published.set(0);
+        reserved.set(0);
+    }
+
+    /**
+     * Возвращает сегмент, выделяя его, если другой поток еще этого не сделал.
+     */
+    private AtomicReferenceArray<Object> segment(int segmentIndex) {
+        AtomicReferenceArray<Object> segment = segments.get(segmentIndex);
+        if (segment != null) {
+            return segment;
+        }
+        AtomicReferenceArray<Object> newSegment = new AtomicReferenceArray<>(FIRST_SEGMENT_CAPACITY << segmentIndex);
+        if (segments.compareAndSet(segmentIndex, null, newSegment)) {
+            return newSegment;
+        }
+        return segments.get(segmentIndex);
+    }
+
+    /**
+     * Продвигает счетчик опубликованных элементов через все подряд записанные позиции.
+     * Вызывается каждым потоком после записи своего элемента: поток, записавший самую раннюю из ожидающих
+     * позиций, публикует и все записанные после нее, поэтому ни один поток не ждет другой.
+     */
+    private void publish() {
+        int next = published.get();
+        while (next < MAX_SIZE) {
+            int position = next + FIRST_SEGMENT_CAPACITY;
+            int highBit = 31 - Integer.numberOfLeadingZeros(position);
+            AtomicReferenceArray<Object> segment = segments.get(highBit - FIRST_SEGMENT_SHIFT);
+            if (segment == null || segment.get(position ^ (1 << highBit)) == null) {
+                return;
+            }
+            if (published.compareAndSet(next, next + 1)) {
+                next++;
+            } else {
+                next = published.get();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private E unmask(Object value) {
+        return value == NULL ? null : (E) value;
+    }
+
+    private void checkIndex(int index) {
+        int size = published.get();
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be greater than the current array size = " + size
+                    + " or less than 0!");
+        }
+    }
+
+}
@@ -0,0 +1,335 @@
+package ru.aston;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * {@code CopyOnWriteCustomList} потокобезопасная реализация интерфейса {@link CustomList}
+ * для данных, которые постоянно читаются и редко изменяются.
+ *
+ * <p>Элементы хранятся в неизменяемом массиве, ссылка на который опубликована через {@code volatile} поле.
+ * {@link #get(int)} и {@link #size()} выполняют одно {@code volatile} чтение и не используют блокировки.
+ * Каждое изменение копирует массив и публикует новую копию. Изменения выполняются под блокировкой
+ * по очереди, чтобы одновременные изменения не потерялись.
+ *
+ * <p>Несколько изменений можно объединить в одну публикацию методом {@link #update(Consumer)}: читатели увидят
+ * либо состояние до всех изменений пакета, либо после всех. {@link #snapshot()} возвращает неизменяемый
+ * снимок текущего состояния без копирования элементов. Итераторы, {@link #spliterator()} и {@link #forEach(Consumer)}
+ * обходят один снимок, прочитанный при их создании.
+ *
+ * @param <E> тип элементов в листе.
+ * @author Серова Дарья
+ * @version 1.0
+ * @see CustomList
+ * @since 2023-08-15
+ */
+
+public class CopyOnWriteCustomList<E> implements CustomList<E> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private final Object lock = new Object();
+
+    /**
+     * Текущий массив элементов. Опубликованный массив никогда не изменяется.
+     */
+    private volatile Object[] array = EMPTY;
+
+    /**
+     * Добавляет передаваемый элемент в конец списка, копируя массив.
+     *
+     * @param element элемент, который нужно добавить в список.
+     * @return {@code true} - элемент успешно добавлен.
+     */
+    @Override
+    public boolean add(E element) {
+        synchronized (lock) {
+            Object[] current = array;
+            Object[] newArray = new Object[current.length + 1];
+            System.arraycopy(current, 0, newArray, 0, current.length);
+            newArray[current.length] = element;
+            array = newArray;
+            return true;
+        }
+    }
+
+    /**
+     * Вставляет передаваемый элемент в список в указанную позицию, копируя массив.
+     *
+     * @param index   позиция для вставки.
+     * @param element элемент, который должен быть вставлен.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index > size || index < 0)}.
+     */
+    @Override
+    public void add(int index, E element) {
+        synchronized (lock) {
+            Object[] current = array;
+            if (index > current.length || index < 0) {
+                throw new IndexOutOfBoundsException("Index cannot be greater than the current array size = "
+                        + current.length + " or less than 0!");
+            }
+            Object[] newArray = new Object[current.length + 1];
+            System.arraycopy(current, 0, newArray, 0, index);
+            newArray[index] = element;
+            System.arraycopy(current, index, newArray, index + 1, current.length - index);
+            array = newArray;
+        }
+    }
+
+    /**
+     * Возвращает элемент в указанной позиции списка без блокировок.
+     *
+     * @param index позиция искомого элемента в списке.
+     * @return элемент в указанной позиции.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    @Override
+    public E get(int index) {
+        return elementAt(array, index);
+    }
+
+    /**
+     * Заменяет элемент в указанной позиции в списке передаваемым элементом, копируя массив.
+     *
+     * @param index   позиция замещаемого элемента.
+     * @param element элемент, который будет сохранен в указанную позицию.
+     * @return элемент, ранее находившийся в указанном положении.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    @Override
+    public E set(int index, E element) {
+        synchronized (lock) {
+            Object[] current = array;
+            E oldValue = elementAt(current, index);
+            Object[] newArray = current.clone();
+            newArray[index] = element;
+            array = newArray;
+            return oldValue;
+        }
+    }
+
+    /**
+     * Удаляет элемент в списке из указанной позиции, копируя массив.
+     *
+     * @param index позиция удаляемого элемента.
+     * @return элемент, который был удален из списка.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    @Override
+    public E remove(int index) {
+        synchronized (lock) {
+            Object[] current = array;
+            E oldValue = elementAt(current, index);
+            Object[] newArray = new Object[current.length - 1];
+            System.arraycopy(current, 0, newArray, 0, index);
+            System.arraycopy(current, index + 1, newArray, index, current.length - 1 - index);
+            array = newArray;
+            return oldValue;
+        }
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return возвращает количество элементов в списке.
+     */
+    @Override
+    public int size() {
+        return array.length;
+    }
+
+    /**
+     * Удаляет все элементы из этого списка.
+     */
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            array = EMPTY;
+        }
+    }
+
+    /**
+     * Вставляет все элементы передаваемого списка в указанную позицию одной публикацией.
+     *
+     * @param index позиция для вставки первого элемента.
+     * @param list  список, элементы которого нужно вставить.
+     * @return {@code true} - если список изменился.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index > size || index < 0)}.
+     */
+    @Override
+    public boolean addAll(int index, CustomList<? extends E> list) {
+        boolean[] changed = new boolean[1];
+        update(copy -> changed[0] = copy.addAll(index, list));
+        return changed[0];
+    }
+
+    /**
+     * Добавляет все элементы передаваемого массива в конец списка одной публикацией.
+     *
+     * @param elements массив элементов, которые нужно добавить.
+     * @return {@code true} - если список изменился.
+     */
+    @Override
+    public boolean addAll(E[] elements) {
+        boolean[] changed = new boolean[1];
+        update(copy -> changed[0] = copy.addAll(elements));
+        return changed[0];
+    }
+
+    /**
+     * Удаляет из списка элементы с позициями от {@code fromIndex} включительно до {@code toIndex} не включительно
+     * одной публикацией.
+     *
+     * @param fromIndex позиция первого удаляемого элемента.
+     * @param toIndex   позиция, следующая за последним удаляемым элементом.
+     * @throws IndexOutOfBoundsException если {@code (fromIndex < 0 || toIndex > size || fromIndex > toIndex)}.
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        update(copy -> copy.removeRange(fromIndex, toIndex));
+    }
+
+    /**
+     * Удаляет из списка все элементы, удовлетворяющие условию, одной публикацией.
+     * Если условие бросает исключение, список не изменяется.
+     *
+     * @param filter условие удаления.
+     * @return {@code true} - если был удален хотя бы один элемент.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        boolean[] changed = new boolean[1];
+        update(copy -> changed[0] = copy.removeIf(filter));
+        return changed[0];
+    }
+
+    /**
+     * Выполняет несколько изменений и публикует их одним новым массивом.
+     * {@code updates} получает изменяемую копию списка; пока он выполняется, другие изменения ждут,
+     * а читатели видят прежнее состояние. Если {@code updates} бросает исключение, ничего не публикуется.
+     * Массив копируется один раз; если емкость копии равна ее размеру, публикуется внутренний массив копии, поэтому
+     * копию нельзя использовать после возврата из {@code updates}.
+     *
+     * @param updates изменения, применяемые к копии списка.
+     */
+    public void update(Consumer<? super CustomList<E>> updates) {
+        synchronized (lock) {
+            Object[] current = array;
+            CustomArrayList<E> copy = new CustomArrayList<>(Arrays.copyOf(current, current.length));
+            updates.accept(copy);
+            Object[] newArray = copy.elementData();
+            int size = copy.size();
+            if (size == 0) {
+                array = EMPTY;
+            } else {
+                array = size == newArray.length ? newArray : Arrays.copyOf(newArray, size);
+            }
+        }
+    }
+
+    /**
+     * Возвращает итератор по снимку текущего состояния списка. Обход не видит изменений, опубликованных
+     * после вызова, и не бросает {@link java.util.ConcurrentModificationException}.
+     * Метод {@link Iterator#remove()} не поддерживается.
+     *
+     * @return итератор по элементам снимка.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Snapshot<E>(array).iterator();
+    }
+
+    /**
+     * Возвращает {@link Spliterator} по снимку текущего состояния списка.
+     *
+     * @return {@code Spliterator} по элементам снимка с характеристиками {@link Spliterator#ORDERED},
+     * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} и {@link Spliterator#IMMUTABLE}.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return (Spliterator<E>) Spliterators.spliterator(array, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Выполняет действие для каждого элемента снимка текущего состояния списка.
+     *
+     * @param action действие для каждого элемента.
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        for (Object element : array) {
+            action.accept((E) element);
+        }
+    }
+
+    /**
+     * Возвращает неизменяемый снимок текущего состояния списка. Снимок не копирует элементы
+     * и не меняется при последующих изменениях списка.
+     *
+     * @return неизменяемый лист; его методы изменения бросают {@link UnsupportedOperationException}.
+     */
+    public CustomList<E> snapshot() {
+        return new Snapshot<>(array);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E elementAt(Object[] array, int index) {
+        if (index >= array.length || index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be greater than the current array size = "
+                    + array.length + " or less than 0!");
+        }
+        return (E) array[index];
+    }
+
+    /**
+     * Неизменяемый снимок массива элементов.
+     */
+    private static final class Snapshot<E> implements CustomList<E> {
+
+        private final Object[] array;
+
+        Snapshot(Object[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public boolean add(E e) {
+            throw new UnsupportedOperationException("Snapshot is immutable!");
+        }
+
+        @Override
+        public void add(int index, E element) {
+            throw new UnsupportedOperationException("Snapshot is immutable!");
+        }
+
+        @Override
+        public E get(int index) {
+            return elementAt(array, index);
+        }
+
+        @Override
+        public E set(int index, E element) {
+            throw new UnsupportedOperationException("Snapshot is immutable!");
+        }
+
+        @Override
+        public E remove(int index) {
+            throw new UnsupportedOperationException("Snapshot is immutable!");
+        }
+
+        @Override
+        public int size() {
+            return array.length;
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException("Snapshot is immutable!");
+        }
+    }
+
+}
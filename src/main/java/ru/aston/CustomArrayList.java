@@ -1,5 +1,29 @@
 package ru.aston;
 
+import ru.aston.codec.CustomListSerializer;
+import ru.aston.codec.StreamCodec;
+import ru.aston.metrics.ListMetrics;
+import ru.aston.util.IntroSortUtil;
+import ru.aston.util.MergeSortUtil;
+import ru.aston.util.QuickSortUtil;
+import ru.aston.util.SelectionUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
 /**
  * {@code CustomArrayList} реализация интерфейса {@link CustomList}.
  * Реализует все его методы, а также управляет размером массива, используемого для хранения элементов
@@ -7,7 +31,9 @@ package ru.aston;
  *
  * <p>Каждый экземпляр {@code CustomArrayList} имеет емкость (<i>capacity</i>). По умолчанию размер емкости 10.
  * При добавлении большего количества элементов, чем емкость {@code CustomArrayList}, она увеличивается автоматически.
- * <p>Есть возможность при создании экземпляра {@code CustomArrayList} задать свой размер емкости.
+ * <p>Есть возможность при создании экземпляра {@code CustomArrayList} задать свой размер емкости и правило
+ * ее увеличения {@link GrowthPolicy}. Емкость можно заранее увеличить методом {@link #ensureCapacity(int)}
+ * и уменьшить до количества элементов методом {@link #trimToSize()}.
  *
  * @param <E> тип элементов в листе.
  * @author Серова Дарья
@@ -33,11 +59,33 @@ public class CustomArrayList<E> implements CustomList<E> {
      */
     private int size;
 
+    /**
+     * Правило увеличения емкости.
+     */
+    private final GrowthPolicy growthPolicy;
+
+    /**
+     * Количество структурных изменений (изменений размера) списка. Используется итераторами
+     * для обнаружения изменения списка во время обхода.
+     */
+    private int modCount;
+
+    /**
+     * Метрики списка или {@code null}, если метрики не включены.
+     */
+    private ListMetrics metrics;
+
+    /**
+     * Доля заполненности, ниже которой емкость уменьшается после удаления, или {@code 0}, если автоматическое
+     * уменьшение емкости выключено.
+     */
+    private double shrinkRatio;
+
     /**
      * Создает пустой список с начальной емкостью 10.
      */
     public CustomArrayList() {
-        this.elementData = new Object[DEFAULT_CAPACITY];
+        this(DEFAULT_CAPACITY, GrowthPolicy.DEFAULT);
     }
 
     /**
@@ -47,11 +95,48 @@ public class CustomArrayList<E> implements CustomList<E> {
      * @throws IllegalArgumentException если заданная емкость отрицательная.
      */
     public CustomArrayList(int capacity) {
+        this(capacity, GrowthPolicy.DEFAULT);
+    }
+
+    /**
+     * Создает пустой список с начальной емкостью 10 и заданным правилом увеличения емкости.
+     *
+     * @param growthPolicy правило увеличения емкости.
+     */
+    public CustomArrayList(GrowthPolicy growthPolicy) {
+        this(DEFAULT_CAPACITY, growthPolicy);
+    }
+
+    /**
+     * Создает пустой список с заданной емкостью и правилом увеличения емкости.
+     *
+     * @param capacity     начальная емкость листа.
+     * @param growthPolicy правило увеличения емкости.
+     * @throws IllegalArgumentException если заданная емкость отрицательная.
+     * @throws NullPointerException     если {@code growthPolicy == null}.
+     */
+    public CustomArrayList(int capacity, GrowthPolicy growthPolicy) {
         if (capacity >= 0) {
             this.elementData = new Object[capacity];
         } else {
             throw new IllegalArgumentException("Capacity can't be less than 0!");
         }
+        if (growthPolicy == null) {
+            throw new NullPointerException("Growth policy can't be null!");
+        }
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Создает список поверх передаваемого массива без копирования: массив становится внутренним массивом списка,
+     * а все его элементы - элементами списка.
+     *
+     * @param elementData массив элементов.
+     */
+    CustomArrayList(Object[] elementData) {
+        this.elementData = elementData;
+        this.size = elementData.length;
+        this.growthPolicy = GrowthPolicy.DEFAULT;
     }
 
     /**
@@ -69,6 +154,8 @@ public class CustomArrayList<E> implements CustomList<E> {
         }
         elementData[size] = element;
         size++;
+        modCount++;
+        recordUpdate(1, 0, 0);
 
         return true;
     }
@@ -91,17 +178,14 @@ public class CustomArrayList<E> implements CustomList<E> {
         }
 
         if (size == this.elementData.length) {
-            Object[] newArray = incrementCapacity();
-            System.arraycopy(newArray, index, newArray, index + 1, size - index);
-            newArray[index] = element;
-            elementData = newArray;
-            size++;
-            return;
+            elementData = incrementCapacity();
         }
 
         System.arraycopy(elementData, index, elementData, index + 1, size - index);
         elementData[index] = element;
         size++;
+        modCount++;
+        recordUpdate(1, 0, size - 1 - index);
     }
 
     /**
@@ -148,16 +232,18 @@ public class CustomArrayList<E> implements CustomList<E> {
      */
     @Override
     public E remove(int index) {
-        E oldElement = (E) elementData[index];
-
         if (index >= size || index < 0) {
             throw new IndexOutOfBoundsException("Element can't be found! "
                     + "Number of elements in array = " + size
                     + ". Total size of array = " + elementData.length);
         }
+        E oldElement = (E) elementData[index];
 
         System.arraycopy(elementData, index + 1, elementData, index, size - 1 - index);
-        size--;
+        elementData[--size] = null;
+        modCount++;
+        shrinkIfSparse();
+        recordUpdate(0, 1, size - index);
         return oldElement;
     }
 
@@ -172,32 +258,743 @@ public class CustomArrayList<E> implements CustomList<E> {
     }
 
     /**
-     * Удаляет все элементы из этого списка.
-     * Список будет пустым.
+     * Удаляет все элементы из этого списка одним заполнением внутреннего массива.
+     * Список будет пустым. Емкость сохраняется, если не включено автоматическое уменьшение емкости.
      */
     @Override
     public void clear() {
+        int removed = size;
+        Arrays.fill(elementData, 0, size, null);
+        size = 0;
+        modCount++;
+        shrinkIfSparse();
+        recordUpdate(0, removed, 0);
+    }
+
+    /**
+     * Возвращает позицию первого элемента, равного передаваемому, просматривая внутренний массив
+     * без проверки индексов.
+     *
+     * @param o искомый элемент.
+     * @return позиция первого равного элемента или {@code -1}.
+     */
+    @Override
+    public int indexOf(Object o) {
+        Object[] data = elementData;
+        if (o == null) {
+            for (int i = 0; i < size; i++) {
+                if (data[i] == null) {
+                    return i;
+                }
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                if (o.equals(data[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает позицию последнего элемента, равного передаваемому, просматривая внутренний массив
+     * без проверки индексов.
+     *
+     * @param o искомый элемент.
+     * @return позиция последнего равного элемента или {@code -1}.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        Object[] data = elementData;
+        if (o == null) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (data[i] == null) {
+                    return i;
+                }
+            }
+        } else {
+            for (int i = size - 1; i >= 0; i--) {
+                if (o.equals(data[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Вставляет все элементы передаваемого списка в указанную позицию.
+     * Емкость увеличивается не более одного раза, хвост списка сдвигается одним {@link System#arraycopy}.
+     * Если передаваемый список тоже {@code CustomArrayList}, его элементы копируются одним {@link System#arraycopy}.
+     * Элементы другого списка сначала копируются во временный массив, так как он может быть представлением
+     * этого же списка; если чтение из него бросает исключение, этот список не изменяется.
+     *
+     * @param index позиция для вставки первого элемента.
+     * @param list  список, элементы которого нужно вставить.
+     * @return {@code true} - если список изменился.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index > size || index < 0)}.
+     */
+    @Override
+    public boolean addAll(int index, CustomList<? extends E> list) {
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be greater than the current array size = " + size
+                    + " or less than 0!");
+        }
+        if (list == this) {
+            return insertArray(index, toArray(), size);
+        }
+        if (list instanceof CustomArrayList) {
+            CustomArrayList<? extends E> other = (CustomArrayList<? extends E>) list;
+            return insertArray(index, other.elementData, other.size);
+        }
+
+        int count = list.size();
+        Object[] elements = new Object[count];
+        for (int i = 0; i < count; i++) {
+            elements[i] = list.get(i);
+        }
+        return insertArray(index, elements, count);
+    }
+
+    /**
+     * Добавляет все элементы передаваемого массива в конец списка.
+     * Емкость увеличивается не более одного раза, элементы копируются одним {@link System#arraycopy}.
+     *
+     * @param elements массив элементов, которые нужно добавить.
+     * @return {@code true} - если список изменился.
+     */
+    @Override
+    public boolean addAll(E[] elements) {
+        return insertArray(size, elements, elements.length);
+    }
+
+    /**
+     * Удаляет из списка элементы с позициями от {@code fromIndex} включительно до {@code toIndex} не включительно.
+     * Хвост списка сдвигается одним {@link System#arraycopy}.
+     *
+     * @param fromIndex позиция первого удаляемого элемента.
+     * @param toIndex   позиция, следующая за последним удаляемым элементом.
+     * @throws IndexOutOfBoundsException если {@code (fromIndex < 0 || toIndex > size || fromIndex > toIndex)}.
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex
+                    + ") is out of bounds for size = " + size);
+        }
+        System.arraycopy(elementData, toIndex, elementData, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(elementData, newSize, size, null);
+        int shifted = size - toIndex;
+        size = newSize;
+        modCount++;
+        shrinkIfSparse();
+        recordUpdate(0, toIndex - fromIndex, shifted);
+    }
+
+    /**
+     * Удаляет из списка все элементы, удовлетворяющие условию, за один проход по внутреннему массиву.
+     * Если условие бросает исключение, элементы, уже признанные удаляемыми, удаляются, остальные остаются в списке.
+     *
+     * @param filter условие удаления.
+     * @return {@code true} - если был удален хотя бы один элемент.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
         int oldSize = size;
-        if (oldSize > 0) {
-            for (int i = 0; i < oldSize; i++) {
-                elementData[i] = null;
-                size--;
+        int kept = 0;
+        int read = 0;
+        try {
+            for (; read < oldSize; read++) {
+                E element = (E) elementData[read];
+                if (!filter.test(element)) {
+                    elementData[kept++] = element;
+                }
             }
+        } finally {
+            if (kept != read) {
+                System.arraycopy(elementData, read, elementData, kept, oldSize - read);
+                int newSize = kept + oldSize - read;
+                Arrays.fill(elementData, newSize, oldSize, null);
+                size = newSize;
+                modCount++;
+                shrinkIfSparse();
+                recordUpdate(0, oldSize - newSize, 0);
+            }
+        }
+        return size != oldSize;
+    }
+
+    /**
+     * Возвращает итератор по элементам списка. Итератор проверяет, что список не изменялся структурно
+     * во время обхода иначе как через {@link Iterator#remove()} этого итератора.
+     *
+     * @return итератор по элементам списка.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Выполняет действие для каждого элемента списка, обходя внутренний массив без проверки индексов.
+     *
+     * @param action действие, выполняемое для каждого элемента.
+     * @throws ConcurrentModificationException если список изменился структурно во время обхода.
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        int expectedModCount = modCount;
+        Object[] data = elementData;
+        int count = size;
+        for (int i = 0; modCount == expectedModCount && i < count; i++) {
+            action.accept((E) data[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Возвращает {@link Spliterator} с характеристиками {@link Spliterator#ORDERED}, {@link Spliterator#SIZED}
+     * и {@link Spliterator#SUBSIZED}, который делит диапазон индексов пополам. Границы диапазона
+     * фиксируются при первом обходе или делении, а не при создании.
+     *
+     * @return {@code Spliterator} по элементам списка.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new ArraySpliterator(0, -1, 0);
+    }
+
+    /**
+     * Возвращает массив, содержащий все элементы списка в том же порядке. Длина массива равна размеру списка,
+     * изменения массива не влияют на список.
+     *
+     * @return новый массив с элементами списка.
+     */
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        System.arraycopy(elementData, 0, array, 0, size);
+        return array;
+    }
+
+    /**
+     * Сортирует элементы списка в диапазоне {@code [start, end]} напрямую во внутреннем массиве,
+     * без вызовов {@link #get(int)} и {@link #set(int, Object)} на каждое сравнение и обмен.
+     * Используется {@link QuickSortUtil} как быстрый путь для {@code CustomArrayList}.
+     *
+     * @param comp  правила сортировки; если {@code null}, элементы сортируются согласно Comparable.
+     * @param start нижняя граница сортируемого диапазона.
+     * @param end   верхняя граница сортируемого диапазона (включительно).
+     * @throws IndexOutOfBoundsException если диапазон выходит за пределы списка {@code (start < 0 || end >= size)}.
+     * @throws ClassCastException        если {@code comp == null} и элементы не реализуют Comparable.
+     */
+    public void sort(Comparator<? super E> comp, int start, int end) {
+        if (start >= end) {
+            return;
+        }
+        checkSortRange(start, end);
+        long startTime = sortStartTime();
+
+        if (comp == null) {
+            QuickSortUtil.quickSort(elementData, start, end);
+        } else {
+            QuickSortUtil.quickSort((E[]) elementData, comp, start, end);
+        }
+        recordSort(start, end, startTime);
+    }
+
+    /**
+     * Устойчиво сортирует элементы списка в диапазоне {@code [start, end]} напрямую во внутреннем массиве
+     * адаптивной сортировкой слиянием. Равные элементы сохраняют взаимный порядок.
+     * Используется {@link MergeSortUtil} как быстрый путь для {@code CustomArrayList}.
+     *
+     * @param comp  правила сортировки; если {@code null}, элементы сортируются согласно Comparable.
+     * @param start нижняя граница сортируемого диапазона.
+     * @param end   верхняя граница сортируемого диапазона (включительно).
+     * @throws IndexOutOfBoundsException если диапазон выходит за пределы списка {@code (start < 0 || end >= size)}.
+     * @throws ClassCastException        если {@code comp == null} и элементы не реализуют Comparable.
+     */
+    public void stableSort(Comparator<? super E> comp, int start, int end) {
+        if (start >= end) {
+            return;
+        }
+        checkSortRange(start, end);
+        long startTime = sortStartTime();
+
+        if (comp == null) {
+            MergeSortUtil.sort(elementData, start, end);
+        } else {
+            MergeSortUtil.sort((E[]) elementData, comp, start, end);
+        }
+        recordSort(start, end, startTime);
+    }
+
+    /**
+     * Переставляет элементы списка напрямую во внутреннем массиве так, что в позиции {@code k} оказывается
+     * элемент, который стоял бы там после сортировки. Используется {@link SelectionUtil} как быстрый путь
+     * для {@code CustomArrayList}.
+     *
+     * @param comp правила сортировки; если {@code null}, элементы сравниваются согласно Comparable.
+     * @param k    позиция искомого элемента в отсортированном порядке, начиная с 0.
+     * @return k-й по порядку элемент.
+     * @throws IndexOutOfBoundsException если {@code (k < 0 || k >= size)}.
+     */
+    public E select(Comparator<? super E> comp, int k) {
+        if (k < 0 || k >= size) {
+            throw new IndexOutOfBoundsException("k = " + k + " is out of bounds for size = " + size);
+        }
+        if (comp == null) {
+            return (E) SelectionUtil.select(elementData, 0, size - 1, k);
+        }
+        return SelectionUtil.select((E[]) elementData, comp, 0, size - 1, k);
+    }
+
+    /**
+     * Ставит в первые {@code k} позиций списка {@code k} наименьших элементов в отсортированном порядке,
+     * работая напрямую во внутреннем массиве. Используется {@link SelectionUtil} как быстрый путь
+     * для {@code CustomArrayList}.
+     *
+     * @param comp правила сортировки; если {@code null}, элементы сравниваются согласно Comparable.
+     * @param k    количество сортируемых первых позиций.
+     * @throws IndexOutOfBoundsException если {@code (k < 0 || k > size)}.
+     */
+    public void partialSort(Comparator<? super E> comp, int k) {
+        if (k < 0 || k > size) {
+            throw new IndexOutOfBoundsException("k = " + k + " is out of bounds for size = " + size);
+        }
+        if (comp == null) {
+            SelectionUtil.partialSort(elementData, 0, size - 1, k);
+        } else {
+            SelectionUtil.partialSort((E[]) elementData, comp, 0, size - 1, k);
+        }
+    }
+
+    /**
+     * Параллельно сортирует элементы списка в диапазоне {@code [start, end]} напрямую во внутреннем массиве.
+     * Используется {@link QuickSortUtil} как быстрый путь параллельной сортировки для {@code CustomArrayList}.
+     * Список не должен изменяться другими потоками во время сортировки.
+     *
+     * @param comp      правила сортировки; если {@code null}, элементы сортируются согласно Comparable.
+     * @param start     нижняя граница сортируемого диапазона.
+     * @param end       верхняя граница сортируемого диапазона (включительно).
+     * @param pool      пул, в котором выполняется сортировка.
+     * @param threshold длина диапазона, начиная с которой части сортируются последовательно.
+     * @throws IndexOutOfBoundsException если диапазон выходит за пределы списка {@code (start < 0 || end >= size)}.
+     * @throws IllegalArgumentException  если {@code threshold < 1}.
+     * @throws ClassCastException        если {@code comp == null} и элементы не реализуют Comparable.
+     */
+    public void parallelSort(Comparator<? super E> comp, int start, int end, ForkJoinPool pool, int threshold) {
+        if (start < end) {
+            checkSortRange(start, end);
+        }
+        long startTime = sortStartTime();
+
+        if (comp == null) {
+            IntroSortUtil.parallelSort(elementData, start, end, pool, threshold);
+        } else {
+            IntroSortUtil.parallelSort((E[]) elementData, comp, start, end, pool, threshold);
+        }
+        recordSort(start, end, startTime);
+    }
+
+    /**
+     * Записывает список в поток в двоичном формате {@link CustomListSerializer}. Поток не закрывается.
+     *
+     * @param out   поток, в который записывается список.
+     * @param codec кодек элементов.
+     * @throws IOException если запись не удалась.
+     */
+    public void writeTo(OutputStream out, StreamCodec<? super E> codec) throws IOException {
+        CustomListSerializer.write(this, codec, Channels.newChannel(out));
+    }
+
+    /**
+     * Записывает список в канал в двоичном формате {@link CustomListSerializer}. Канал не закрывается.
+     *
+     * @param channel канал, в который записывается список.
+     * @param codec   кодек элементов.
+     * @throws IOException если запись не удалась.
+     */
+    public void writeTo(WritableByteChannel channel, StreamCodec<? super E> codec) throws IOException {
+        CustomListSerializer.write(this, codec, channel);
+    }
+
+    /**
+     * Читает список, записанный {@link #writeTo(OutputStream, StreamCodec)}. Емкость списка задается один раз
+     * по количеству элементов из заголовка. Из потока читаются только байты этого списка, поток не закрывается.
+     *
+     * @param in    поток, из которого читается список.
+     * @param codec кодек элементов.
+     * @param <E>   тип элементов в листе.
+     * @return прочитанный список.
+     * @throws IOException если чтение не удалось, данные повреждены или записаны другим кодеком.
+     */
+    public static <E> CustomArrayList<E> readFrom(InputStream in, StreamCodec<E> codec) throws IOException {
+        return CustomListSerializer.read(Channels.newChannel(in), codec);
+    }
+
+    /**
+     * Читает список, записанный {@link #writeTo(WritableByteChannel, StreamCodec)}. Канал не закрывается.
+     *
+     * @param channel канал, из которого читается список.
+     * @param codec   кодек элементов.
+     * @param <E>     тип элементов в листе.
+     * @return прочитанный список.
+     * @throws IOException если чтение не удалось, данные повреждены или записаны другим кодеком.
+     */
+    public static <E> CustomArrayList<E> readFrom(ReadableByteChannel channel, StreamCodec<E> codec)
+            throws IOException {
+        return CustomListSerializer.read(channel, codec);
+    }
+
+    private void checkSortRange(int start, int end) {
+        if (start < 0 || end >= size) {
+            throw new IndexOutOfBoundsException("Sort range [" + start + ", " + end + "] is out of bounds for size = "
+                    + size);
+        }
+    }
+
+    /**
+     * Увеличивает емкость списка, если это необходимо, чтобы в нем поместилось не менее {@code minCapacity}
+     * элементов без дальнейшего увеличения емкости. Новая емкость рассчитывается правилом {@link GrowthPolicy}.
+     *
+     * @param minCapacity минимальная требуемая емкость.
+     * @throws IllegalStateException если правило увеличения емкости не допускает такую емкость.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elementData.length) {
+            elementData = incrementCapacity(minCapacity);
+        }
+    }
+
+    /**
+     * Уменьшает емкость списка до количества элементов в нем.
+     */
+    public void trimToSize() {
+        if (size < elementData.length) {
+            reallocate(size);
+        }
+    }
+
+    /**
+     * Включает или выключает автоматическое уменьшение емкости. Если после удаления элементов заполненность
+     * внутреннего массива становится ниже {@code shrinkRatio}, массив заменяется меньшим, заполненным
+     * на {@code 2 * shrinkRatio}, но не меньше емкости по умолчанию. Так между уменьшением и следующим
+     * увеличением емкости остается запас, и чередование добавлений и удалений не вызывает постоянных перевыделений.
+     *
+     * @param shrinkRatio доля заполненности от {@code 0} до {@code 0.5} не включительно; {@code 0} выключает
+     *                    автоматическое уменьшение.
+     * @throws IllegalArgumentException если доля вне диапазона {@code [0, 0.5)}.
+     */
+    public void setAutoShrink(double shrinkRatio) {
+        if (!(shrinkRatio >= 0 && shrinkRatio < 0.5)) {
+            throw new IllegalArgumentException("Shrink ratio must be at least 0 and less than 0.5!");
+        }
+        this.shrinkRatio = shrinkRatio;
+        shrinkIfSparse();
+    }
+
+    /**
+     * Возвращает текущую емкость списка.
+     *
+     * @return размер внутреннего массива.
+     */
+    public int capacity() {
+        return elementData.length;
+    }
+
+    /**
+     * Возвращает внутренний массив списка без копирования.
+     */
+    Object[] elementData() {
+        return elementData;
+    }
+
+    /**
+     * Включает сбор метрик списка: изменения емкости, сдвиги элементов, заполненность внутреннего массива
+     * и время сортировок. Пока метрики не включены, операции списка их не собирают.
+     *
+     * @return метрики списка; при повторном вызове возвращаются те же метрики.
+     */
+    public ListMetrics enableMetrics() {
+        if (metrics == null) {
+            metrics = new ListMetrics();
+        }
+        return metrics;
+    }
+
+    /**
+     * Выключает сбор метрик списка. Ранее полученный объект {@link ListMetrics} сохраняет накопленные значения.
+     */
+    public void disableMetrics() {
+        metrics = null;
+    }
+
+    /**
+     * Возвращает метрики списка.
+     *
+     * @return метрики списка или {@code null}, если метрики не включены.
+     */
+    public ListMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Уменьшает емкость, если включено автоматическое уменьшение и заполненность ниже {@link #shrinkRatio}.
+     */
+    private void shrinkIfSparse() {
+        if (shrinkRatio == 0 || elementData.length <= DEFAULT_CAPACITY || size >= elementData.length * shrinkRatio) {
+            return;
+        }
+        reallocate(Math.max(DEFAULT_CAPACITY, (int) (size / (2 * shrinkRatio))));
+    }
+
+    /**
+     * Заменяет внутренний массив массивом заданной емкости, не меньшей размера списка.
+     */
+    private void reallocate(int newCapacity) {
+        if (metrics != null) {
+            metrics.recordResize(elementData.length, newCapacity, size);
         }
+        elementData = Arrays.copyOf(elementData, newCapacity);
     }
 
     /**
-     * Создает и возвращает список с емкостью на 50% + 1 больше от емкости начального списка.
-     * Копирует в созданный список элементы начального списка сохраняя порядок элементов.
+     * Создает и возвращает массив с емкостью, рассчитанной правилом {@link GrowthPolicy}, для добавления
+     * одного элемента. Копирует в созданный массив элементы списка, сохраняя их порядок.
      *
-     * @return список, содержащий элементы начального списка.
+     * @return массив, содержащий элементы списка.
      */
     private Object[] incrementCapacity() {
+        return incrementCapacity(size + 1);
+    }
 
-        int newCapacity = ((this.elementData.length * 2) + 1);
+    /**
+     * Создает и возвращает массив с емкостью, рассчитанной правилом {@link GrowthPolicy}, но не меньше
+     * {@code minCapacity}. Копирует в созданный массив элементы списка, сохраняя их порядок.
+     *
+     * @param minCapacity минимальная требуемая емкость.
+     * @return массив, содержащий элементы списка.
+     * @throws OutOfMemoryError если {@code minCapacity} больше {@link GrowthPolicy#MAX_ARRAY_SIZE}.
+     */
+    private Object[] incrementCapacity(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > GrowthPolicy.MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required array size is too large");
+        }
+        int newCapacity = Math.max(growthPolicy.newCapacity(elementData.length, minCapacity), minCapacity);
         Object[] array = new Object[newCapacity];
-        System.arraycopy(elementData, 0, array, 0, size - 1);
+        System.arraycopy(elementData, 0, array, 0, size);
+        if (metrics != null) {
+            metrics.recordResize(elementData.length, newCapacity, size);
+        }
         return array;
     }
 
+    /**
+     * Освобождает {@code count} позиций начиная с {@code index}: увеличивает емкость не более одного раза
+     * и сдвигает хвост списка одним копированием. Размер списка не изменяется.
+     */
+    private void makeRoom(int index, int count) {
+        if (size + count > elementData.length || size + count < 0) {
+            elementData = incrementCapacity(size + count);
+        }
+        System.arraycopy(elementData, index, elementData, index + count, size - index);
+        if (metrics != null) {
+            metrics.recordShift(size - index);
+        }
+    }
+
+    /**
+     * Вставляет первые {@code count} элементов массива в позицию {@code index}.
+     */
+    private boolean insertArray(int index, Object[] elements, int count) {
+        if (count == 0) {
+            return false;
+        }
+        makeRoom(index, count);
+        System.arraycopy(elements, 0, elementData, index, count);
+        size += count;
+        modCount++;
+        recordUpdate(count, 0, 0);
+        return true;
+    }
+
+    /**
+     * Учитывает в метриках добавленные, удаленные и сдвинутые элементы и заполненность массива.
+     * Вызывается после того, как операция изменила размер и внутренний массив, поэтому заполненность всегда
+     * соответствует состоянию после операции.
+     */
+    private void recordUpdate(int added, int removed, int shifted) {
+        if (metrics == null) {
+            return;
+        }
+        if (added > 0) {
+            metrics.recordAdditions(added);
+        }
+        if (removed > 0) {
+            metrics.recordRemovals(removed);
+        }
+        if (shifted > 0) {
+            metrics.recordShift(shifted);
+        }
+        metrics.recordFillRatio(size, elementData.length);
+    }
+
+    private long sortStartTime() {
+        return metrics != null ? System.nanoTime() : 0L;
+    }
+
+    private void recordSort(int start, int end, long startTime) {
+        if (metrics != null) {
+            metrics.recordSort(Math.max(0, end - start + 1), System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * Итератор по элементам списка, обнаруживающий структурные изменения списка во время обхода.
+     */
+    private final class Itr implements Iterator<E> {
+
+        private int cursor;
+
+        private int lastReturned = -1;
+
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor != size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            int i = cursor;
+            if (i >= size) {
+                throw new NoSuchElementException();
+            }
+            Object[] data = elementData;
+            if (i >= data.length) {
+                throw new ConcurrentModificationException();
+            }
+            cursor = i + 1;
+            lastReturned = i;
+            return (E) data[i];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            CustomArrayList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Object[] data = elementData;
+            int count = size;
+            int i = cursor;
+            for (; i < count && modCount == expectedModCount; i++) {
+                action.accept((E) data[i]);
+            }
+            cursor = i;
+            lastReturned = i - 1;
+            checkForComodification();
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * {@link Spliterator} по диапазону индексов {@code [index, fence)} внутреннего массива.
+     * Отрицательный {@code fence} означает, что границы еще не зафиксированы.
+     */
+    private final class ArraySpliterator implements Spliterator<E> {
+
+        private int index;
+
+        private int fence;
+
+        private int expectedModCount;
+
+        ArraySpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new ArraySpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            int hi = getFence();
+            int i = index;
+            if (i >= hi) {
+                return false;
+            }
+            index = i + 1;
+            action.accept((E) elementData[i]);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            int hi = getFence();
+            Object[] data = elementData;
+            if (hi > data.length) {
+                throw new ConcurrentModificationException();
+            }
+            for (int i = index; i < hi; i++) {
+                action.accept((E) data[i]);
+            }
+            index = hi;
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
 }
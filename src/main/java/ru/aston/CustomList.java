@@ -1,5 +1,14 @@
 package ru.aston;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Упорядоченная коллекция. Дает возможность контролировать куда в списке вставляется каждый элемент.<p>
  * Позволяет обращаться к элементам по их целочисленному индексу (позиции в списке) и
@@ -14,7 +23,7 @@ package ru.aston;
  @since 2023-08-15
  */
 
-public interface CustomList<E> {
+public interface CustomList<E> extends Iterable<E> {
 
     /**
      * Добавляет указанный элемент в конец списка.
@@ -75,4 +84,222 @@ public interface CustomList<E> {
      */
     void clear();
 
+    /**
+     * Возвращает позицию первого элемента, равного передаваемому, или {@code -1}, если такого элемента нет.
+     * Элементы сравниваются {@link Objects#equals(Object, Object)}.
+     * Реализация по умолчанию просматривает список через {@link #get(int)}.
+     * @param o искомый элемент.
+     * @return позиция первого равного элемента или {@code -1}.
+     */
+    default int indexOf(Object o) {
+        int size = size();
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(o, get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает позицию последнего элемента, равного передаваемому, или {@code -1}, если такого элемента нет.
+     * Элементы сравниваются {@link Objects#equals(Object, Object)}.
+     * @param o искомый элемент.
+     * @return позиция последнего равного элемента или {@code -1}.
+     */
+    default int lastIndexOf(Object o) {
+        for (int i = size() - 1; i >= 0; i--) {
+            if (Objects.equals(o, get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Проверяет, есть ли в списке элемент, равный передаваемому.
+     * @param o искомый элемент.
+     * @return {@code true} - если в списке есть равный элемент.
+     */
+    default boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Добавляет все элементы передаваемого списка в конец этого списка, сохраняя их порядок.
+     * @param list список, элементы которого нужно добавить.
+     * @return {@code true} - если список изменился.
+     */
+    default boolean addAll(CustomList<? extends E> list) {
+        return addAll(size(), list);
+    }
+
+    /**
+     * Вставляет все элементы передаваемого списка в указанную позицию, сохраняя их порядок.
+     * Сдвигает элемент, находящийся в данный момент в этой позиции (если таковой имеется), и все последующие элементы
+     * вправо на количество вставленных элементов.
+     * Реализация по умолчанию вставляет элементы по одному через {@link #add(int, Object)}, реализации, хранящие
+     * элементы в массиве, должны сдвигать хвост списка один раз.
+     * @param index позиция для вставки первого элемента.
+     * @param list список, элементы которого нужно вставить.
+     * @return {@code true} - если список изменился.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index < 0 || index > size)}.
+     */
+    default boolean addAll(int index, CustomList<? extends E> list) {
+        if (index > size() || index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be greater than the current array size = " + size()
+                    + " or less than 0!");
+        }
+        int count = list.size();
+        Object[] elements = new Object[count];
+        for (int i = 0; i < count; i++) {
+            elements[i] = list.get(i);
+        }
+        for (int i = 0; i < count; i++) {
+            add(index + i, (E) elements[i]);
+        }
+        return count > 0;
+    }
+
+    /**
+     * Добавляет все элементы передаваемого массива в конец этого списка, сохраняя их порядок.
+     * @param elements массив элементов, которые нужно добавить.
+     * @return {@code true} - если список изменился.
+     */
+    default boolean addAll(E[] elements) {
+        for (E element : elements) {
+            add(element);
+        }
+        return elements.length > 0;
+    }
+
+    /**
+     * Удаляет из списка элементы с позициями от {@code fromIndex} включительно до {@code toIndex} не включительно.
+     * Сдвигает последующие элементы влево на количество удаленных элементов.
+     * Реализация по умолчанию удаляет элементы по одному через {@link #remove(int)}.
+     * @param fromIndex позиция первого удаляемого элемента.
+     * @param toIndex позиция, следующая за последним удаляемым элементом.
+     * @throws IndexOutOfBoundsException если {@code (fromIndex < 0 || toIndex > size || fromIndex > toIndex)}.
+     */
+    default void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex
+                    + ") is out of bounds for size = " + size());
+        }
+        for (int i = toIndex - 1; i >= fromIndex; i--) {
+            remove(i);
+        }
+    }
+
+    /**
+     * Удаляет из списка все элементы, удовлетворяющие условию, сохраняя порядок остальных элементов.
+     * Оставшиеся элементы сдвигаются за один проход по списку, после чего хвост удаляется
+     * через {@link #removeRange(int, int)}. Если условие бросает исключение, элементы, уже признанные
+     * удаляемыми, удаляются, остальные остаются в списке.
+     * @param filter условие удаления.
+     * @return {@code true} - если был удален хотя бы один элемент.
+     */
+    default boolean removeIf(Predicate<? super E> filter) {
+        int size = size();
+        int kept = 0;
+        int read = 0;
+        try {
+            for (; read < size; read++) {
+                E element = get(read);
+                if (!filter.test(element)) {
+                    if (kept != read) {
+                        set(kept, element);
+                    }
+                    kept++;
+                }
+            }
+        } finally {
+            if (kept != read) {
+                for (int i = read; i < size; i++) {
+                    set(kept + i - read, get(i));
+                }
+                removeRange(kept + size - read, size);
+            }
+        }
+        return kept != size;
+    }
+
+    /**
+     * Возвращает итератор по элементам списка в порядке их индексов.
+     * Реализация по умолчанию обращается к элементам через {@link #get(int)} и не отслеживает изменения списка
+     * во время обхода. Метод {@link Iterator#remove()} удаляет элемент через {@link #remove(int)}.
+     * @return итератор по элементам списка.
+     */
+    @Override
+    default Iterator<E> iterator() {
+        return new Iterator<E>() {
+
+            private int cursor;
+
+            private int lastReturned = -1;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size();
+            }
+
+            @Override
+            public E next() {
+                if (cursor >= size()) {
+                    throw new NoSuchElementException();
+                }
+                lastReturned = cursor++;
+                return get(lastReturned);
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned < 0) {
+                    throw new IllegalStateException();
+                }
+                CustomList.this.remove(lastReturned);
+                cursor = lastReturned;
+                lastReturned = -1;
+            }
+        };
+    }
+
+    /**
+     * Возвращает {@link Spliterator} по элементам списка с характеристиками
+     * {@link Spliterator#ORDERED}, {@link Spliterator#SIZED} и {@link Spliterator#SUBSIZED}.
+     * Реализация по умолчанию построена на {@link #iterator()} и делится пакетами, реализации, хранящие
+     * элементы в массиве, должны делить диапазон индексов пополам.
+     * @return {@code Spliterator} по элементам списка.
+     */
+    @Override
+    default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Возвращает последовательный поток элементов списка.
+     * @return поток элементов списка.
+     */
+    default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Возвращает параллельный поток элементов списка.
+     * @return параллельный поток элементов списка.
+     */
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Возвращает ленивое представление элементов списка для цепочки преобразований,
+     * например {@code list.view().filter(..).map(..).collect()}. Все этапы выполняются за один проход по списку.
+     * @return представление элементов списка.
+     * @see ListView
+     */
+    default ListView<E> view() {
+        return ListView.of(this);
+    }
+
 }
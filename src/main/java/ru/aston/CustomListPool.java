@@ -0,0 +1,188 @@
+package ru.aston;
+
+import java.util.Objects;
+
+/**
+ * {@code CustomListPool} пул переиспользуемых экземпляров {@link CustomArrayList} для короткоживущих списков,
+ * например списков, создаваемых при обработке каждого запроса.
+ *
+ * <p>Вместо создания нового списка, который растет от емкости по умолчанию через несколько увеличений емкости,
+ * {@link #acquire(int)} возвращает ранее освобожденный пустой список вместе с его внутренним массивом,
+ * а {@link #release(CustomArrayList)} очищает список и возвращает его в пул. После прогрева обработка запроса
+ * не создает ни списков, ни массивов.
+ *
+ * <p>Списки распределены по классам размеров: список с емкостью от {@code 2^k} до {@code 2^(k+1) - 1} хранится
+ * в классе {@code k}. Запрос емкости {@code n} обслуживается из наименьшего класса, емкость которого
+ * гарантированно не меньше {@code n}, либо из большего класса. Списки с емкостью больше {@code maxCapacity}
+ * при возврате не сохраняются, чтобы один большой запрос не удерживал память навсегда. В каждом классе
+ * хранится не больше {@code maxListsPerClass} списков.
+ *
+ * <p>Свободные списки хранятся отдельно для каждого потока, поэтому получение и возврат не используют
+ * блокировок и атомарных операций. Список, возвращенный другим потоком, попадает в пул этого потока.
+ * После возврата список нельзя использовать, и один список нельзя возвращать в пул дважды.
+ *
+ * @author Серова Дарья
+ * @version 1.0
+ * @see CustomArrayList
+ * @since 2023-08-15
+ */
+
+public class CustomListPool {
+
+    /**
+     * Наименьший класс размеров: списки с емкостью меньше {@code 2^MIN_SIZE_CLASS} не сохраняются.
+     */
+    private static final int MIN_SIZE_CLASS = 4;
+
+    /**
+     * Наибольшая емкость сохраняемых списков по умолчанию.
+     */
+    private static final int DEFAULT_MAX_CAPACITY = 1 << 16;
+
+    /**
+     * Количество сохраняемых списков в каждом классе размеров по умолчанию.
+     */
+    private static final int DEFAULT_MAX_LISTS_PER_CLASS = 8;
+
+    private final int maxCapacity;
+
+    private final int maxListsPerClass;
+
+    private final ThreadLocal<Cache> caches;
+
+    /**
+     * Создает пул, сохраняющий до 8 списков в каждом классе размеров с емкостью не больше {@code 2^16}.
+     */
+    public CustomListPool() {
+        this(DEFAULT_MAX_CAPACITY, DEFAULT_MAX_LISTS_PER_CLASS);
+    }
+
+    /**
+     * Создает пул с заданными ограничениями.
+     *
+     * @param maxCapacity      наибольшая емкость списка, который сохраняется при возврате.
+     * @param maxListsPerClass наибольшее количество списков в каждом классе размеров для одного потока.
+     * @throws IllegalArgumentException если {@code maxCapacity < 16} или {@code maxListsPerClass <= 0}.
+     */
+    public CustomListPool(int maxCapacity, int maxListsPerClass) {
+        if (maxCapacity < 1 << MIN_SIZE_CLASS) {
+            throw new IllegalArgumentException("Max capacity can't be less than " + (1 << MIN_SIZE_CLASS) + "!");
+        }
+        if (maxListsPerClass <= 0) {
+            throw new IllegalArgumentException("Max lists per class must be positive!");
+        }
+        this.maxCapacity = maxCapacity;
+        this.maxListsPerClass = maxListsPerClass;
+        int classCount = sizeClassOf(maxCapacity) - MIN_SIZE_CLASS + 1;
+        this.caches = ThreadLocal.withInitial(() -> new Cache(classCount, maxListsPerClass));
+    }
+
+    /**
+     * Возвращает пустой список с емкостью не меньше 16.
+     *
+     * @param <E> тип элементов в листе.
+     * @return пустой список из пула или новый список, если подходящего в пуле нет.
+     */
+    public <E> CustomArrayList<E> acquire() {
+        return acquire(1 << MIN_SIZE_CLASS);
+    }
+
+    /**
+     * Возвращает пустой список, в котором поместится не менее {@code minCapacity} элементов
+     * без увеличения емкости.
+     *
+     * @param minCapacity минимальная требуемая емкость.
+     * @param <E>         тип элементов в листе.
+     * @return пустой список из пула или новый список, если подходящего в пуле нет.
+     * @throws IllegalArgumentException если {@code minCapacity} отрицательная.
+     */
+    @SuppressWarnings("unchecked")
+    public <E> CustomArrayList<E> acquire(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("Capacity can't be less than 0!");
+        }
+        int capacity = Math.max(minCapacity, 1 << MIN_SIZE_CLASS);
+        if (capacity <= maxCapacity) {
+            Cache cache = caches.get();
+            int sizeClass = sizeClassOf(capacity);
+            if (1 << sizeClass < capacity) {
+                sizeClass++;
+            }
+            for (int i = sizeClass - MIN_SIZE_CLASS; i < cache.lists.length; i++) {
+                if (cache.counts[i] > 0) {
+                    int count = --cache.counts[i];
+                    CustomArrayList<?> list = cache.lists[i][count];
+                    cache.lists[i][count] = null;
+                    return (CustomArrayList<E>) list;
+                }
+            }
+            if (sizeClass <= sizeClassOf(maxCapacity)) {
+                capacity = 1 << sizeClass;
+            }
+        }
+        return new CustomArrayList<>(capacity);
+    }
+
+    /**
+     * Очищает список и сохраняет его в пуле текущего потока вместе с внутренним массивом. Автоматическое
+     * уменьшение емкости и сбор метрик списка выключаются. Список с емкостью меньше 16 или больше
+     * {@code maxCapacity}, а также список, для класса размеров которого пул уже заполнен, не сохраняется.
+     *
+     * @param list возвращаемый список; после вызова его нельзя использовать.
+     * @return {@code true} - если список сохранен в пуле.
+     * @throws NullPointerException если список {@code null}.
+     */
+    public boolean release(CustomArrayList<?> list) {
+        Objects.requireNonNull(list, "List can't be null!");
+        int capacity = list.capacity();
+        if (capacity < 1 << MIN_SIZE_CLASS || capacity > maxCapacity) {
+            return false;
+        }
+        Cache cache = caches.get();
+        int index = sizeClassOf(capacity) - MIN_SIZE_CLASS;
+        if (cache.counts[index] == maxListsPerClass) {
+            return false;
+        }
+        list.setAutoShrink(0);
+        list.disableMetrics();
+        list.clear();
+        cache.lists[index][cache.counts[index]++] = list;
+        return true;
+    }
+
+    /**
+     * Возвращает количество списков, сохраненных в пуле текущего потока.
+     *
+     * @return количество свободных списков текущего потока.
+     */
+    public int pooledCount() {
+        int total = 0;
+        for (int count : caches.get().counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Возвращает класс размеров емкости: наибольшее {@code k}, для которого {@code 2^k <= capacity}.
+     */
+    private static int sizeClassOf(int capacity) {
+        return 31 - Integer.numberOfLeadingZeros(capacity);
+    }
+
+    /**
+     * Свободные списки одного потока: стек для каждого класса размеров.
+     */
+    private static final class Cache {
+
+        private final CustomArrayList<?>[][] lists;
+
+        private final int[] counts;
+
+        Cache(int classCount, int maxListsPerClass) {
+            this.lists = new CustomArrayList<?>[classCount][maxListsPerClass];
+            this.counts = new int[classCount];
+        }
+    }
+
+}
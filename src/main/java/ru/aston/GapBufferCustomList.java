@@ -0,0 +1,223 @@
+package ru.aston;
+
+/**
+ * {@code GapBufferCustomList} реализация интерфейса {@link CustomList} на буфере с разрывом (<i>gap buffer</i>).
+ *
+ * <p>Свободная емкость внутреннего массива хранится не в конце, а в виде разрыва {@code [gapStart, gapEnd)}
+ * в позиции последнего изменения. Вставка и удаление перемещают разрыв к нужной позиции, копируя только
+ * элементы между старой и новой позицией разрыва, после чего выполняются за {@code O(1)}. Поэтому серия
+ * изменений рядом с одной позицией (курсором) стоит {@code O(1)} амортизированно, а {@link #get(int)}
+ * остается {@code O(1)}. Список не потокобезопасен.
+ *
+ * @param <E> тип элементов в листе.
+ * @author Серова Дарья
+ * @version 1.0
+ * @see CustomList
+ * @since 2023-08-15
+ */
+
+public class GapBufferCustomList<E> implements CustomList<E> {
+
+    /**
+     * Емкость по умолчанию.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private Object[] elementData;
+
+    /**
+     * Позиция начала разрыва, равна количеству элементов перед разрывом.
+     */
+    private int gapStart;
+
+    /**
+     * Позиция первого элемента после разрыва.
+     */
+    private int gapEnd;
+
+    /**
+     * Создает пустой список с начальной емкостью 10.
+     */
+    public GapBufferCustomList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создает пустой список с заданной емкостью.
+     *
+     * @param capacity начальная емкость листа.
+     * @throws IllegalArgumentException если заданная емкость отрицательная.
+     */
+    public GapBufferCustomList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity can't be less than 0!");
+        }
+        this.elementData = new Object[capacity];
+        this.gapEnd = capacity;
+    }
+
+    /**
+     * Добавляет передаваемый элемент в конец списка.
+     *
+     * @param element элемент, который нужно добавить в список.
+     * @return {@code true} - элемент успешно добавлен.
+     */
+    @Override
+    public boolean add(E element) {
+        add(size(), element);
+        return true;
+    }
+
+    /**
+     * Вставляет передаваемый элемент в список в указанную позицию, предварительно переместив разрыв к ней.
+     *
+     * @param index   позиция для вставки.
+     * @param element элемент, который должен быть вставлен.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index > size || index < 0)}.
+     */
+    @Override
+    public void add(int index, E element) {
+        int size = size();
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be greater than the current array size = " + size
+                    + " or less than 0!");
+        }
+        if (gapStart == gapEnd) {
+            incrementCapacity();
+        }
+        moveGap(index);
+        elementData[gapStart++] = element;
+    }
+
+    /**
+     * Возвращает элемент в указанной позиции списка.
+     *
+     * @param index позиция искомого элемента в списке.
+     * @return элемент в указанной позиции.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        return (E) elementData[position(index)];
+    }
+
+    /**
+     * Заменяет элемент в указанной позиции в списке передаваемым элементом. Разрыв не перемещается.
+     *
+     * @param index   позиция замещаемого элемента.
+     * @param element элемент, который будет сохранен в указанную позицию.
+     * @return элемент, ранее находившийся в указанном положении.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    @Override
+    public E set(int index, E element) {
+        checkIndex(index);
+        int position = position(index);
+        E oldValue = (E) elementData[position];
+        elementData[position] = element;
+        return oldValue;
+    }
+
+    /**
+     * Удаляет элемент в списке из указанной позиции, предварительно переместив разрыв к ней.
+     *
+     * @param index позиция удаляемого элемента.
+     * @return элемент, который был удален из списка.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+        moveGap(index);
+        E oldValue = (E) elementData[gapEnd];
+        elementData[gapEnd++] = null;
+        return oldValue;
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return возвращает количество элементов в списке.
+     */
+    @Override
+    public int size() {
+        return elementData.length - (gapEnd - gapStart);
+    }
+
+    /**
+     * Удаляет все элементы из этого списка.
+     * Список будет пустым.
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < elementData.length; i++) {
+            elementData[i] = null;
+        }
+        gapStart = 0;
+        gapEnd = elementData.length;
+    }
+
+    private int position(int index) {
+        return index < gapStart ? index : index + (gapEnd - gapStart);
+    }
+
+    /**
+     * Перемещает разрыв так, чтобы он начинался с позиции {@code index},
+     * копируя элементы между старой и новой позицией разрыва.
+     */
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(elementData, index, elementData, gapEnd - count, count);
+            clearGap(index, Math.min(gapStart, gapEnd - count));
+            gapStart = index;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(elementData, gapEnd, elementData, gapStart, count);
+            clearGap(Math.max(gapEnd, gapStart + count), gapEnd + count);
+            gapStart += count;
+            gapEnd += count;
+        }
+    }
+
+    /**
+     * Очищает ссылки в позициях {@code [from, to)}, оказавшихся внутри разрыва.
+     */
+    private void clearGap(int from, int to) {
+        for (int i = from; i < to; i++) {
+            elementData[i] = null;
+        }
+    }
+
+    /**
+     * Увеличивает емкость в два раза + 1, сохраняя разрыв на прежней позиции.
+     */
+    private void incrementCapacity() {
+        int size = size();
+        long grown = (long) elementData.length * 2 + 1;
+        if (grown > GrowthPolicy.MAX_ARRAY_SIZE) {
+            if (size >= GrowthPolicy.MAX_ARRAY_SIZE) {
+                throw new OutOfMemoryError("Required array size is too large");
+            }
+            grown = GrowthPolicy.MAX_ARRAY_SIZE;
+        }
+        int newCapacity = (int) grown;
+        Object[] array = new Object[newCapacity];
+        int tail = elementData.length - gapEnd;
+        System.arraycopy(elementData, 0, array, 0, gapStart);
+        System.arraycopy(elementData, gapEnd, array, newCapacity - tail, tail);
+        elementData = array;
+        gapEnd = newCapacity - tail;
+    }
+
+    private void checkIndex(int index) {
+        int size = size();
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be greater than the current array size = " + size
+                    + " or less than 0!");
+        }
+    }
+
+}
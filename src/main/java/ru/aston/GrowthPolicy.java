@@ -0,0 +1,100 @@
+package ru.aston;
+
+/**
+ * Правило увеличения емкости {@link CustomArrayList}.
+ * Вызывается, когда для добавления элементов не хватает емкости внутреннего массива.
+ *
+ * <p>Стандартные правила:
+ * <ul>
+ *     <li>{@link #geometric(double)} - емкость умножается на коэффициент;</li>
+ *     <li>{@link #additive(int)} - емкость увеличивается на фиксированное количество элементов;</li>
+ *     <li>{@link #capped(GrowthPolicy, int)} - любое правило с ограничением максимальной емкости.</li>
+ * </ul>
+ * Емкость, возвращаемая стандартными правилами, не превышает {@link #MAX_ARRAY_SIZE}.
+ *
+ * @author Серова Дарья
+ * @version 1.0
+ * @see CustomArrayList
+ * @since 2023-08-15
+ */
+
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    /**
+     * Максимальный размер массива, который можно выделить на большинстве JVM.
+     */
+    int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * Правило по умолчанию: новая емкость равна {@code capacity * 2 + 1}.
+     */
+    GrowthPolicy DEFAULT = geometric(2.0);
+
+    /**
+     * Возвращает новую емкость массива.
+     *
+     * @param capacity    текущая емкость.
+     * @param minCapacity минимальная емкость, необходимая для добавления элементов; больше {@code capacity}.
+     * @return новая емкость. Если она меньше {@code minCapacity}, используется {@code minCapacity}.
+     * @throws IllegalStateException если правило не допускает емкость {@code minCapacity}.
+     */
+    int newCapacity(int capacity, int minCapacity);
+
+    /**
+     * Возвращает правило, умножающее емкость на коэффициент: {@code capacity * factor + 1}.
+     *
+     * @param factor коэффициент увеличения емкости, больше 1.
+     * @return правило увеличения емкости.
+     * @throws IllegalArgumentException если {@code factor <= 1}.
+     */
+    static GrowthPolicy geometric(double factor) {
+        if (!(factor > 1.0)) {
+            throw new IllegalArgumentException("Growth factor must be greater than 1!");
+        }
+        return (capacity, minCapacity) -> {
+            double grown = capacity * factor + 1;
+            int newCapacity = grown >= MAX_ARRAY_SIZE ? MAX_ARRAY_SIZE : (int) grown;
+            return Math.max(newCapacity, minCapacity);
+        };
+    }
+
+    /**
+     * Возвращает правило, увеличивающее емкость на фиксированное количество элементов.
+     *
+     * @param increment количество добавляемых элементов, больше 0.
+     * @return правило увеличения емкости.
+     * @throws IllegalArgumentException если {@code increment <= 0}.
+     */
+    static GrowthPolicy additive(int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException("Growth increment must be greater than 0!");
+        }
+        return (capacity, minCapacity) -> {
+            long grown = (long) capacity + increment;
+            int newCapacity = grown >= MAX_ARRAY_SIZE ? MAX_ARRAY_SIZE : (int) grown;
+            return Math.max(newCapacity, minCapacity);
+        };
+    }
+
+    /**
+     * Возвращает правило, ограничивающее емкость, рассчитанную другим правилом.
+     *
+     * @param policy      правило увеличения емкости.
+     * @param maxCapacity максимальная емкость, не больше {@link #MAX_ARRAY_SIZE}.
+     * @return правило увеличения емкости, которое бросает {@link IllegalStateException},
+     * если требуется емкость больше {@code maxCapacity}.
+     * @throws IllegalArgumentException если {@code maxCapacity} вне диапазона {@code [1, MAX_ARRAY_SIZE]}.
+     */
+    static GrowthPolicy capped(GrowthPolicy policy, int maxCapacity) {
+        if (maxCapacity < 1 || maxCapacity > MAX_ARRAY_SIZE) {
+            throw new IllegalArgumentException("Max capacity must be between 1 and " + MAX_ARRAY_SIZE + "!");
+        }
+        return (capacity, minCapacity) -> {
+            if (minCapacity > maxCapacity) {
+                throw new IllegalStateException("List capacity can't be greater than " + maxCapacity + "!");
+            }
+            return Math.min(policy.newCapacity(capacity, minCapacity), maxCapacity);
+        };
+    }
+}
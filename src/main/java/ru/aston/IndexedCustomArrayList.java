@@ -0,0 +1,602 @@
+package ru.aston;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * {@code IndexedCustomArrayList} реализация интерфейса {@link CustomList} на {@link CustomArrayList}
+ * с хеш-индексом для быстрых {@link #indexOf(Object)}, {@link #lastIndexOf(Object)} и {@link #contains(Object)}.
+ *
+ * <p>Индекс - хеш-таблица с открытой адресацией и линейным пробированием, которая хранит для каждого
+ * различного элемента первую и последнюю позицию, а позиции равных элементов связаны в возрастающую двусвязную
+ * цепочку массивами {@code next} и {@code prev}. Поиск выполняется за {@code O(1)} в среднем, вместо просмотра
+ * всего списка.
+ *
+ * <p>Индекс обновляется на месте за {@code O(1)} в среднем при добавлении и удалении в конце списка
+ * и при {@link #set(int, Object)}. Если {@code set} ставит элемент в середину длинной цепочки равных элементов,
+ * индекс помечается устаревшим. Вставка и удаление в середине, удаление диапазона, {@link #removeIf(Predicate)},
+ * сортировка и выбор сдвигают позиции многих элементов, поэтому после них индекс тоже помечается устаревшим
+ * и перестраивается за {@code O(n)} при следующем поиске. Пока индекс устаревший, изменения его не обновляют.
+ * Сортировки и выбор из {@link ru.aston.util} выполняются во внутреннем массиве, а не через {@code set}.
+ *
+ * <p>Элементы должны корректно реализовывать {@code equals}/{@code hashCode}, и их хеш-код не должен меняться,
+ * пока элемент находится в списке. Допускается {@code null}. Список не потокобезопасен.
+ *
+ * @param <E> тип элементов в листе.
+ * @author Серова Дарья
+ * @version 1.0
+ * @see CustomArrayList
+ * @since 2023-08-15
+ */
+
+public class IndexedCustomArrayList<E> implements CustomList<E> {
+
+    /**
+     * Минимальная емкость хеш-таблицы.
+     */
+    private static final int MIN_TABLE_CAPACITY = 16;
+
+    /**
+     * Ключ таблицы для элемента {@code null}, так как {@code null} в таблице обозначает свободную ячейку.
+     */
+    private static final Object NULL_KEY = new Object();
+
+    /**
+     * Наибольшее количество шагов по цепочке при вставке позиции в ее середину, после которого индекс
+     * помечается устаревшим, чтобы {@link #set(int, Object)} на данных с большим количеством повторов
+     * не стоил {@code O(n)}.
+     */
+    private static final int MAX_CHAIN_WALK = 8;
+
+    private final CustomArrayList<E> elements;
+
+    /**
+     * Ключи хеш-таблицы, длина - степень двойки, заполненность не больше половины.
+     */
+    private Object[] keys = new Object[MIN_TABLE_CAPACITY];
+
+    /**
+     * Первая позиция элемента для каждой ячейки таблицы.
+     */
+    private int[] first = new int[MIN_TABLE_CAPACITY];
+
+    /**
+     * Последняя позиция элемента для каждой ячейки таблицы.
+     */
+    private int[] last = new int[MIN_TABLE_CAPACITY];
+
+    /**
+     * Следующая позиция равного элемента для каждой позиции списка или {@code -1}.
+     */
+    private int[] next = new int[MIN_TABLE_CAPACITY];
+
+    /**
+     * Предыдущая позиция равного элемента для каждой позиции списка или {@code -1}.
+     */
+    private int[] prev = new int[MIN_TABLE_CAPACITY];
+
+    private int keyCount;
+
+    /**
+     * {@code true}, если индекс не соответствует списку и должен быть перестроен перед поиском.
+     */
+    private boolean stale;
+
+    /**
+     * Создает пустой список с начальной емкостью 10.
+     */
+    public IndexedCustomArrayList() {
+        this.elements = new CustomArrayList<>();
+    }
+
+    /**
+     * Создает пустой список с заданной емкостью.
+     *
+     * @param capacity начальная емкость листа.
+     * @throws IllegalArgumentException если заданная емкость отрицательная.
+     */
+    public IndexedCustomArrayList(int capacity) {
+        this.elements = new CustomArrayList<>(capacity);
+    }
+
+    /**
+     * Добавляет передаваемый элемент в конец списка и в индекс.
+     *
+     * @param element элемент, который нужно добавить в список.
+     * @return {@code true} - элемент успешно добавлен.
+     */
+    @Override
+    public boolean add(E element) {
+        elements.add(element);
+        if (!stale) {
+            indexAppended(element, elements.size() - 1);
+        }
+        return true;
+    }
+
+    /**
+     * Вставляет передаваемый элемент в список в указанную позицию.
+     * Вставка не в конец помечает индекс устаревшим.
+     *
+     * @param index   позиция для вставки.
+     * @param element элемент, который должен быть вставлен.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index > size || index < 0)}.
+     */
+    @Override
+    public void add(int index, E element) {
+        boolean append = index == elements.size();
+        elements.add(index, element);
+        if (append) {
+            if (!stale) {
+                indexAppended(element, index);
+            }
+        } else {
+            stale = true;
+        }
+    }
+
+    /**
+     * Возвращает элемент в указанной позиции списка.
+     *
+     * @param index позиция искомого элемента в списке.
+     * @return элемент в указанной позиции.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    /**
+     * Заменяет элемент в указанной позиции и переносит позицию в индексе от старого элемента к новому.
+     *
+     * @param index   позиция замещаемого элемента.
+     * @param element элемент, который будет сохранен в указанную позицию.
+     * @return элемент, ранее находившийся в указанном положении.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    @Override
+    public E set(int index, E element) {
+        E oldValue = elements.set(index, element);
+        if (!stale) {
+            unindex(oldValue, index);
+            indexInserted(element, index);
+        }
+        return oldValue;
+    }
+
+    /**
+     * Удаляет элемент в списке из указанной позиции.
+     * Удаление не из конца помечает индекс устаревшим.
+     *
+     * @param index позиция удаляемого элемента.
+     * @return элемент, который был удален из списка.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    @Override
+    public E remove(int index) {
+        boolean tail = index == elements.size() - 1;
+        E oldValue = elements.remove(index);
+        if (tail) {
+            if (!stale) {
+                unindex(oldValue, index);
+            }
+        } else {
+            stale = true;
+        }
+        return oldValue;
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return возвращает количество элементов в списке.
+     */
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Удаляет все элементы из этого списка и очищает индекс.
+     * Список будет пустым.
+     */
+    @Override
+    public void clear() {
+        elements.clear();
+        resetIndex(0);
+    }
+
+    /**
+     * Вставляет все элементы передаваемого списка в указанную позицию. Вставка в конец добавляет элементы
+     * в индекс, вставка в середину помечает индекс устаревшим.
+     *
+     * @param index позиция для вставки первого элемента.
+     * @param list  список, элементы которого нужно вставить.
+     * @return {@code true} - если список изменился.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index > size || index < 0)}.
+     */
+    @Override
+    public boolean addAll(int index, CustomList<? extends E> list) {
+        int oldSize = elements.size();
+        boolean changed = elements.addAll(index, list);
+        if (index != oldSize) {
+            stale = true;
+        } else if (!stale) {
+            for (int i = oldSize; i < elements.size(); i++) {
+                indexAppended(elements.get(i), i);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Удаляет из списка элементы с позициями от {@code fromIndex} включительно до {@code toIndex} не включительно
+     * и помечает индекс устаревшим.
+     *
+     * @param fromIndex позиция первого удаляемого элемента.
+     * @param toIndex   позиция, следующая за последним удаляемым элементом.
+     * @throws IndexOutOfBoundsException если {@code (fromIndex < 0 || toIndex > size || fromIndex > toIndex)}.
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        elements.removeRange(fromIndex, toIndex);
+        if (fromIndex != toIndex) {
+            stale = true;
+        }
+    }
+
+    /**
+     * Удаляет из списка все элементы, удовлетворяющие условию, и помечает индекс устаревшим,
+     * если был удален хотя бы один элемент.
+     *
+     * @param filter условие удаления.
+     * @return {@code true} - если был удален хотя бы один элемент.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        boolean changed;
+        try {
+            changed = elements.removeIf(filter);
+        } catch (RuntimeException | Error e) {
+            stale = true;
+            throw e;
+        }
+        if (changed) {
+            stale = true;
+        }
+        return changed;
+    }
+
+    /**
+     * Сортирует элементы списка в диапазоне {@code [start, end]} и помечает индекс устаревшим.
+     *
+     * @param comp  правила сортировки; если {@code null}, элементы сортируются согласно Comparable.
+     * @param start нижняя граница сортируемого диапазона.
+     * @param end   верхняя граница сортируемого диапазона (включительно).
+     * @throws IndexOutOfBoundsException если диапазон выходит за пределы списка {@code (start < 0 || end >= size)}.
+     */
+    public void sort(Comparator<? super E> comp, int start, int end) {
+        if (start < end) {
+            stale = true;
+        }
+        elements.sort(comp, start, end);
+    }
+
+    /**
+     * Устойчиво сортирует элементы списка в диапазоне {@code [start, end]} и помечает индекс устаревшим.
+     *
+     * @param comp  правила сортировки; если {@code null}, элементы сортируются согласно Comparable.
+     * @param start нижняя граница сортируемого диапазона.
+     * @param end   верхняя граница сортируемого диапазона (включительно).
+     * @throws IndexOutOfBoundsException если диапазон выходит за пределы списка {@code (start < 0 || end >= size)}.
+     */
+    public void stableSort(Comparator<? super E> comp, int start, int end) {
+        if (start < end) {
+            stale = true;
+        }
+        elements.stableSort(comp, start, end);
+    }
+
+    /**
+     * Переставляет элементы так, что в позиции {@code k} оказывается элемент, который стоял бы там после
+     * сортировки, и помечает индекс устаревшим.
+     *
+     * @param comp правила сортировки; если {@code null}, элементы сравниваются согласно Comparable.
+     * @param k    позиция искомого элемента в отсортированном порядке, начиная с 0.
+     * @return k-й по порядку элемент.
+     * @throws IndexOutOfBoundsException если {@code (k < 0 || k >= size)}.
+     */
+    public E select(Comparator<? super E> comp, int k) {
+        stale = true;
+        return elements.select(comp, k);
+    }
+
+    /**
+     * Ставит в первые {@code k} позиций {@code k} наименьших элементов в отсортированном порядке
+     * и помечает индекс устаревшим.
+     *
+     * @param comp правила сортировки; если {@code null}, элементы сравниваются согласно Comparable.
+     * @param k    количество сортируемых первых позиций.
+     * @throws IndexOutOfBoundsException если {@code (k < 0 || k > size)}.
+     */
+    public void partialSort(Comparator<? super E> comp, int k) {
+        stale = true;
+        elements.partialSort(comp, k);
+    }
+
+    /**
+     * Возвращает позицию первого элемента, равного передаваемому, за {@code O(1)} в среднем.
+     *
+     * @param o искомый элемент.
+     * @return позиция первого равного элемента или {@code -1}.
+     */
+    @Override
+    public int indexOf(Object o) {
+        int slot = findSlot(o);
+        return slot < 0 ? -1 : first[slot];
+    }
+
+    /**
+     * Возвращает позицию последнего элемента, равного передаваемому, за {@code O(1)} в среднем.
+     *
+     * @param o искомый элемент.
+     * @return позиция последнего равного элемента или {@code -1}.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        int slot = findSlot(o);
+        return slot < 0 ? -1 : last[slot];
+    }
+
+    /**
+     * Проверяет, есть ли в списке элемент, равный передаваемому, за {@code O(1)} в среднем.
+     *
+     * @param o искомый элемент.
+     * @return {@code true} - если в списке есть равный элемент.
+     */
+    @Override
+    public boolean contains(Object o) {
+        return findSlot(o) >= 0;
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        elements.forEach(action);
+    }
+
+    /**
+     * Возвращает ячейку таблицы с элементом {@code o} или {@code -1}, перестраивая устаревший индекс.
+     */
+    private int findSlot(Object o) {
+        if (stale) {
+            rebuild();
+        }
+        Object key = o == null ? NULL_KEY : o;
+        int mask = keys.length - 1;
+        for (int slot = hash(key) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot].equals(key)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private void rebuild() {
+        int size = elements.size();
+        resetIndex(size);
+        for (int i = 0; i < size; i++) {
+            indexAppended(elements.get(i), i);
+        }
+    }
+
+    /**
+     * Очищает индекс и выделяет таблицу, достаточную для {@code expectedSize} различных элементов.
+     */
+    private void resetIndex(int expectedSize) {
+        int capacity = tableCapacityFor(expectedSize);
+        if (capacity != keys.length) {
+            keys = new Object[capacity];
+            first = new int[capacity];
+            last = new int[capacity];
+        } else {
+            Arrays.fill(keys, null);
+        }
+        keyCount = 0;
+        stale = false;
+    }
+
+    private static int tableCapacityFor(int keyCount) {
+        long capacity = Math.max(MIN_TABLE_CAPACITY, Long.highestOneBit(Math.max(1L, (long) keyCount * 2 - 1)) << 1);
+        return (int) Math.min(capacity, 1 << 30);
+    }
+
+    /**
+     * Добавляет в индекс позицию {@code index}, которая больше всех позиций в индексе.
+     */
+    private void indexAppended(Object element, int index) {
+        ensureChainCapacity(index + 1);
+        next[index] = -1;
+        Object key = element == null ? NULL_KEY : element;
+        int slot = slotForInsert(key);
+        if (keys[slot] == null) {
+            keys[slot] = key;
+            first[slot] = index;
+            prev[index] = -1;
+            keyCount++;
+        } else {
+            next[last[slot]] = index;
+            prev[index] = last[slot];
+        }
+        last[slot] = index;
+        if (keyCount * 2 > keys.length) {
+            growTable();
+        }
+    }
+
+    /**
+     * Добавляет в индекс произвольную позицию {@code index}, сохраняя возрастающий порядок цепочки. Позиция
+     * до первой или после последней добавляется за {@code O(1)}; если место в середине цепочки не найдено
+     * за {@link #MAX_CHAIN_WALK} шагов, индекс помечается устаревшим.
+     */
+    private void indexInserted(Object element, int index) {
+        Object key = element == null ? NULL_KEY : element;
+        int slot = slotForInsert(key);
+        if (keys[slot] == null) {
+            keys[slot] = key;
+            first[slot] = index;
+            last[slot] = index;
+            next[index] = -1;
+            prev[index] = -1;
+            keyCount++;
+            if (keyCount * 2 > keys.length) {
+                growTable();
+            }
+            return;
+        }
+        if (index < first[slot]) {
+            link(-1, index, first[slot], slot);
+            return;
+        }
+        if (index > last[slot]) {
+            link(last[slot], index, -1, slot);
+            return;
+        }
+        int previous = first[slot];
+        for (int steps = 0; next[previous] < index; steps++) {
+            if (steps == MAX_CHAIN_WALK) {
+                stale = true;
+                return;
+            }
+            previous = next[previous];
+        }
+        link(previous, index, next[previous], slot);
+    }
+
+    /**
+     * Вставляет позицию {@code index} в цепочку ячейки {@code slot} между {@code previous} и {@code following},
+     * {@code -1} означает начало или конец цепочки.
+     */
+    private void link(int previous, int index, int following, int slot) {
+        prev[index] = previous;
+        next[index] = following;
+        if (previous == -1) {
+            first[slot] = index;
+        } else {
+            next[previous] = index;
+        }
+        if (following == -1) {
+            last[slot] = index;
+        } else {
+            prev[following] = index;
+        }
+    }
+
+    /**
+     * Удаляет из индекса позицию {@code index} элемента {@code element} за {@code O(1)} в среднем.
+     */
+    private void unindex(Object element, int index) {
+        Object key = element == null ? NULL_KEY : element;
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (!keys[slot].equals(key)) {
+            slot = (slot + 1) & mask;
+        }
+        if (first[slot] == index && last[slot] == index) {
+            deleteSlot(slot);
+            return;
+        }
+        int previous = prev[index];
+        int following = next[index];
+        if (previous == -1) {
+            first[slot] = following;
+        } else {
+            next[previous] = following;
+        }
+        if (following == -1) {
+            last[slot] = previous;
+        } else {
+            prev[following] = previous;
+        }
+    }
+
+    /**
+     * Возвращает ячейку с ключом {@code key} или первую свободную ячейку на пути пробирования.
+     */
+    private int slotForInsert(Object key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != null && !keys[slot].equals(key)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Освобождает ячейку, сдвигая назад следующие ключи цепочки пробирования, чтобы поиск не прерывался
+     * на освобожденной ячейке.
+     */
+    private void deleteSlot(int slot) {
+        int mask = keys.length - 1;
+        int hole = slot;
+        int current = slot;
+        while (true) {
+            current = (current + 1) & mask;
+            Object key = keys[current];
+            if (key == null) {
+                break;
+            }
+            int ideal = hash(key) & mask;
+            boolean reachable = hole <= current
+                    ? hole < ideal && ideal <= current
+                    : hole < ideal || ideal <= current;
+            if (!reachable) {
+                keys[hole] = key;
+                first[hole] = first[current];
+                last[hole] = last[current];
+                hole = current;
+            }
+        }
+        keys[hole] = null;
+        keyCount--;
+    }
+
+    private void growTable() {
+        Object[] oldKeys = keys;
+        int[] oldFirst = first;
+        int[] oldLast = last;
+        int capacity = oldKeys.length * 2;
+        keys = new Object[capacity];
+        first = new int[capacity];
+        last = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            Object key = oldKeys[i];
+            if (key != null) {
+                int slot = hash(key) & mask;
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                first[slot] = oldFirst[i];
+                last[slot] = oldLast[i];
+            }
+        }
+    }
+
+    private void ensureChainCapacity(int minCapacity) {
+        if (minCapacity > next.length) {
+            int capacity = Math.max(minCapacity, next.length * 2);
+            next = Arrays.copyOf(next, capacity);
+            prev = Arrays.copyOf(prev, capacity);
+        }
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+}
@@ -0,0 +1,213 @@
+package ru.aston;
+
+import ru.aston.metrics.ListMetrics;
+import ru.aston.util.QuickSortUtil;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * {@code InstrumentedCustomList} декоратор, собирающий {@link ListMetrics} для любой реализации {@link CustomList}.
+ *
+ * <p>Декоратор учитывает добавленные и удаленные элементы и логический сдвиг при вставке и удалении
+ * в середине - количество элементов после позиции изменения, которые сдвинула бы реализация на массиве.
+ * Если оборачиваемый список - {@link CustomArrayList}, дополнительно учитываются изменения емкости
+ * и заполненность его внутреннего массива. Метод {@link #sort(Comparator, int, int)} сортирует список
+ * через {@link QuickSortUtil} и учитывает время сортировки.
+ *
+ * <p>Декоратор не меняет поведение и потокобезопасность оборачиваемого списка. Чтобы не собирать метрики вовсе,
+ * достаточно не оборачивать список. Если у оборачиваемого {@link CustomArrayList} включены собственные метрики
+ * ({@link CustomArrayList#enableMetrics()}), изменения учитываются и списком, и декоратором, поэтому не следует
+ * передавать декоратору метрики самого списка: кроме сортировки, операции будут учтены в них дважды.
+ *
+ * @param <E> тип элементов в листе.
+ * @author Серова Дарья
+ * @version 1.0
+ * @see ListMetrics
+ * @since 2023-08-15
+ */
+
+public class InstrumentedCustomList<E> implements CustomList<E> {
+
+    private final CustomList<E> delegate;
+
+    private final ListMetrics metrics;
+
+    /**
+     * Оборачивает список, создавая для него новые метрики.
+     *
+     * @param delegate оборачиваемый список.
+     */
+    public InstrumentedCustomList(CustomList<E> delegate) {
+        this(delegate, new ListMetrics());
+    }
+
+    /**
+     * Оборачивает список, учитывая операции в передаваемых метриках. Одни метрики можно разделить
+     * между несколькими списками.
+     *
+     * @param delegate оборачиваемый список.
+     * @param metrics  метрики, в которых учитываются операции.
+     * @throws NullPointerException если список или метрики равны {@code null}.
+     */
+    public InstrumentedCustomList(CustomList<E> delegate, ListMetrics metrics) {
+        if (delegate == null || metrics == null) {
+            throw new NullPointerException("List and metrics can't be null!");
+        }
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Возвращает метрики декоратора.
+     *
+     * @return метрики, в которых учитываются операции.
+     */
+    public ListMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Возвращает оборачиваемый список.
+     *
+     * @return оборачиваемый список.
+     */
+    public CustomList<E> delegate() {
+        return delegate;
+    }
+
+    @Override
+    public boolean add(E e) {
+        int capacity = capacity();
+        boolean added = delegate.add(e);
+        afterUpdate(capacity, 1, 0, 0);
+        return added;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        int capacity = capacity();
+        int shifted = delegate.size() - index;
+        delegate.add(index, element);
+        afterUpdate(capacity, 1, 0, shifted);
+    }
+
+    @Override
+    public E get(int index) {
+        return delegate.get(index);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        return delegate.set(index, element);
+    }
+
+    @Override
+    public E remove(int index) {
+        int capacity = capacity();
+        E removed = delegate.remove(index);
+        afterUpdate(capacity, 0, 1, delegate.size() - index);
+        return removed;
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public void clear() {
+        int capacity = capacity();
+        int removed = delegate.size();
+        delegate.clear();
+        afterUpdate(capacity, 0, removed, 0);
+    }
+
+    @Override
+    public boolean addAll(int index, CustomList<? extends E> list) {
+        int capacity = capacity();
+        int oldSize = delegate.size();
+        boolean changed = delegate.addAll(index, list);
+        int added = delegate.size() - oldSize;
+        afterUpdate(capacity, added, 0, added > 0 ? oldSize - index : 0);
+        return changed;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        int capacity = capacity();
+        int oldSize = delegate.size();
+        delegate.removeRange(fromIndex, toIndex);
+        int removed = oldSize - delegate.size();
+        afterUpdate(capacity, 0, removed, removed > 0 ? oldSize - toIndex : 0);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        int capacity = capacity();
+        int oldSize = delegate.size();
+        boolean changed = delegate.removeIf(filter);
+        afterUpdate(capacity, 0, oldSize - delegate.size(), 0);
+        return changed;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return delegate.iterator();
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        delegate.forEach(action);
+    }
+
+    /**
+     * Сортирует диапазон списка через {@link QuickSortUtil} и учитывает время сортировки.
+     * Если оборачиваемый {@link CustomArrayList} собирает метрики в те же {@link ListMetrics}, сортировку
+     * уже учитывает сам список, и декоратор ее не учитывает повторно. Если у списка свои метрики,
+     * сортировка учитывается и в них, и в метриках декоратора.
+     *
+     * @param comp  правила сортировки.
+     * @param start нижняя граница сортируемого диапазона.
+     * @param end   верхняя граница сортируемого диапазона (включительно).
+     */
+    public void sort(Comparator<? super E> comp, int start, int end) {
+        long startTime = System.nanoTime();
+        QuickSortUtil.quickSort(delegate, comp, start, end);
+        boolean recordedByDelegate = delegate instanceof CustomArrayList
+                && ((CustomArrayList<E>) delegate).metrics() == metrics;
+        if (!recordedByDelegate) {
+            metrics.recordSort(Math.max(0, end - start + 1), System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * Возвращает емкость оборачиваемого списка или {@code -1}, если она неизвестна.
+     */
+    private int capacity() {
+        return delegate instanceof CustomArrayList ? ((CustomArrayList<E>) delegate).capacity() : -1;
+    }
+
+    private void afterUpdate(int oldCapacity, int added, int removed, int shifted) {
+        if (added > 0) {
+            metrics.recordAdditions(added);
+        }
+        if (removed > 0) {
+            metrics.recordRemovals(removed);
+        }
+        if (shifted > 0) {
+            metrics.recordShift(shifted);
+        }
+        int capacity = capacity();
+        if (capacity >= 0) {
+            int size = delegate.size();
+            if (capacity != oldCapacity) {
+                metrics.recordResize(oldCapacity, capacity, Math.min(size, oldCapacity));
+            }
+            metrics.recordFillRatio(size, capacity);
+        }
+    }
+
+}
@@ -0,0 +1,155 @@
+package ru.aston;
+
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * {@code ListView} ленивое представление элементов {@link CustomList} для цепочек преобразований.
+ *
+ * <p>Промежуточные операции {@link #filter(Predicate)} и {@link #map(Function)} ничего не вычисляют
+ * и не создают промежуточных списков, а только описывают этап. Заключительная операция ({@link #collect()},
+ * {@link #reduce(Object, BinaryOperator)}, {@link #sum(ToLongFunction)}, {@link #count()},
+ * {@link #forEach(Consumer)}) объединяет все этапы в одну функцию и выполняет один проход по исходному списку
+ * через {@link CustomList#forEach(Consumer)}. Для {@link CustomArrayList} это обход внутреннего массива.
+ *
+ * <p>Если размер результата известен заранее (цепочка не содержит {@code filter}), {@link #collect()}
+ * создает список нужной емкости сразу. Представление можно выполнять повторно, каждый раз оно читает текущее
+ * содержимое исходного списка.
+ *
+ * @param <E> тип элементов представления.
+ * @author Серова Дарья
+ * @version 1.0
+ * @see CustomList#view()
+ * @since 2023-08-15
+ */
+
+public final class ListView<E> {
+
+    /**
+     * Передает элементы представления в приемник.
+     */
+    private final Consumer<Consumer<? super E>> pipeline;
+
+    /**
+     * Список, размер которого равен размеру результата, или {@code null}, если размер заранее неизвестен.
+     */
+    private final CustomList<?> sizedSource;
+
+    private ListView(Consumer<Consumer<? super E>> pipeline, CustomList<?> sizedSource) {
+        this.pipeline = pipeline;
+        this.sizedSource = sizedSource;
+    }
+
+    /**
+     * Создает представление элементов списка.
+     *
+     * @param list исходный список.
+     * @param <E>  тип элементов в листе.
+     * @return представление, элементы которого совпадают с элементами списка.
+     */
+    static <E> ListView<E> of(CustomList<E> list) {
+        return new ListView<>(sink -> list.forEach(sink), list);
+    }
+
+    /**
+     * Возвращает представление, содержащее только элементы, удовлетворяющие условию.
+     *
+     * @param predicate условие отбора.
+     * @return новое представление.
+     */
+    public ListView<E> filter(Predicate<? super E> predicate) {
+        Consumer<Consumer<? super E>> upstream = pipeline;
+        return new ListView<>(sink -> upstream.accept(element -> {
+            if (predicate.test(element)) {
+                sink.accept(element);
+            }
+        }), null);
+    }
+
+    /**
+     * Возвращает представление, содержащее результаты применения функции к элементам.
+     *
+     * @param mapper функция преобразования.
+     * @param <R>    тип элементов нового представления.
+     * @return новое представление.
+     */
+    public <R> ListView<R> map(Function<? super E, ? extends R> mapper) {
+        Consumer<Consumer<? super E>> upstream = pipeline;
+        return new ListView<>(sink -> upstream.accept(element -> sink.accept(mapper.apply(element))), sizedSource);
+    }
+
+    /**
+     * Выполняет действие для каждого элемента представления за один проход по исходному списку.
+     *
+     * @param action действие, выполняемое для каждого элемента.
+     */
+    public void forEach(Consumer<? super E> action) {
+        pipeline.accept(action);
+    }
+
+    /**
+     * Собирает элементы представления в новый {@link CustomArrayList}. Если размер результата известен,
+     * емкость списка задается сразу и список не увеличивается во время сбора.
+     *
+     * @return новый список с элементами представления.
+     */
+    public CustomArrayList<E> collect() {
+        CustomArrayList<E> result = sizedSource != null
+                ? new CustomArrayList<>(sizedSource.size())
+                : new CustomArrayList<>();
+        pipeline.accept(result::add);
+        return result;
+    }
+
+    /**
+     * Сворачивает элементы представления бинарной операцией.
+     *
+     * @param identity    начальное значение.
+     * @param accumulator операция свертки.
+     * @return результат свертки или {@code identity}, если представление пустое.
+     */
+    public E reduce(E identity, BinaryOperator<E> accumulator) {
+        Accumulator<E> result = new Accumulator<>(identity);
+        pipeline.accept(element -> result.value = accumulator.apply(result.value, element));
+        return result.value;
+    }
+
+    /**
+     * Возвращает сумму значений функции по всем элементам представления без упаковки промежуточных значений.
+     *
+     * @param mapper функция, возвращающая слагаемое для элемента.
+     * @return сумма значений.
+     */
+    public long sum(ToLongFunction<? super E> mapper) {
+        long[] sum = new long[1];
+        pipeline.accept(element -> sum[0] += mapper.applyAsLong(element));
+        return sum[0];
+    }
+
+    /**
+     * Возвращает количество элементов представления. Если размер известен заранее, элементы не перебираются.
+     *
+     * @return количество элементов.
+     */
+    public long count() {
+        if (sizedSource != null) {
+            return sizedSource.size();
+        }
+        long[] count = new long[1];
+        pipeline.accept(element -> count[0]++);
+        return count[0];
+    }
+
+    private static final class Accumulator<E> {
+
+        private E value;
+
+        Accumulator(E value) {
+            this.value = value;
+        }
+    }
+
+}
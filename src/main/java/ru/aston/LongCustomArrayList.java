@@ -0,0 +1,263 @@
+package ru.aston;
+
+import ru.aston.util.QuickSortUtil;
+
+/**
+ * {@code LongCustomArrayList} реализация интерфейса {@link CustomList} для значений типа {@code long}.
+ * Элементы хранятся во внутреннем массиве {@code long[]} без упаковки в {@link Long}.
+ *
+ * <p>Методы {@link #addLong(long)}, {@link #getLong(int)}, {@link #setLong(int, long)} и {@link #removeLong(int)}
+ * работают с примитивными значениями напрямую. Методы интерфейса {@link CustomList} принимают и возвращают
+ * {@link Long} и упаковывают значения при каждом вызове; значение {@code null} не допускается.
+ *
+ * <p>Управление емкостью такое же, как у {@link CustomArrayList}: по умолчанию емкость 10,
+ * при заполнении она увеличивается автоматически.
+ *
+ * @author Серова Дарья
+ * @version 1.0
+ * @see CustomArrayList
+ * @since 2023-08-15
+ */
+
+public class LongCustomArrayList implements CustomList<Long> {
+
+    /**
+     * Емкость по умолчанию.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Внутренний массив для хранения элементов LongCustomArrayList.
+     */
+    private long[] elementData;
+
+    /**
+     * Размер LongCustomArrayList (количество элементов, содержащихся в LongCustomArrayList).
+     */
+    private int size;
+
+    /**
+     * Создает пустой список с начальной емкостью 10.
+     */
+    public LongCustomArrayList() {
+        this.elementData = new long[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Создает пустой список с заданной емкостью.
+     *
+     * @param capacity начальная емкость листа.
+     * @throws IllegalArgumentException если заданная емкость отрицательная.
+     */
+    public LongCustomArrayList(int capacity) {
+        if (capacity >= 0) {
+            this.elementData = new long[capacity];
+        } else {
+            throw new IllegalArgumentException("Capacity can't be less than 0!");
+        }
+    }
+
+    /**
+     * Добавляет значение в конец списка.
+     *
+     * @param element значение, которое нужно добавить в список.
+     * @return {@code true} - значение успешно добавлено.
+     */
+    public boolean addLong(long element) {
+        if (size == elementData.length) {
+            elementData = incrementCapacity();
+        }
+        elementData[size] = element;
+        size++;
+        return true;
+    }
+
+    /**
+     * Вставляет значение в список в указанную позицию, сдвигая последующие элементы вправо.
+     *
+     * @param index   позиция для вставки.
+     * @param element значение, которое должно быть вставлено.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index > size || index < 0)}.
+     */
+    public void addLong(int index, long element) {
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be greater than the current array size = " + size
+                    + " or less than 0!");
+        }
+
+        if (size == elementData.length) {
+            elementData = incrementCapacity();
+        }
+        System.arraycopy(elementData, index, elementData, index + 1, size - index);
+        elementData[index] = element;
+        size++;
+    }
+
+    /**
+     * Возвращает значение в указанной позиции списка.
+     *
+     * @param index позиция искомого значения в списке.
+     * @return значение в указанной позиции.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    public long getLong(int index) {
+        checkIndex(index);
+        return elementData[index];
+    }
+
+    /**
+     * Заменяет значение в указанной позиции в списке.
+     *
+     * @param index   позиция замещаемого значения.
+     * @param element значение, которое будет сохранено в указанную позицию.
+     * @return значение, ранее находившееся в указанной позиции.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    public long setLong(int index, long element) {
+        checkIndex(index);
+        long oldValue = elementData[index];
+        elementData[index] = element;
+        return oldValue;
+    }
+
+    /**
+     * Удаляет значение из указанной позиции списка, сдвигая последующие элементы влево.
+     *
+     * @param index позиция удаляемого значения.
+     * @return значение, которое было удалено из списка.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    public long removeLong(int index) {
+        checkIndex(index);
+        long oldValue = elementData[index];
+        System.arraycopy(elementData, index + 1, elementData, index, size - 1 - index);
+        size--;
+        return oldValue;
+    }
+
+    /**
+     * Добавляет значение в конец списка.
+     *
+     * @param element значение, которое нужно добавить в список.
+     * @return {@code true} - значение успешно добавлено.
+     * @throws NullPointerException если {@code element == null}.
+     */
+    @Override
+    public boolean add(Long element) {
+        return addLong(element);
+    }
+
+    /**
+     * Вставляет значение в список в указанную позицию.
+     *
+     * @param index   позиция для вставки.
+     * @param element значение, которое должно быть вставлено.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index > size || index < 0)}.
+     * @throws NullPointerException      если {@code element == null}.
+     */
+    @Override
+    public void add(int index, Long element) {
+        addLong(index, element);
+    }
+
+    /**
+     * Возвращает значение в указанной позиции списка, упакованное в {@link Long}.
+     *
+     * @param index позиция искомого значения в списке.
+     * @return значение в указанной позиции.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    @Override
+    public Long get(int index) {
+        return getLong(index);
+    }
+
+    /**
+     * Заменяет значение в указанной позиции в списке.
+     *
+     * @param index   позиция замещаемого значения.
+     * @param element значение, которое будет сохранено в указанную позицию.
+     * @return значение, ранее находившееся в указанной позиции.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     * @throws NullPointerException      если {@code element == null}.
+     */
+    @Override
+    public Long set(int index, Long element) {
+        return setLong(index, element);
+    }
+
+    /**
+     * Удаляет значение из указанной позиции списка.
+     *
+     * @param index позиция удаляемого значения.
+     * @return значение, которое было удалено из списка.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    @Override
+    public Long remove(int index) {
+        return removeLong(index);
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return возвращает количество элементов в списке.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Удаляет все элементы из этого списка.
+     * Так как в массиве нет ссылок, емкость и содержимое массива не изменяются.
+     */
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Сортирует значения в диапазоне {@code [start, end]} по возрастанию напрямую во внутреннем массиве,
+     * без упаковки и без выделения памяти.
+     *
+     * @param start нижняя граница сортируемого диапазона.
+     * @param end   верхняя граница сортируемого диапазона (включительно).
+     * @throws IndexOutOfBoundsException если диапазон выходит за пределы списка {@code (start < 0 || end >= size)}.
+     */
+    public void sort(int start, int end) {
+        if (start >= end) {
+            return;
+        }
+        if (start < 0 || end >= size) {
+            throw new IndexOutOfBoundsException("Sort range [" + start + ", " + end + "] is out of bounds for size = "
+                    + size);
+        }
+        QuickSortUtil.quickSort(elementData, start, end);
+    }
+
+    private void checkIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be greater than the current array size = " + size
+                    + " or less than 0!");
+        }
+    }
+
+    /**
+     * Создает и возвращает массив с емкостью, рассчитанной правилом {@link GrowthPolicy#DEFAULT}, для добавления
+     * одного элемента. Копирует в созданный массив элементы списка, сохраняя их порядок.
+     *
+     * @return массив, содержащий элементы списка.
+     * @throws OutOfMemoryError если емкость списка уже равна {@link GrowthPolicy#MAX_ARRAY_SIZE}.
+     */
+    private long[] incrementCapacity() {
+        int minCapacity = size + 1;
+        if (minCapacity < 0 || minCapacity > GrowthPolicy.MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required array size is too large");
+        }
+        long[] array = new long[GrowthPolicy.DEFAULT.newCapacity(elementData.length, minCapacity)];
+        System.arraycopy(elementData, 0, array, 0, size);
+        return array;
+    }
+
+}
@@ -0,0 +1,222 @@
+package ru.aston;
+
+import ru.aston.codec.ElementCodec;
+import ru.aston.util.DirectBuffers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@code MappedCustomList} реализация интерфейса {@link CustomList}, хранящая элементы в файле,
+ * отображенном в память через {@link FileChannel#map(FileChannel.MapMode, long, long)}.
+ *
+ * <p>Формат файла: заголовок {@value #HEADER_SIZE} байт, за которым подряд следуют элементы фиксированного
+ * размера, закодированные {@link ElementCodec}. Все числа записываются в порядке little-endian.
+ * <pre>
+ * смещение  размер  поле
+ * 0         4       сигнатура 0x43414C4D ("CALM")
+ * 4         4       версия формата
+ * 8         4       размер элемента в байтах
+ * 12        4       зарезервировано
+ * 16        8       количество элементов
+ * 24        8       зарезервировано
+ * </pre>
+ * Файл отображается блоками по {@code chunkCapacity} элементов, при росте списка отображается следующий блок
+ * и файл удлиняется, уже отображенные блоки не затрагиваются. При повторном открытии файл только
+ * отображается в память, элементы не читаются и не декодируются.
+ *
+ * <p>Изменения попадают в файл через кэш страниц операционной системы. Чтобы гарантировать запись на диск,
+ * нужно вызвать {@link #force()}. Список не потокобезопасен, один файл не должен быть открыт
+ * несколькими экземплярами одновременно.
+ *
+ * @param <E> тип элементов в листе.
+ * @author Серова Дарья
+ * @version 1.0
+ * @see CustomList
+ * @see ElementCodec
+ * @since 2023-08-15
+ */
+
+public class MappedCustomList<E> extends ChunkedBufferCustomList<E> {
+
+    /**
+     * Сигнатура файла.
+     */
+    static final int MAGIC = 0x43414C4D;
+
+    /**
+     * Версия формата файла.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * Размер заголовка файла в байтах.
+     */
+    static final int HEADER_SIZE = 32;
+
+    private static final int VERSION_OFFSET = 4;
+
+    private static final int ELEMENT_SIZE_OFFSET = 8;
+
+    private static final int SIZE_OFFSET = 16;
+
+    /**
+     * Количество элементов в отображаемом блоке по умолчанию.
+     */
+    private static final int DEFAULT_CHUNK_CAPACITY = 1 << 16;
+
+    private final FileChannel channel;
+
+    private final MappedByteBuffer header;
+
+    private MappedCustomList(ElementCodec<E> codec, int chunkCapacity, FileChannel channel, MappedByteBuffer header) {
+        super(codec, chunkCapacity);
+        this.channel = channel;
+        this.header = header;
+    }
+
+    /**
+     * Открывает список, хранящийся в файле, или создает новый пустой файл, если файла нет или он пустой.
+     * Размер отображаемого блока 65536 элементов.
+     *
+     * @param path  путь к файлу.
+     * @param codec кодек элементов.
+     * @param <E>   тип элементов в листе.
+     * @return открытый список.
+     * @throws IOException если файл не удалось открыть или он не является файлом списка с таким размером элемента.
+     */
+    public static <E> MappedCustomList<E> open(Path path, ElementCodec<E> codec) throws IOException {
+        return open(path, codec, DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * Открывает список, хранящийся в файле, или создает новый пустой файл, если файла нет или он пустой.
+     *
+     * @param path          путь к файлу.
+     * @param codec         кодек элементов.
+     * @param chunkCapacity количество элементов в отображаемом блоке, степень двойки.
+     * @param <E>           тип элементов в листе.
+     * @return открытый список.
+     * @throws IOException              если файл не удалось открыть или он не является файлом списка
+     *                                  с таким размером элемента.
+     * @throws IllegalArgumentException если емкость блока не является положительной степенью двойки.
+     */
+    public static <E> MappedCustomList<E> open(Path path, ElementCodec<E> codec, int chunkCapacity)
+            throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE);
+        MappedByteBuffer header = null;
+        try {
+            long fileSize = channel.size();
+            if (fileSize != 0 && fileSize < HEADER_SIZE) {
+                throw new IOException("File " + path + " is not a CustomList file!");
+            }
+
+            header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            long restoredSize;
+            if (fileSize == 0) {
+                header.putInt(0, MAGIC);
+                header.putInt(VERSION_OFFSET, VERSION);
+                header.putInt(ELEMENT_SIZE_OFFSET, codec.size());
+                header.putLong(SIZE_OFFSET, 0);
+                restoredSize = 0;
+            } else {
+                restoredSize = readHeader(path, header, codec, fileSize);
+            }
+
+            MappedCustomList<E> list = new MappedCustomList<>(codec, chunkCapacity, channel, header);
+            list.restore((int) restoredSize);
+            return list;
+        } catch (IOException | RuntimeException e) {
+            DirectBuffers.free(header);
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static long readHeader(Path path, ByteBuffer header, ElementCodec<?> codec, long fileSize)
+            throws IOException {
+        if (header.getInt(0) != MAGIC) {
+            throw new IOException("File " + path + " is not a CustomList file!");
+        }
+        int version = header.getInt(VERSION_OFFSET);
+        if (version != VERSION) {
+            throw new IOException("Unsupported CustomList file version " + version + " in " + path);
+        }
+        int elementSize = header.getInt(ELEMENT_SIZE_OFFSET);
+        if (elementSize != codec.size()) {
+            throw new IOException("File " + path + " stores elements of " + elementSize
+                    + " bytes, but codec expects " + codec.size());
+        }
+        long restoredSize = header.getLong(SIZE_OFFSET);
+        if (restoredSize < 0 || restoredSize >= Integer.MAX_VALUE
+                || restoredSize > (fileSize - HEADER_SIZE) / elementSize) {
+            throw new IOException("File " + path + " is corrupted: invalid size " + restoredSize);
+        }
+        return restoredSize;
+    }
+
+    /**
+     * Записывает на диск все изменения элементов, а затем заголовок с количеством элементов.
+     *
+     * @throws IllegalStateException если список закрыт.
+     */
+    public void force() {
+        ensureOpen();
+        for (int i = 0; i < chunkCount(); i++) {
+            ((MappedByteBuffer) chunk(i)).force();
+        }
+        header.force();
+    }
+
+    /**
+     * Снимает отображение файла и закрывает его. Изменения, не записанные {@link #force()},
+     * записываются на диск операционной системой. Повторный вызов ничего не делает.
+     *
+     * @throws UncheckedIOException если файл не удалось закрыть.
+     */
+    @Override
+    public void close() {
+        super.close();
+        if (!channel.isOpen()) {
+            return;
+        }
+        DirectBuffers.free(header);
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    protected ByteBuffer allocateChunk(int chunkIndex, int bytes) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + (long) chunkIndex * bytes, bytes)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    protected void releaseChunks(ByteBuffer[] chunks, int chunkCount) {
+        for (int i = 0; i < chunkCount; i++) {
+            DirectBuffers.free(chunks[i]);
+            chunks[i] = null;
+        }
+    }
+
+    @Override
+    protected void onSizeChanged(int newSize) {
+        header.putLong(SIZE_OFFSET, newSize);
+    }
+
+}
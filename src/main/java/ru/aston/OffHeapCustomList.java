@@ -0,0 +1,70 @@
+package ru.aston;
+
+import ru.aston.codec.ElementCodec;
+import ru.aston.util.DirectBuffers;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * {@code OffHeapCustomList} реализация интерфейса {@link CustomList}, хранящая элементы вне кучи
+ * в прямых буферах {@link ByteBuffer#allocateDirect(int)}.
+ *
+ * <p>Элементы кодируются {@link ElementCodec} фиксированного размера и хранятся в блоках (<i>chunk</i>)
+ * одинаковой емкости, равной степени двойки. При заполнении добавляется новый блок, существующие данные
+ * не копируются. Позиция элемента вычисляется сдвигом и маской индекса, поэтому {@link #get(int)} выполняется
+ * за {@code O(1)}. Вставка и удаление в середине сдвигают хвост списка блочным копированием байтов.
+ *
+ * <p>Память освобождается явно методом {@link #close()}. После закрытия любые операции со списком бросают
+ * {@link IllegalStateException}. Список не потокобезопасен.
+ *
+ * @param <E> тип элементов в листе.
+ * @author Серова Дарья
+ * @version 1.0
+ * @see CustomList
+ * @see ElementCodec
+ * @since 2023-08-15
+ */
+
+public class OffHeapCustomList<E> extends ChunkedBufferCustomList<E> {
+
+    /**
+     * Количество элементов в блоке по умолчанию.
+     */
+    private static final int DEFAULT_CHUNK_CAPACITY = 1 << 14;
+
+    /**
+     * Создает пустой список с емкостью блока 16384 элемента.
+     *
+     * @param codec кодек элементов.
+     */
+    public OffHeapCustomList(ElementCodec<E> codec) {
+        this(codec, DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * Создает пустой список с заданной емкостью блока.
+     *
+     * @param codec         кодек элементов.
+     * @param chunkCapacity количество элементов в одном блоке, степень двойки.
+     * @throws IllegalArgumentException если емкость блока не является положительной степенью двойки
+     *                                  или размер блока в байтах превышает {@link Integer#MAX_VALUE}.
+     */
+    public OffHeapCustomList(ElementCodec<E> codec, int chunkCapacity) {
+        super(codec, chunkCapacity);
+    }
+
+    @Override
+    protected ByteBuffer allocateChunk(int chunkIndex, int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    @Override
+    protected void releaseChunks(ByteBuffer[] chunks, int chunkCount) {
+        for (int i = 0; i < chunkCount; i++) {
+            DirectBuffers.free(chunks[i]);
+            chunks[i] = null;
+        }
+    }
+
+}
@@ -0,0 +1,564 @@
+package ru.aston;
+
+import java.util.Arrays;
+
+/**
+ * {@code PersistentCustomList} неизменяемая (персистентная) реализация интерфейса {@link CustomList}.
+ *
+ * <p>Элементы хранятся в 32-арном префиксном дереве, последние до 32 элементов - в отдельном хвостовом
+ * массиве. Операции {@link #plus(Object)}, {@link #with(int, Object)} и {@link #minusLast()} не изменяют
+ * список, а возвращают новую версию, которая копирует только путь от корня до измененного листа
+ * ({@code O(log32 n)} узлов) и разделяет все остальные узлы с исходной версией. Поэтому хранение истории
+ * версий стоит памяти пропорционально числу изменений, а не числу версий, умноженному на размер списка.
+ *
+ * <p>Вставка и удаление в середине ({@link #plus(int, Object)}, {@link #minus(int)}) разделяют с исходной
+ * версией листья до позиции изменения и перестраивают только часть списка после нее, за {@code O(n - index)}.
+ * Для пакетного построения используется {@link Builder}: он изменяет принадлежащие ему узлы на месте
+ * и превращается в неизменяемый список методом {@link Builder#build()}.
+ *
+ * <p>Изменяющие методы интерфейса {@link CustomList} бросают {@link UnsupportedOperationException}.
+ * Экземпляры безопасно разделять между потоками.
+ *
+ * @param <E> тип элементов в листе.
+ * @author Серова Дарья
+ * @version 1.0
+ * @see CustomList
+ * @since 2023-08-15
+ */
+
+public final class PersistentCustomList<E> implements CustomList<E> {
+
+    private static final int BITS = 5;
+
+    private static final int WIDTH = 1 << BITS;
+
+    private static final int MASK = WIDTH - 1;
+
+    private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+
+    private static final PersistentCustomList<?> EMPTY =
+            new PersistentCustomList<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+
+    /**
+     * Сдвиг индекса для корневого уровня дерева.
+     */
+    private final int shift;
+
+    private final Node root;
+
+    /**
+     * Последние {@code size - tailOffset()} элементов списка.
+     */
+    private final Object[] tail;
+
+    private PersistentCustomList(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Возвращает пустой список.
+     *
+     * @param <E> тип элементов в листе.
+     * @return пустой список.
+     */
+    public static <E> PersistentCustomList<E> empty() {
+        return (PersistentCustomList<E>) EMPTY;
+    }
+
+    /**
+     * Возвращает неизменяемую копию передаваемого списка.
+     *
+     * @param list исходный список.
+     * @param <E>  тип элементов в листе.
+     * @return список с теми же элементами в том же порядке.
+     */
+    public static <E> PersistentCustomList<E> copyOf(CustomList<? extends E> list) {
+        if (list instanceof PersistentCustomList) {
+            return (PersistentCustomList<E>) list;
+        }
+        Builder<E> builder = builder();
+        for (int i = 0; i < list.size(); i++) {
+            builder.add(list.get(i));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Возвращает построитель для пакетного создания списка.
+     *
+     * @param <E> тип элементов в листе.
+     * @return пустой построитель.
+     */
+    public static <E> Builder<E> builder() {
+        return PersistentCustomList.<E>empty().toBuilder();
+    }
+
+    /**
+     * Возвращает построитель, содержащий элементы этого списка. Сам список не изменяется.
+     *
+     * @return построитель, разделяющий узлы с этим списком до первого изменения.
+     */
+    public Builder<E> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    /**
+     * Возвращает новую версию списка с элементом, добавленным в конец, за {@code O(log32 n)}.
+     *
+     * @param element добавляемый элемент.
+     * @return новая версия списка.
+     */
+    public PersistentCustomList<E> plus(E element) {
+        if (size == Integer.MAX_VALUE) {
+            throw new OutOfMemoryError("Required array size is too large");
+        }
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentCustomList<>(size + 1, shift, root, newTail);
+        }
+        Node tailNode = new Node(null, tail);
+        Node newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Node(null, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(null, size, shift, root, tailNode);
+        }
+        return new PersistentCustomList<>(size + 1, newShift, newRoot, new Object[]{element});
+    }
+
+    /**
+     * Возвращает новую версию списка с элементом, вставленным в указанную позицию.
+     * Вставка в конец выполняется за {@code O(log32 n)}, в середину - за {@code O(n - index)}: листья до позиции
+     * вставки разделяются с этим списком, элементы после нее добавляются заново.
+     *
+     * @param index   позиция для вставки.
+     * @param element вставляемый элемент.
+     * @return новая версия списка.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index > size || index < 0)}.
+     */
+    public PersistentCustomList<E> plus(int index, E element) {
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be greater than the current array size = " + size
+                    + " or less than 0!");
+        }
+        if (index == size) {
+            return plus(element);
+        }
+        Builder<E> builder = prefix(index);
+        builder.add(element);
+        for (int i = index; i < size; i++) {
+            builder.add(get(i));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Возвращает новую версию списка, в которой элемент в указанной позиции заменен, за {@code O(log32 n)}.
+     *
+     * @param index   позиция замещаемого элемента.
+     * @param element новый элемент.
+     * @return новая версия списка.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    public PersistentCustomList<E> with(int index, E element) {
+        checkIndex(index);
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentCustomList<>(size, shift, root, newTail);
+        }
+        return new PersistentCustomList<>(size, shift, assoc(null, shift, root, index, element), tail);
+    }
+
+    /**
+     * Возвращает новую версию списка без последнего элемента за {@code O(log32 n)}.
+     *
+     * @return новая версия списка.
+     * @throws IndexOutOfBoundsException если список пуст.
+     */
+    public PersistentCustomList<E> minusLast() {
+        checkIndex(size - 1);
+        if (size == 1) {
+            return empty();
+        }
+        if (size - tailOffset() > 1) {
+            return new PersistentCustomList<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+        Object[] newTail = arrayFor(size - 2);
+        Node newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot.array[1] == null) {
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+        return new PersistentCustomList<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Возвращает новую версию списка без элемента в указанной позиции.
+     * Удаление последнего элемента выполняется за {@code O(log32 n)}, из середины - за {@code O(n - index)}:
+     * листья до позиции удаления разделяются с этим списком, элементы после нее добавляются заново.
+     *
+     * @param index позиция удаляемого элемента.
+     * @return новая версия списка.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    public PersistentCustomList<E> minus(int index) {
+        checkIndex(index);
+        if (index == size - 1) {
+            return minusLast();
+        }
+        Builder<E> builder = prefix(index);
+        for (int i = index + 1; i < size; i++) {
+            builder.add(get(i));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Не поддерживается: список неизменяемый, используйте {@link #plus(Object)}.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public boolean add(E element) {
+        throw new UnsupportedOperationException("PersistentCustomList is immutable!");
+    }
+
+    /**
+     * Не поддерживается: список неизменяемый, используйте {@link #plus(int, Object)}.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public void add(int index, E element) {
+        throw new UnsupportedOperationException("PersistentCustomList is immutable!");
+    }
+
+    /**
+     * Возвращает элемент в указанной позиции списка за {@code O(log32 n)}.
+     *
+     * @param index позиция искомого элемента в списке.
+     * @return элемент в указанной позиции.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        return (E) arrayFor(index)[index & MASK];
+    }
+
+    /**
+     * Не поддерживается: список неизменяемый, используйте {@link #with(int, Object)}.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public E set(int index, E element) {
+        throw new UnsupportedOperationException("PersistentCustomList is immutable!");
+    }
+
+    /**
+     * Не поддерживается: список неизменяемый, используйте {@link #minus(int)}.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public E remove(int index) {
+        throw new UnsupportedOperationException("PersistentCustomList is immutable!");
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return возвращает количество элементов в списке.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Не поддерживается: список неизменяемый, используйте {@link #empty()}.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("PersistentCustomList is immutable!");
+    }
+
+    /**
+     * Возвращает построитель с первыми {@code count} элементами списка. Построитель разделяет с этим списком
+     * все листья до позиции {@code count}, копируется только правый край дерева ({@code O(log32 n)} узлов).
+     */
+    private Builder<E> prefix(int count) {
+        if (count == 0) {
+            return builder();
+        }
+        int offset = tailOffset();
+        if (count > offset) {
+            return new PersistentCustomList<E>(count, shift, root, Arrays.copyOf(tail, count - offset)).toBuilder();
+        }
+        int newOffset = tailOffset(count);
+        Object[] newTail = Arrays.copyOf(arrayFor(count - 1), count - newOffset);
+        if (newOffset == 0) {
+            return new PersistentCustomList<E>(count, BITS, EMPTY_NODE, newTail).toBuilder();
+        }
+        Node newRoot = trim(shift, root, newOffset - 1);
+        int newShift = shift;
+        while (newShift > BITS && newRoot.array[1] == null) {
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+        return new PersistentCustomList<E>(count, newShift, newRoot, newTail).toBuilder();
+    }
+
+    private int tailOffset() {
+        return tailOffset(size);
+    }
+
+    private static int tailOffset(int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] arrayFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    private Node popTail(int level, Node node) {
+        int subIndex = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Node newChild = popTail(level - BITS, (Node) node.array[subIndex]);
+            if (newChild == null && subIndex == 0) {
+                return null;
+            }
+            Node result = new Node(null, node.array.clone());
+            result.array[subIndex] = newChild;
+            return result;
+        }
+        if (subIndex == 0) {
+            return null;
+        }
+        Node result = new Node(null, node.array.clone());
+        result.array[subIndex] = null;
+        return result;
+    }
+
+    /**
+     * Возвращает копию правого края поддерева, в которой остаются только листья с позициями до {@code last}
+     * включительно. Узлы левее края разделяются с исходным деревом.
+     */
+    private static Node trim(int level, Node node, int last) {
+        int subIndex = (last >>> level) & MASK;
+        Node result = new Node(null, new Object[WIDTH]);
+        System.arraycopy(node.array, 0, result.array, 0, subIndex);
+        result.array[subIndex] = level > BITS
+                ? trim(level - BITS, (Node) node.array[subIndex], last)
+                : node.array[subIndex];
+        return result;
+    }
+
+    private void checkIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be greater than the current array size = " + size
+                    + " or less than 0!");
+        }
+    }
+
+    /**
+     * Возвращает узел, который можно изменять на месте владельцу {@code owner}.
+     * Чужие и неизменяемые ({@code owner == null}) узлы копируются.
+     */
+    private static Node editable(Object owner, Node node) {
+        if (owner != null && node.owner == owner) {
+            return node;
+        }
+        return new Node(owner, node.array.clone());
+    }
+
+    private static Node newPath(Object owner, int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+        Node result = new Node(owner, new Object[WIDTH]);
+        result.array[0] = newPath(owner, level - BITS, node);
+        return result;
+    }
+
+    private static Node pushTail(Object owner, int size, int level, Node parent, Node tailNode) {
+        Node result = editable(owner, parent);
+        int subIndex = ((size - 1) >>> level) & MASK;
+        if (level == BITS) {
+            result.array[subIndex] = tailNode;
+        } else {
+            Node child = (Node) parent.array[subIndex];
+            result.array[subIndex] = child != null
+                    ? pushTail(owner, size, level - BITS, child, tailNode)
+                    : newPath(owner, level - BITS, tailNode);
+        }
+        return result;
+    }
+
+    private static Node assoc(Object owner, int level, Node node, int index, Object element) {
+        Node result = editable(owner, node);
+        if (level == 0) {
+            result.array[index & MASK] = element;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            result.array[subIndex] = assoc(owner, level - BITS, (Node) node.array[subIndex], index, element);
+        }
+        return result;
+    }
+
+    /**
+     * Узел дерева. Узел с непустым {@code owner} принадлежит построителю и может изменяться им на месте.
+     */
+    private static final class Node {
+
+        private final Object owner;
+
+        private final Object[] array;
+
+        Node(Object owner, Object[] array) {
+            this.owner = owner;
+            this.array = array;
+        }
+    }
+
+    /**
+     * Построитель (<i>transient</i>) для быстрого пакетного создания {@link PersistentCustomList}.
+     *
+     * <p>Построитель изменяет созданные им узлы на месте, не копируя путь до корня при каждом добавлении.
+     * Узлы исходного списка копируются при первом изменении. После {@link #build()} построитель
+     * больше нельзя использовать. Построитель не потокобезопасен.
+     *
+     * @param <E> тип элементов в листе.
+     */
+    public static final class Builder<E> {
+
+        private Object owner = new Object();
+
+        private int size;
+
+        private int shift;
+
+        private Node root;
+
+        private Object[] tail;
+
+        private Builder(PersistentCustomList<E> list) {
+            this.size = list.size;
+            this.shift = list.shift;
+            this.root = list.root;
+            this.tail = Arrays.copyOf(list.tail, WIDTH);
+        }
+
+        /**
+         * Добавляет передаваемый элемент в конец.
+         *
+         * @param element элемент, который нужно добавить.
+         * @return этот построитель.
+         * @throws IllegalStateException если построитель уже завершен методом {@link #build()}.
+         */
+        public Builder<E> add(E element) {
+            ensureEditable();
+            if (size == Integer.MAX_VALUE) {
+                throw new OutOfMemoryError("Required array size is too large");
+            }
+            if (size - tailOffset(size) < WIDTH) {
+                tail[size & MASK] = element;
+                size++;
+                return this;
+            }
+            Node tailNode = new Node(owner, tail);
+            tail = new Object[WIDTH];
+            tail[0] = element;
+            if ((size >>> BITS) > (1 << shift)) {
+                Node newRoot = new Node(owner, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(owner, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(owner, size, shift, root, tailNode);
+            }
+            size++;
+            return this;
+        }
+
+        /**
+         * Заменяет элемент в указанной позиции.
+         *
+         * @param index   позиция замещаемого элемента.
+         * @param element новый элемент.
+         * @return этот построитель.
+         * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+         * @throws IllegalStateException     если построитель уже завершен методом {@link #build()}.
+         */
+        public Builder<E> set(int index, E element) {
+            ensureEditable();
+            if (index >= size || index < 0) {
+                throw new IndexOutOfBoundsException("Index cannot be greater than the current array size = " + size
+                        + " or less than 0!");
+            }
+            if (index >= tailOffset(size)) {
+                tail[index & MASK] = element;
+            } else {
+                root = assoc(owner, shift, root, index, element);
+            }
+            return this;
+        }
+
+        /**
+         * Возвращает количество добавленных элементов.
+         *
+         * @return количество элементов.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Завершает построение и возвращает неизменяемый список. После вызова построитель использовать нельзя.
+         *
+         * @return неизменяемый список с добавленными элементами.
+         * @throws IllegalStateException если построитель уже завершен.
+         */
+        public PersistentCustomList<E> build() {
+            ensureEditable();
+            owner = null;
+            if (size == 0) {
+                return empty();
+            }
+            return new PersistentCustomList<>(size, shift, root, Arrays.copyOf(tail, size - tailOffset(size)));
+        }
+
+        private void ensureEditable() {
+            if (owner == null) {
+                throw new IllegalStateException("Builder has already been built!");
+            }
+        }
+    }
+
+}
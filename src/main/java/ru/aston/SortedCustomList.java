@@ -0,0 +1,262 @@
+package ru.aston;
+
+import ru.aston.util.MergeSortUtil;
+import ru.aston.util.SortedListUtil;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * {@code SortedCustomList} реализация интерфейса {@link CustomList}, которая всегда хранит элементы
+ * в отсортированном порядке.
+ *
+ * <p>Элементы хранятся в {@link CustomArrayList}. {@link #add(Object)} находит позицию двоичным поиском
+ * и сдвигает хвост один раз, {@link #binarySearch(Object)}, {@link #indexOf(Object)}, {@link #lastIndexOf(Object)}
+ * и {@link #contains(Object)} выполняются за {@code O(log n)} плюс просмотр элементов, равных искомому по порядку.
+ * Порядок задается компаратором или, если он не передан, в соответствии с Comparable. Равные элементы
+ * хранятся в порядке добавления.
+ *
+ * <p>Операции, которые могут нарушить порядок ({@link #add(int, Object)}, {@link #set(int, Object)}
+ * и вставка по позиции), бросают {@link UnsupportedOperationException}. Список не потокобезопасен.
+ *
+ * @param <E> тип элементов в листе.
+ * @author Серова Дарья
+ * @version 1.0
+ * @see SortedListUtil
+ * @since 2023-08-15
+ */
+
+public class SortedCustomList<E> implements CustomList<E> {
+
+    private final Comparator<? super E> comparator;
+
+    private CustomArrayList<E> elements = new CustomArrayList<>();
+
+    /**
+     * Создает пустой список, упорядоченный в соответствии с Comparable.
+     * Добавление элементов, не реализующих Comparable, бросает {@link ClassCastException}.
+     */
+    public SortedCustomList() {
+        this.comparator = (Comparator<? super E>) Comparator.naturalOrder();
+    }
+
+    /**
+     * Создает пустой список, упорядоченный компаратором.
+     *
+     * @param comparator компаратор элементов.
+     * @throws NullPointerException если компаратор равен {@code null}.
+     */
+    public SortedCustomList(Comparator<? super E> comparator) {
+        if (comparator == null) {
+            throw new NullPointerException("Comparator can't be null!");
+        }
+        this.comparator = comparator;
+    }
+
+    /**
+     * Вставляет элемент в позицию, сохраняющую порядок, за {@code O(log n)} сравнений и один сдвиг хвоста.
+     *
+     * @param element элемент, который нужно добавить в список.
+     * @return {@code true} - элемент успешно добавлен.
+     */
+    @Override
+    public boolean add(E element) {
+        SortedListUtil.insertSorted(elements, element, comparator);
+        return true;
+    }
+
+    /**
+     * Не поддерживается: позиция элемента определяется порядком.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public void add(int index, E element) {
+        throw new UnsupportedOperationException("SortedCustomList doesn't support insertion by index!");
+    }
+
+    /**
+     * Добавляет все элементы передаваемого списка: устойчиво сортирует их копию и сливает с элементами этого списка
+     * за {@code O(m log m + n + m)}.
+     * Результат слияния заменяет внутренний список, поэтому открытый итератор продолжает обходить прежние
+     * элементы и не бросает {@link java.util.ConcurrentModificationException}.
+     *
+     * @param list список, элементы которого нужно добавить.
+     * @return {@code true} - если список изменился.
+     */
+    @Override
+    public boolean addAll(CustomList<? extends E> list) {
+        if (list.size() == 0) {
+            return false;
+        }
+        CustomArrayList<E> added = new CustomArrayList<>(list.size());
+        added.addAll(list);
+        MergeSortUtil.sort(added, comparator, 0, added.size() - 1);
+        elements = SortedListUtil.merge(elements, added, comparator);
+        return true;
+    }
+
+    /**
+     * Не поддерживается: позиция элементов определяется порядком.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public boolean addAll(int index, CustomList<? extends E> list) {
+        throw new UnsupportedOperationException("SortedCustomList doesn't support insertion by index!");
+    }
+
+    /**
+     * Возвращает элемент в указанной позиции списка.
+     *
+     * @param index позиция искомого элемента в списке.
+     * @return элемент в указанной позиции.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    /**
+     * Не поддерживается: замена элемента может нарушить порядок.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public E set(int index, E element) {
+        throw new UnsupportedOperationException("SortedCustomList doesn't support replacement by index!");
+    }
+
+    /**
+     * Удаляет элемент в списке из указанной позиции.
+     *
+     * @param index позиция удаляемого элемента.
+     * @return элемент, который был удален из списка.
+     * @throws IndexOutOfBoundsException если позиция вне диапазона {@code (index >= size || index < 0)}.
+     */
+    @Override
+    public E remove(int index) {
+        return elements.remove(index);
+    }
+
+    /**
+     * Удаляет из списка элементы с позициями от {@code fromIndex} включительно до {@code toIndex} не включительно.
+     *
+     * @param fromIndex позиция первого удаляемого элемента.
+     * @param toIndex   позиция, следующая за последним удаляемым элементом.
+     * @throws IndexOutOfBoundsException если {@code (fromIndex < 0 || toIndex > size || fromIndex > toIndex)}.
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        elements.removeRange(fromIndex, toIndex);
+    }
+
+    /**
+     * Удаляет из списка все элементы, удовлетворяющие условию. Порядок остальных элементов сохраняется.
+     *
+     * @param filter условие удаления.
+     * @return {@code true} - если был удален хотя бы один элемент.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        return elements.removeIf(filter);
+    }
+
+    /**
+     * Возвращает позицию элемента, равного передаваемому по порядку списка, двоичным поиском за {@code O(log n)}.
+     *
+     * @param element искомый элемент.
+     * @return позиция элемента, если он есть в списке, иначе {@code -(точка вставки) - 1}.
+     */
+    public int binarySearch(E element) {
+        return SortedListUtil.binarySearch(elements, element, comparator);
+    }
+
+    /**
+     * Возвращает позицию первого элемента, равного передаваемому. Двоичным поиском компаратором находится
+     * начало диапазона элементов, равных искомому по порядку, затем в нем ищется элемент, равный по
+     * {@link Objects#equals(Object, Object)}.
+     *
+     * @param o искомый элемент.
+     * @return позиция первого равного элемента или {@code -1}.
+     * @throws ClassCastException если элемент нельзя сравнить с элементами списка.
+     */
+    @Override
+    public int indexOf(Object o) {
+        E key = (E) o;
+        int size = elements.size();
+        int i = SortedListUtil.lowerBound(elements, key, comparator);
+        for (; i < size && comparator.compare(elements.get(i), key) == 0; i++) {
+            if (Objects.equals(o, elements.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает позицию последнего элемента, равного передаваемому. Диапазон элементов, равных искомому
+     * по порядку, просматривается с конца.
+     *
+     * @param o искомый элемент.
+     * @return позиция последнего равного элемента или {@code -1}.
+     * @throws ClassCastException если элемент нельзя сравнить с элементами списка.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        E key = (E) o;
+        int i = SortedListUtil.upperBound(elements, key, comparator) - 1;
+        for (; i >= 0 && comparator.compare(elements.get(i), key) == 0; i--) {
+            if (Objects.equals(o, elements.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Проверяет, есть ли в списке элемент, равный передаваемому, двоичным поиском.
+     *
+     * @param o искомый элемент.
+     * @return {@code true} - если в списке есть равный элемент.
+     * @throws ClassCastException если элемент нельзя сравнить с элементами списка.
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return возвращает количество элементов в списке.
+     */
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Удаляет все элементы из этого списка.
+     * Список будет пустым.
+     */
+    @Override
+    public void clear() {
+        elements.clear();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return elements.iterator();
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        elements.forEach(action);
+    }
+
+}
@@ -0,0 +1,93 @@
+package ru.aston.codec;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Поток, читающий из канала блоки, записанные {@link BlockOutputStream}.
+ * Читает из канала ровно столько байт, сколько занимают блоки, включая завершающий блок нулевой длины,
+ * поэтому данные, записанные в канал после списка, остаются непрочитанными. Канал не закрывается.
+ */
+
+final class BlockInputStream extends InputStream {
+
+    private final ReadableByteChannel channel;
+
+    private final ByteBuffer lengthBuffer = ByteBuffer.allocate(Integer.BYTES);
+
+    private int remainingInBlock;
+
+    private boolean finished;
+
+    BlockInputStream(ReadableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] single = new byte[1];
+        return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        while (remainingInBlock == 0) {
+            if (finished) {
+                return -1;
+            }
+            nextBlock();
+        }
+
+        ByteBuffer target = ByteBuffer.wrap(bytes, offset, Math.min(length, remainingInBlock));
+        int read;
+        do {
+            read = channel.read(target);
+        } while (read == 0);
+        if (read < 0) {
+            throw new EOFException("Unexpected end of list data!");
+        }
+        remainingInBlock -= read;
+        return read;
+    }
+
+    /**
+     * Проверяет, что все блоки прочитаны, и читает завершающий блок нулевой длины.
+     *
+     * @throws IOException если после прочитанных данных в блоках остались байты.
+     */
+    void finish() throws IOException {
+        if (remainingInBlock == 0 && !finished) {
+            nextBlock();
+        }
+        if (!finished) {
+            throw new IOException("Unexpected data after list elements!");
+        }
+    }
+
+    private void nextBlock() throws IOException {
+        lengthBuffer.clear();
+        readFully(channel, lengthBuffer);
+        int length = lengthBuffer.getInt(0);
+        if (length < 0) {
+            throw new IOException("Corrupted list data: negative block length " + length);
+        }
+        if (length == 0) {
+            finished = true;
+        }
+        remainingInBlock = length;
+    }
+
+    static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Unexpected end of list data!");
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package ru.aston.codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Поток, который буферизует данные и записывает их в канал блоками вида {@code [длина][байты]}.
+ * {@link #finish()} записывает оставшиеся данные и завершающий блок нулевой длины.
+ * Канал не закрывается.
+ */
+
+final class BlockOutputStream extends OutputStream {
+
+    private final WritableByteChannel channel;
+
+    /**
+     * Буфер блока: первые 4 байта зарезервированы под длину.
+     */
+    private final ByteBuffer frame;
+
+    BlockOutputStream(WritableByteChannel channel, int blockSize) {
+        this.channel = channel;
+        this.frame = ByteBuffer.allocate(Integer.BYTES + blockSize);
+        this.frame.position(Integer.BYTES);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (!frame.hasRemaining()) {
+            flushBlock();
+        }
+        frame.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        while (length > 0) {
+            if (!frame.hasRemaining()) {
+                flushBlock();
+            }
+            int chunk = Math.min(length, frame.remaining());
+            frame.put(bytes, offset, chunk);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    /**
+     * Записывает накопленные данные отдельным блоком, если они есть.
+     *
+     * @throws IOException если запись не удалась.
+     */
+    void flushBlock() throws IOException {
+        int length = frame.position() - Integer.BYTES;
+        if (length == 0) {
+            return;
+        }
+        frame.putInt(0, length);
+        frame.flip();
+        writeFully(channel, frame);
+        frame.clear();
+        frame.position(Integer.BYTES);
+    }
+
+    /**
+     * Записывает накопленные данные и завершающий блок нулевой длины.
+     *
+     * @throws IOException если запись не удалась.
+     */
+    void finish() throws IOException {
+        flushBlock();
+        writeFully(channel, ByteBuffer.allocate(Integer.BYTES).putInt(0, 0));
+    }
+
+    static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package ru.aston.codec;
+
+import ru.aston.CustomList;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Кодек, который кодирует и декодирует элементы сразу блоками в {@link ByteBuffer},
+ * минуя {@link java.io.DataOutput} и {@link java.io.DataInput} на каждый элемент.
+ * Используется {@link CustomListSerializer} как быстрый путь для стандартных кодеков {@link StreamCodecs}.
+ *
+ * @param <E> тип кодируемых элементов.
+ */
+
+interface ChunkedStreamCodec<E> extends StreamCodec<E> {
+
+    /**
+     * Кодирует элементы листа начиная с позиции {@code from}, пока они целиком помещаются в буфер.
+     *
+     * @param list   лист с элементами.
+     * @param from   позиция первого кодируемого элемента.
+     * @param buffer буфер в режиме записи.
+     * @return позиция первого незакодированного элемента.
+     */
+    int encode(CustomList<? extends E> list, int from, ByteBuffer buffer);
+
+    /**
+     * Декодирует из буфера целые элементы и добавляет их в конец листа.
+     * Неполный последний элемент остается в буфере.
+     *
+     * @param buffer    буфер в режиме чтения.
+     * @param list      лист, в который добавляются элементы.
+     * @param remaining максимальное количество декодируемых элементов.
+     * @return количество декодированных элементов.
+     */
+    int decode(ByteBuffer buffer, CustomList<? super E> list, int remaining);
+}
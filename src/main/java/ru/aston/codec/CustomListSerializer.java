@@ -0,0 +1,201 @@
+package ru.aston.codec;
+
+import ru.aston.CustomArrayList;
+import ru.aston.CustomList;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Класс, предоставляющий потоковую сериализацию листов {@link CustomList} в компактный двоичный формат.
+ *
+ * <p>Формат (все числа big-endian):
+ * <pre>
+ * заголовок, {@value #HEADER_SIZE} байт:
+ *   int    сигнатура 0x43414C53 ("CALS")
+ *   short  версия формата
+ *   short  зарезервировано
+ *   int    идентификатор кодека {@link StreamCodec#id()}
+ *   int    количество элементов
+ * блоки данных:
+ *   int    длина блока в байтах, больше 0
+ *   byte[] закодированные элементы
+ * завершающий блок:
+ *   int    0
+ * </pre>
+ * Элемент может продолжаться в следующем блоке. Блоки позволяют читать из канала ровно столько байт,
+ * сколько занимает лист, поэтому в один поток можно записать несколько листов подряд.
+ *
+ * <p>Стандартные кодеки {@link StreamCodecs} кодируют элементы сразу в буфер блока, остальные кодеки
+ * пишут через {@link java.io.DataOutput}. При чтении емкость листа задается один раз по количеству
+ * элементов из заголовка, но только после того, как из потока прочитаны первые данные: заголовок пустого
+ * или обрезанного потока не приводит к выделению массива. Каналы и потоки не закрываются.
+ *
+ * @author Серова Дарья
+ * @version 1.0
+ * @see StreamCodec
+ * @since 2023-08-15
+ */
+
+public final class CustomListSerializer {
+
+    /**
+     * Сигнатура потока.
+     */
+    static final int MAGIC = 0x43414C53;
+
+    /**
+     * Версия формата.
+     */
+    static final short VERSION = 1;
+
+    /**
+     * Размер заголовка в байтах.
+     */
+    static final int HEADER_SIZE = 16;
+
+    /**
+     * Размер блока данных по умолчанию.
+     */
+    static final int BLOCK_SIZE = 1 << 16;
+
+    private CustomListSerializer() {
+    }
+
+    /**
+     * Записывает лист в канал.
+     *
+     * @param list    лист, который нужно записать.
+     * @param codec   кодек элементов.
+     * @param channel канал, в который записывается лист.
+     * @param <E>     тип элементов содержащихся в листе.
+     * @throws IOException если запись не удалась.
+     */
+    public static <E> void write(CustomList<E> list, StreamCodec<? super E> codec, WritableByteChannel channel)
+            throws IOException {
+        int size = list.size();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putShort(VERSION)
+                .putShort((short) 0)
+                .putInt(codec.id())
+                .putInt(size);
+        header.flip();
+        BlockOutputStream.writeFully(channel, header);
+
+        if (codec instanceof ChunkedStreamCodec) {
+            writeChunks(list, (ChunkedStreamCodec<? super E>) codec, channel);
+            return;
+        }
+
+        BlockOutputStream blocks = new BlockOutputStream(channel, BLOCK_SIZE);
+        DataOutputStream out = new DataOutputStream(blocks);
+        for (int i = 0; i < size; i++) {
+            codec.write(out, list.get(i));
+        }
+        out.flush();
+        blocks.finish();
+    }
+
+    /**
+     * Читает лист из канала.
+     *
+     * @param channel канал, из которого читается лист.
+     * @param codec   кодек элементов.
+     * @param <E>     тип элементов содержащихся в листе.
+     * @return прочитанный лист с емкостью, равной количеству элементов.
+     * @throws IOException если чтение не удалось, данные повреждены или записаны другим кодеком.
+     */
+    public static <E> CustomArrayList<E> read(ReadableByteChannel channel, StreamCodec<E> codec) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        BlockInputStream.readFully(channel, header);
+        if (header.getInt(0) != MAGIC) {
+            throw new IOException("Stream does not contain a CustomList!");
+        }
+        short version = header.getShort(4);
+        if (version != VERSION) {
+            throw new IOException("Unsupported CustomList format version " + version);
+        }
+        int codecId = header.getInt(8);
+        if (codecId != codec.id()) {
+            throw new IOException("CustomList was written with codec " + codecId + ", but codec " + codec.id()
+                    + " is used to read it");
+        }
+        int size = header.getInt(12);
+        if (size < 0) {
+            throw new IOException("Corrupted CustomList header: negative size " + size);
+        }
+
+        CustomArrayList<E> list = new CustomArrayList<>(0);
+        BlockInputStream blocks = new BlockInputStream(channel);
+        if (codec instanceof ChunkedStreamCodec) {
+            readChunks(blocks, (ChunkedStreamCodec<E>) codec, list, size);
+        } else {
+            DataInputStream in = new DataInputStream(blocks);
+            for (int i = 0; i < size; i++) {
+                E element = codec.read(in);
+                if (i == 0) {
+                    list.ensureCapacity(size);
+                }
+                list.add(element);
+            }
+        }
+        blocks.finish();
+        return list;
+    }
+
+    private static <E> void writeChunks(CustomList<E> list, ChunkedStreamCodec<? super E> codec,
+                                        WritableByteChannel channel) throws IOException {
+        int size = list.size();
+        ByteBuffer frame = ByteBuffer.allocate(Integer.BYTES + BLOCK_SIZE);
+        int next = 0;
+        while (next < size) {
+            frame.clear();
+            frame.position(Integer.BYTES);
+            int encoded = codec.encode(list, next, frame);
+            if (encoded == next) {
+                // элемент не помещается в пустой блок
+                frame = ByteBuffer.allocate(Integer.BYTES + (frame.capacity() - Integer.BYTES) * 2);
+                continue;
+            }
+            frame.putInt(0, frame.position() - Integer.BYTES);
+            frame.flip();
+            BlockOutputStream.writeFully(channel, frame);
+            next = encoded;
+        }
+        BlockOutputStream.writeFully(channel, ByteBuffer.allocate(Integer.BYTES).putInt(0, 0));
+    }
+
+    private static <E> void readChunks(BlockInputStream blocks, ChunkedStreamCodec<E> codec, CustomArrayList<E> list,
+                                       int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BLOCK_SIZE);
+        int decoded = 0;
+        while (decoded < size) {
+            int read = blocks.read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            if (read < 0) {
+                throw new IOException("Corrupted CustomList data: expected " + size + " elements, found " + decoded);
+            }
+            if (decoded == 0) {
+                list.ensureCapacity(size);
+            }
+            buffer.position(buffer.position() + read);
+            buffer.flip();
+            decoded += codec.decode(buffer, list, size - decoded);
+            if (buffer.remaining() == buffer.capacity()) {
+                // элемент не помещается в буфер
+                ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+                larger.put(buffer);
+                buffer = larger;
+            } else {
+                buffer.compact();
+            }
+        }
+        if (buffer.position() != 0) {
+            throw new IOException("Unexpected data after list elements!");
+        }
+    }
+}
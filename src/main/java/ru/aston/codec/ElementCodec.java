@@ -0,0 +1,44 @@
+package ru.aston.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Кодек элементов фиксированного размера для списков, хранящих элементы в {@link ByteBuffer}.
+ * Каждый элемент занимает ровно {@link #size()} байт и читается/записывается по абсолютному смещению,
+ * без изменения позиции буфера.
+ *
+ * @param <E> тип кодируемых элементов.
+ * @author Серова Дарья
+ * @version 1.0
+ * @see ElementCodecs
+ * @since 2023-08-15
+ */
+
+public interface ElementCodec<E> {
+
+    /**
+     * Возвращает размер одного закодированного элемента в байтах.
+     *
+     * @return размер элемента в байтах, больше 0.
+     */
+    int size();
+
+    /**
+     * Записывает элемент в буфер начиная с указанного смещения.
+     *
+     * @param buffer  буфер, в который записывается элемент.
+     * @param offset  смещение первого байта элемента.
+     * @param element записываемый элемент.
+     * @throws NullPointerException если кодек не поддерживает {@code null}, а {@code element == null}.
+     */
+    void write(ByteBuffer buffer, int offset, E element);
+
+    /**
+     * Читает элемент из буфера начиная с указанного смещения.
+     *
+     * @param buffer буфер, из которого читается элемент.
+     * @param offset смещение первого байта элемента.
+     * @return прочитанный элемент.
+     */
+    E read(ByteBuffer buffer, int offset);
+}
@@ -0,0 +1,79 @@
+package ru.aston.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Стандартные кодеки {@link ElementCodec} для упакованных примитивных типов.
+ * Кодеки не поддерживают {@code null} и бросают {@link NullPointerException} при записи {@code null}.
+ *
+ * @author Серова Дарья
+ * @version 1.0
+ * @see ElementCodec
+ * @since 2023-08-15
+ */
+
+public final class ElementCodecs {
+
+    /**
+     * Кодек {@link Integer}, 4 байта на элемент.
+     */
+    public static final ElementCodec<Integer> INT = new ElementCodec<>() {
+        @Override
+        public int size() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Integer element) {
+            buffer.putInt(offset, element);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    /**
+     * Кодек {@link Long}, 8 байт на элемент.
+     */
+    public static final ElementCodec<Long> LONG = new ElementCodec<>() {
+        @Override
+        public int size() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long element) {
+            buffer.putLong(offset, element);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    /**
+     * Кодек {@link Double}, 8 байт на элемент.
+     */
+    public static final ElementCodec<Double> DOUBLE = new ElementCodec<>() {
+        @Override
+        public int size() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Double element) {
+            buffer.putDouble(offset, element);
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+    };
+
+    private ElementCodecs() {
+    }
+}
@@ -0,0 +1,48 @@
+package ru.aston.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Кодек элементов для потоковой сериализации списков {@link CustomListSerializer}.
+ * В отличие от {@link ElementCodec}, размер закодированного элемента может быть переменным.
+ *
+ * <p>Идентификатор {@link #id()} записывается в заголовок потока и проверяется при чтении, чтобы данные
+ * не были прочитаны несовместимым кодеком. Идентификаторы от 0 до 99 зарезервированы для {@link StreamCodecs}.
+ *
+ * @param <E> тип кодируемых элементов.
+ * @author Серова Дарья
+ * @version 1.0
+ * @see StreamCodecs
+ * @see CustomListSerializer
+ * @since 2023-08-15
+ */
+
+public interface StreamCodec<E> {
+
+    /**
+     * Возвращает идентификатор формата элементов.
+     *
+     * @return идентификатор кодека.
+     */
+    int id();
+
+    /**
+     * Записывает элемент в поток.
+     *
+     * @param out     поток, в который записывается элемент.
+     * @param element записываемый элемент.
+     * @throws IOException если запись не удалась.
+     */
+    void write(DataOutput out, E element) throws IOException;
+
+    /**
+     * Читает элемент из потока.
+     *
+     * @param in поток, из которого читается элемент.
+     * @return прочитанный элемент.
+     * @throws IOException если чтение не удалось или данные повреждены.
+     */
+    E read(DataInput in) throws IOException;
+}
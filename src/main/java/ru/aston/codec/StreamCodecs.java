@@ -0,0 +1,219 @@
+package ru.aston.codec;
+
+import ru.aston.CustomList;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Стандартные кодеки {@link StreamCodec}. Кодируют и декодируют элементы блоками, без вызова
+ * {@link DataOutput}/{@link DataInput} на каждый элемент.
+ *
+ * <p>Числовые кодеки не поддерживают {@code null} и бросают {@link NullPointerException} при записи {@code null}.
+ * {@link #STRING} записывает строку как длину в байтах (4 байта, {@code -1} для {@code null}) и байты UTF-8.
+ *
+ * @author Серова Дарья
+ * @version 1.0
+ * @see StreamCodec
+ * @since 2023-08-15
+ */
+
+public final class StreamCodecs {
+
+    /**
+     * Кодек {@link Integer}, 4 байта на элемент.
+     */
+    public static final StreamCodec<Integer> INT = new ChunkedStreamCodec<>() {
+        @Override
+        public int id() {
+            return 1;
+        }
+
+        @Override
+        public void write(DataOutput out, Integer element) throws IOException {
+            out.writeInt(element);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+
+        @Override
+        public int encode(CustomList<? extends Integer> list, int from, ByteBuffer buffer) {
+            int to = Math.min(list.size(), from + buffer.remaining() / Integer.BYTES);
+            for (int i = from; i < to; i++) {
+                buffer.putInt(list.get(i));
+            }
+            return to;
+        }
+
+        @Override
+        public int decode(ByteBuffer buffer, CustomList<? super Integer> list, int remaining) {
+            int count = Math.min(remaining, buffer.remaining() / Integer.BYTES);
+            for (int i = 0; i < count; i++) {
+                list.add(buffer.getInt());
+            }
+            return count;
+        }
+    };
+
+    /**
+     * Кодек {@link Long}, 8 байт на элемент.
+     */
+    public static final StreamCodec<Long> LONG = new ChunkedStreamCodec<>() {
+        @Override
+        public int id() {
+            return 2;
+        }
+
+        @Override
+        public void write(DataOutput out, Long element) throws IOException {
+            out.writeLong(element);
+        }
+
+        @Override
+        public Long read(DataInput in) throws IOException {
+            return in.readLong();
+        }
+
+        @Override
+        public int encode(CustomList<? extends Long> list, int from, ByteBuffer buffer) {
+            int to = Math.min(list.size(), from + buffer.remaining() / Long.BYTES);
+            for (int i = from; i < to; i++) {
+                buffer.putLong(list.get(i));
+            }
+            return to;
+        }
+
+        @Override
+        public int decode(ByteBuffer buffer, CustomList<? super Long> list, int remaining) {
+            int count = Math.min(remaining, buffer.remaining() / Long.BYTES);
+            for (int i = 0; i < count; i++) {
+                list.add(buffer.getLong());
+            }
+            return count;
+        }
+    };
+
+    /**
+     * Кодек {@link Double}, 8 байт на элемент.
+     */
+    public static final StreamCodec<Double> DOUBLE = new ChunkedStreamCodec<>() {
+        @Override
+        public int id() {
+            return 3;
+        }
+
+        @Override
+        public void write(DataOutput out, Double element) throws IOException {
+            out.writeDouble(element);
+        }
+
+        @Override
+        public Double read(DataInput in) throws IOException {
+            return in.readDouble();
+        }
+
+        @Override
+        public int encode(CustomList<? extends Double> list, int from, ByteBuffer buffer) {
+            int to = Math.min(list.size(), from + buffer.remaining() / Double.BYTES);
+            for (int i = from; i < to; i++) {
+                buffer.putDouble(list.get(i));
+            }
+            return to;
+        }
+
+        @Override
+        public int decode(ByteBuffer buffer, CustomList<? super Double> list, int remaining) {
+            int count = Math.min(remaining, buffer.remaining() / Double.BYTES);
+            for (int i = 0; i < count; i++) {
+                list.add(buffer.getDouble());
+            }
+            return count;
+        }
+    };
+
+    /**
+     * Кодек {@link String}: длина в байтах и байты UTF-8, поддерживает {@code null}.
+     */
+    public static final StreamCodec<String> STRING = new ChunkedStreamCodec<>() {
+        @Override
+        public int id() {
+            return 4;
+        }
+
+        @Override
+        public void write(DataOutput out, String element) throws IOException {
+            if (element == null) {
+                out.writeInt(-1);
+                return;
+            }
+            byte[] bytes = element.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException {
+            int length = in.readInt();
+            if (length < 0) {
+                return null;
+            }
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public int encode(CustomList<? extends String> list, int from, ByteBuffer buffer) {
+            int size = list.size();
+            int i = from;
+            while (i < size) {
+                String element = list.get(i);
+                if (element == null) {
+                    if (buffer.remaining() < Integer.BYTES) {
+                        break;
+                    }
+                    buffer.putInt(-1);
+                } else {
+                    byte[] bytes = element.getBytes(StandardCharsets.UTF_8);
+                    if (buffer.remaining() < Integer.BYTES + bytes.length) {
+                        break;
+                    }
+                    buffer.putInt(bytes.length);
+                    buffer.put(bytes);
+                }
+                i++;
+            }
+            return i;
+        }
+
+        @Override
+        public int decode(ByteBuffer buffer, CustomList<? super String> list, int remaining) {
+            int count = 0;
+            while (count < remaining && buffer.remaining() >= Integer.BYTES) {
+                int length = buffer.getInt(buffer.position());
+                if (length < 0) {
+                    buffer.position(buffer.position() + Integer.BYTES);
+                    list.add(null);
+                } else {
+                    if (buffer.remaining() - Integer.BYTES < length) {
+                        break;
+                    }
+                    int start = buffer.position() + Integer.BYTES;
+                    list.add(new String(buffer.array(), buffer.arrayOffset() + start, length, StandardCharsets.UTF_8));
+                    buffer.position(start + length);
+                }
+                count++;
+            }
+            return count;
+        }
+    };
+
+    private StreamCodecs() {
+    }
+}
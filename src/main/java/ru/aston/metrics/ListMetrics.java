@@ -0,0 +1,253 @@
+package ru.aston.metrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code ListMetrics} счетчики работы одного списка: добавления и удаления, изменения емкости, сдвиги элементов
+ * при вставке и удалении, гистограмма заполненности внутреннего массива и время сортировок.
+ *
+ * <p>Метрики включаются явно, например {@code CustomArrayList.enableMetrics()} или декоратором
+ * {@code InstrumentedCustomList}. Пока метрики не включены, список не выполняет никакой работы, кроме одной
+ * проверки на {@code null}. Счетчики потокобезопасны, поэтому их можно читать из другого потока, в том числе
+ * через JMX после {@link #register(String)}. {@link #snapshot()} возвращает согласованный по каждому счетчику
+ * снимок, {@link #reset()} обнуляет счетчики.
+ *
+ * <p>Изменения емкости и сортировки дополнительно публикуются событиями JFR {@code ru.aston.CustomListResize}
+ * и {@code ru.aston.CustomListSort}, если они включены в записи JFR.
+ *
+ * @author Серова Дарья
+ * @version 1.0
+ * @see ListMetricsMXBean
+ * @see ListMetricsSnapshot
+ * @since 2023-08-15
+ */
+
+public final class ListMetrics implements ListMetricsMXBean {
+
+    /**
+     * Домен JMX, в котором регистрируются метрики.
+     */
+    public static final String JMX_DOMAIN = "ru.aston";
+
+    /**
+     * Количество интервалов гистограммы заполненности, по 10% каждый.
+     */
+    public static final int FILL_RATIO_BUCKETS = 10;
+
+    private final LongAdder additions = new LongAdder();
+
+    private final LongAdder removals = new LongAdder();
+
+    private final LongAdder resizes = new LongAdder();
+
+    private final LongAdder copiedOnResize = new LongAdder();
+
+    private final LongAdder shiftedElements = new LongAdder();
+
+    private final LongAdder sorts = new LongAdder();
+
+    private final LongAdder totalSortNanos = new LongAdder();
+
+    private final AtomicLong maxSortNanos = new AtomicLong();
+
+    private final AtomicLongArray fillRatioHistogram = new AtomicLongArray(FILL_RATIO_BUCKETS);
+
+    private volatile ObjectName objectName;
+
+    /**
+     * Учитывает добавление элементов.
+     *
+     * @param count количество добавленных элементов.
+     */
+    public void recordAdditions(long count) {
+        additions.add(count);
+    }
+
+    /**
+     * Учитывает удаление элементов.
+     *
+     * @param count количество удаленных элементов.
+     */
+    public void recordRemovals(long count) {
+        removals.add(count);
+    }
+
+    /**
+     * Учитывает изменение емкости внутреннего массива.
+     *
+     * @param oldCapacity    емкость до изменения.
+     * @param newCapacity    емкость после изменения.
+     * @param copiedElements количество скопированных в новый массив элементов.
+     */
+    public void recordResize(int oldCapacity, int newCapacity, int copiedElements) {
+        resizes.increment();
+        copiedOnResize.add(copiedElements);
+        ResizeEvent event = new ResizeEvent();
+        if (event.isEnabled()) {
+            event.oldCapacity = oldCapacity;
+            event.newCapacity = newCapacity;
+            event.copiedElements = copiedElements;
+            event.commit();
+        }
+    }
+
+    /**
+     * Учитывает сдвиг элементов при вставке или удалении.
+     *
+     * @param count количество сдвинутых элементов.
+     */
+    public void recordShift(long count) {
+        shiftedElements.add(count);
+    }
+
+    /**
+     * Добавляет замер заполненности внутреннего массива в гистограмму.
+     *
+     * @param size     количество элементов.
+     * @param capacity емкость внутреннего массива; при нулевой емкости замер не учитывается.
+     */
+    public void recordFillRatio(int size, int capacity) {
+        if (capacity <= 0) {
+            return;
+        }
+        int bucket = (int) Math.min(FILL_RATIO_BUCKETS - 1, (long) size * FILL_RATIO_BUCKETS / capacity);
+        fillRatioHistogram.incrementAndGet(bucket);
+    }
+
+    /**
+     * Учитывает выполненную сортировку.
+     *
+     * @param length    количество отсортированных элементов.
+     * @param sortNanos время сортировки в наносекундах.
+     */
+    public void recordSort(int length, long sortNanos) {
+        sorts.increment();
+        totalSortNanos.add(sortNanos);
+        maxSortNanos.accumulateAndGet(sortNanos, Math::max);
+        SortEvent event = new SortEvent();
+        if (event.isEnabled()) {
+            event.length = length;
+            event.sortNanos = sortNanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public long getAdditions() {
+        return additions.sum();
+    }
+
+    @Override
+    public long getRemovals() {
+        return removals.sum();
+    }
+
+    @Override
+    public long getResizes() {
+        return resizes.sum();
+    }
+
+    @Override
+    public long getCopiedOnResize() {
+        return copiedOnResize.sum();
+    }
+
+    @Override
+    public long getShiftedElements() {
+        return shiftedElements.sum();
+    }
+
+    @Override
+    public long getSorts() {
+        return sorts.sum();
+    }
+
+    @Override
+    public long getTotalSortNanos() {
+        return totalSortNanos.sum();
+    }
+
+    @Override
+    public long getMaxSortNanos() {
+        return maxSortNanos.get();
+    }
+
+    @Override
+    public long[] getFillRatioHistogram() {
+        long[] histogram = new long[FILL_RATIO_BUCKETS];
+        for (int i = 0; i < FILL_RATIO_BUCKETS; i++) {
+            histogram[i] = fillRatioHistogram.get(i);
+        }
+        return histogram;
+    }
+
+    /**
+     * Возвращает снимок текущих значений всех метрик.
+     *
+     * @return неизменяемый снимок метрик.
+     */
+    public ListMetricsSnapshot snapshot() {
+        return new ListMetricsSnapshot(getAdditions(), getRemovals(), getResizes(), getCopiedOnResize(),
+                getShiftedElements(), getSorts(), getTotalSortNanos(), getMaxSortNanos(), getFillRatioHistogram());
+    }
+
+    @Override
+    public void reset() {
+        additions.reset();
+        removals.reset();
+        resizes.reset();
+        copiedOnResize.reset();
+        shiftedElements.reset();
+        sorts.reset();
+        totalSortNanos.reset();
+        maxSortNanos.set(0);
+        for (int i = 0; i < FILL_RATIO_BUCKETS; i++) {
+            fillRatioHistogram.set(i, 0);
+        }
+    }
+
+    /**
+     * Регистрирует метрики в платформенном MBean сервере под именем
+     * {@code ru.aston:type=CustomList,name="<name>"}.
+     *
+     * @param name имя списка.
+     * @return имя зарегистрированного MBean.
+     * @throws IllegalStateException если метрики уже зарегистрированы или регистрация не удалась.
+     */
+    public synchronized ObjectName register(String name) {
+        if (objectName != null) {
+            throw new IllegalStateException("Metrics are already registered as " + objectName + "!");
+        }
+        try {
+            ObjectName newName = new ObjectName(JMX_DOMAIN + ":type=CustomList,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, newName);
+            objectName = newName;
+            return newName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Can't register metrics as " + name + "!", e);
+        }
+    }
+
+    /**
+     * Снимает регистрацию метрик в MBean сервере, если они были зарегистрированы.
+     *
+     * @throws IllegalStateException если снять регистрацию не удалось.
+     */
+    public synchronized void unregister() {
+        if (objectName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            objectName = null;
+        } catch (JMException e) {
+            throw new IllegalStateException("Can't unregister metrics " + objectName + "!", e);
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+package ru.aston.metrics;
+
+/**
+ * JMX интерфейс метрик списка. Регистрируется методом {@link ListMetrics#register(String)}.
+ *
+ * @author Серова Дарья
+ * @version 1.0
+ * @see ListMetrics
+ * @since 2023-08-15
+ */
+
+public interface ListMetricsMXBean {
+
+    /**
+     * @return количество добавленных элементов.
+     */
+    long getAdditions();
+
+    /**
+     * @return количество удаленных элементов.
+     */
+    long getRemovals();
+
+    /**
+     * @return количество изменений емкости внутреннего массива.
+     */
+    long getResizes();
+
+    /**
+     * @return количество элементов, скопированных при изменении емкости.
+     */
+    long getCopiedOnResize();
+
+    /**
+     * @return суммарное количество элементов, сдвинутых при вставке и удалении.
+     */
+    long getShiftedElements();
+
+    /**
+     * @return количество сортировок.
+     */
+    long getSorts();
+
+    /**
+     * @return суммарное время сортировок в наносекундах.
+     */
+    long getTotalSortNanos();
+
+    /**
+     * @return время самой долгой сортировки в наносекундах.
+     */
+    long getMaxSortNanos();
+
+    /**
+     * @return гистограмма заполненности: элемент {@code i} - количество замеров, в которых отношение размера
+     * к емкости было в диапазоне {@code [i * 10%, (i + 1) * 10%)}, последний элемент включает 100%.
+     */
+    long[] getFillRatioHistogram();
+
+    /**
+     * Обнуляет все метрики.
+     */
+    void reset();
+
+}
@@ -0,0 +1,101 @@
+package ru.aston.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Неизменяемый снимок метрик списка на момент вызова {@link ListMetrics#snapshot()}.
+ *
+ * @author Серова Дарья
+ * @version 1.0
+ * @see ListMetrics
+ * @since 2023-08-15
+ */
+
+public final class ListMetricsSnapshot {
+
+    private final long additions;
+
+    private final long removals;
+
+    private final long resizes;
+
+    private final long copiedOnResize;
+
+    private final long shiftedElements;
+
+    private final long sorts;
+
+    private final long totalSortNanos;
+
+    private final long maxSortNanos;
+
+    private final long[] fillRatioHistogram;
+
+    ListMetricsSnapshot(long additions, long removals, long resizes, long copiedOnResize, long shiftedElements,
+                        long sorts, long totalSortNanos, long maxSortNanos, long[] fillRatioHistogram) {
+        this.additions = additions;
+        this.removals = removals;
+        this.resizes = resizes;
+        this.copiedOnResize = copiedOnResize;
+        this.shiftedElements = shiftedElements;
+        this.sorts = sorts;
+        this.totalSortNanos = totalSortNanos;
+        this.maxSortNanos = maxSortNanos;
+        this.fillRatioHistogram = fillRatioHistogram;
+    }
+
+    public long getAdditions() {
+        return additions;
+    }
+
+    public long getRemovals() {
+        return removals;
+    }
+
+    public long getResizes() {
+        return resizes;
+    }
+
+    public long getCopiedOnResize() {
+        return copiedOnResize;
+    }
+
+    public long getShiftedElements() {
+        return shiftedElements;
+    }
+
+    public long getSorts() {
+        return sorts;
+    }
+
+    public long getTotalSortNanos() {
+        return totalSortNanos;
+    }
+
+    public long getMaxSortNanos() {
+        return maxSortNanos;
+    }
+
+    /**
+     * @return копия гистограммы заполненности, см. {@link ListMetricsMXBean#getFillRatioHistogram()}.
+     */
+    public long[] getFillRatioHistogram() {
+        return fillRatioHistogram.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "ListMetricsSnapshot{"
+                + "additions=" + additions
+                + ", removals=" + removals
+                + ", resizes=" + resizes
+                + ", copiedOnResize=" + copiedOnResize
+                + ", shiftedElements=" + shiftedElements
+                + ", sorts=" + sorts
+                + ", totalSortNanos=" + totalSortNanos
+                + ", maxSortNanos=" + maxSortNanos
+                + ", fillRatioHistogram=" + Arrays.toString(fillRatioHistogram)
+                + '}';
+    }
+
+}
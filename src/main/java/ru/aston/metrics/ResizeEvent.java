@@ -0,0 +1,32 @@
+package ru.aston.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Событие JFR об изменении емкости внутреннего массива списка.
+ *
+ * @author Серова Дарья
+ * @version 1.0
+ * @since 2023-08-15
+ */
+
+@Name("ru.aston.CustomListResize")
+@Label("CustomList Resize")
+@Category("CustomList")
+@Description("Internal array of an instrumented CustomList was reallocated")
+final class ResizeEvent extends Event {
+
+    @Label("Old Capacity")
+    int oldCapacity;
+
+    @Label("New Capacity")
+    int newCapacity;
+
+    @Label("Copied Elements")
+    int copiedElements;
+
+}
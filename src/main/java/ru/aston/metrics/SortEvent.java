@@ -0,0 +1,31 @@
+package ru.aston.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Событие JFR о сортировке списка.
+ *
+ * @author Серова Дарья
+ * @version 1.0
+ * @since 2023-08-15
+ */
+
+@Name("ru.aston.CustomListSort")
+@Label("CustomList Sort")
+@Category("CustomList")
+@Description("Instrumented CustomList was sorted")
+final class SortEvent extends Event {
+
+    @Label("Sorted Elements")
+    int length;
+
+    @Label("Sort Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long sortNanos;
+
+}
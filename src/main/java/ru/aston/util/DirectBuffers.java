@@ -0,0 +1,62 @@
+package ru.aston.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Класс для явного освобождения памяти прямых ({@link ByteBuffer#allocateDirect(int)})
+ * и отображенных в память буферов, не дожидаясь сборки мусора.
+ *
+ * <p>Освобождение выполняется через {@code sun.misc.Unsafe#invokeCleaner} из модуля {@code jdk.unsupported}.
+ * Если он недоступен, {@link #free(ByteBuffer)} ничего не делает и память будет освобождена сборщиком мусора
+ * после того, как на буфер не останется ссылок.
+ *
+ * @author Серова Дарья
+ * @version 1.0
+ * @since 2023-08-15
+ */
+
+public final class DirectBuffers {
+
+    private static final Object UNSAFE;
+
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            unsafe = null;
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private DirectBuffers() {
+    }
+
+    /**
+     * Освобождает память прямого буфера. После вызова обращение к буферу приводит к неопределенному поведению,
+     * поэтому вызывающий код должен удалить все ссылки на буфер и его копии ({@code duplicate()}, {@code slice()}).
+     *
+     * @param buffer прямой буфер; {@code null} и буферы в куче игнорируются.
+     */
+    public static void free(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect() || INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // буфер будет освобожден сборщиком мусора
+        }
+    }
+}
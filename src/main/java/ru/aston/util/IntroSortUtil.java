@@ -0,0 +1,780 @@
+package ru.aston.util;
+
+import ru.aston.CustomList;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Класс, реализующий интроспективную сортировку (introsort) массивов и листов {@link CustomList}.
+ *
+ * <p>Сортировка основана на быстрой сортировке со следующими доработками:
+ * <ul>
+ *     <li>опорный элемент выбирается как медиана первого, среднего и последнего элементов диапазона,
+ *     поэтому уже отсортированные и обратно отсортированные данные делятся пополам;</li>
+ *     <li>деление на три части (меньше, равные, больше опорного), поэтому равные элементы
+ *     не участвуют в дальнейшей сортировке;</li>
+ *     <li>при превышении глубины рекурсии {@code 2 * log2(n)} диапазон досортировывается пирамидальной
+ *     сортировкой, что ограничивает время работы {@code O(n log n)};</li>
+ *     <li>рекурсия выполняется только для меньшей части, поэтому глубина стека не превышает {@code log2(n)};</li>
+ *     <li>диапазоны короче {@value #INSERTION_SORT_THRESHOLD} элементов сортируются вставками.</li>
+ * </ul>
+ * Для массивов {@code int[]}, {@code long[]} и {@code double[]} есть отдельные перегрузки, которые сравнивают
+ * значения без упаковки и не выделяют память.
+ * Сортировка не является устойчивой. Границы диапазонов во всех методах включительные,
+ * как и в {@link QuickSortUtil}.
+ *
+ * @author Серова Дарья
+ * @version 1.0
+ * @see QuickSortUtil
+ * @since 2023-08-15
+ */
+
+public final class IntroSortUtil {
+
+    /**
+     * Длина диапазона, начиная с которой вместо деления используется сортировка вставками.
+     */
+    static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Сравнение элементов согласно Comparable для массивов без информации о типе элементов.
+     * Используется также другими сортировками пакета.
+     */
+    @SuppressWarnings("unchecked")
+    static final Comparator<Object> NATURAL_ORDER = (o1, o2) -> ((Comparable<Object>) o1).compareTo(o2);
+
+    private IntroSortUtil() {
+    }
+
+    /**
+     * Сортирует диапазон массива согласно Comparable.
+     *
+     * @param array массив, который нужно отсортировать
+     * @param start нижняя граница сортируемого диапазона
+     * @param end   верхняя граница сортируемого диапазона
+     * @throws ClassCastException если элементы массива не реализуют Comparable
+     */
+    public static void sort(Object[] array, int start, int end) {
+        sort(array, NATURAL_ORDER, start, end);
+    }
+
+    /**
+     * Сортирует диапазон массива согласно правилам сортировки <Strong>comp</Strong>.
+     *
+     * @param array массив, который нужно отсортировать
+     * @param comp  правила сортировки заданные пользователем
+     * @param start нижняя граница сортируемого диапазона
+     * @param end   верхняя граница сортируемого диапазона
+     * @param <T>   тип элементов содержащихся в массиве
+     */
+    public static <T> void sort(T[] array, Comparator<? super T> comp, int start, int end) {
+        if (start >= end) {
+            return;
+        }
+        introSort(array, comp, start, end, depthLimit(end - start + 1));
+    }
+
+    /**
+     * Сортирует диапазон листа согласно Comparable, обращаясь к элементам через {@code get}/{@code set}.
+     *
+     * @param list  лист, который нужно отсортировать
+     * @param start нижняя граница сортируемого диапазона
+     * @param end   верхняя граница сортируемого диапазона
+     * @param <T>   тип элементов содержащихся в листе
+     */
+    public static <T extends Comparable<? super T>> void sort(CustomList<T> list, int start, int end) {
+        sort(list, Comparator.naturalOrder(), start, end);
+    }
+
+    /**
+     * Сортирует диапазон листа согласно правилам сортировки <Strong>comp</Strong>,
+     * обращаясь к элементам через {@code get}/{@code set}.
+     *
+     * @param list  лист, который нужно отсортировать
+     * @param comp  правила сортировки заданные пользователем
+     * @param start нижняя граница сортируемого диапазона
+     * @param end   верхняя граница сортируемого диапазона
+     * @param <T>   тип элементов содержащихся в листе
+     */
+    public static <T> void sort(CustomList<T> list, Comparator<? super T> comp, int start, int end) {
+        if (start >= end) {
+            return;
+        }
+        introSort(list, comp, start, end, depthLimit(end - start + 1));
+    }
+
+    /**
+     * Параллельно сортирует диапазон массива согласно Comparable.
+     *
+     * @param array     массив, который нужно отсортировать
+     * @param start     нижняя граница сортируемого диапазона
+     * @param end       верхняя граница сортируемого диапазона
+     * @param pool      пул, в котором выполняются подзадачи
+     * @param threshold длина диапазона, начиная с которой подзадачи сортируются последовательно
+     * @throws ClassCastException       если элементы массива не реализуют Comparable
+     * @throws IllegalArgumentException если {@code threshold < 1}
+     */
+    public static void parallelSort(Object[] array, int start, int end, ForkJoinPool pool, int threshold) {
+        parallelSort(array, NATURAL_ORDER, start, end, pool, threshold);
+    }
+
+    /**
+     * Параллельно сортирует диапазон массива согласно правилам сортировки <Strong>comp</Strong>.
+     * После каждого деления обе части, длина которых больше {@code threshold}, передаются в {@code pool}
+     * как независимые подзадачи. Если весь диапазон не длиннее {@code threshold} или параллелизм пула равен 1,
+     * сортировка выполняется последовательно в вызывающем потоке.
+     *
+     * @param array     массив, который нужно отсортировать
+     * @param comp      правила сортировки заданные пользователем
+     * @param start     нижняя граница сортируемого диапазона
+     * @param end       верхняя граница сортируемого диапазона
+     * @param pool      пул, в котором выполняются подзадачи
+     * @param threshold длина диапазона, начиная с которой подзадачи сортируются последовательно
+     * @param <T>       тип элементов содержащихся в массиве
+     * @throws IllegalArgumentException если {@code threshold < 1}
+     */
+    public static <T> void parallelSort(T[] array, Comparator<? super T> comp, int start, int end,
+                                        ForkJoinPool pool, int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Parallel threshold can't be less than 1!");
+        }
+        if (start >= end) {
+            return;
+        }
+
+        int depth = depthLimit(end - start + 1);
+        if (end - start + 1 <= threshold || pool.getParallelism() == 1) {
+            introSort(array, comp, start, end, depth);
+            return;
+        }
+        pool.invoke(new ParallelSortTask<>(array, comp, start, end, depth, threshold));
+    }
+
+    /**
+     * Возвращает максимальную глубину деления {@code 2 * floor(log2(length))}.
+     */
+    static int depthLimit(int length) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(length));
+    }
+
+    private static <T> void introSort(T[] array, Comparator<? super T> comp, int low, int high, int depth) {
+
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depth == 0) {
+                heapSort(array, comp, low, high);
+                return;
+            }
+            depth--;
+
+            long bounds = partition(array, comp, low, high);
+            int lt = lessBound(bounds);
+            int gt = greaterBound(bounds);
+
+            if (lt - low < high - gt) {
+                introSort(array, comp, low, lt - 1, depth);
+                low = gt + 1;
+            } else {
+                introSort(array, comp, gt + 1, high, depth);
+                high = lt - 1;
+            }
+        }
+        insertionSort(array, comp, low, high);
+    }
+
+    private static <T> void introSort(CustomList<T> list, Comparator<? super T> comp, int low, int high, int depth) {
+
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depth == 0) {
+                heapSort(list, comp, low, high);
+                return;
+            }
+            depth--;
+
+            long bounds = partition(list, comp, low, high);
+            int lt = lessBound(bounds);
+            int gt = greaterBound(bounds);
+
+            if (lt - low < high - gt) {
+                introSort(list, comp, low, lt - 1, depth);
+                low = gt + 1;
+            } else {
+                introSort(list, comp, gt + 1, high, depth);
+                high = lt - 1;
+            }
+        }
+        insertionSort(list, comp, low, high);
+    }
+
+    /**
+     * Делит диапазон массива на три части относительно медианы трех: {@code [low, lt)} - элементы меньше опорного,
+     * {@code [lt, gt]} - равные опорному, {@code (gt, high]} - больше опорного.
+     *
+     * @return границы {@code lt} и {@code gt}, упакованные в одно значение {@code long}
+     * (см. {@link #lessBound(long)} и {@link #greaterBound(long)}), чтобы не выделять память на каждое деление.
+     */
+    static <T> long partition(T[] array, Comparator<? super T> comp, int low, int high) {
+        T pivot = medianOfThree(array, comp, low, (low + high) >>> 1, high);
+
+        int lt = low;
+        int gt = high;
+        int i = low;
+        while (i <= gt) {
+            int cmp = comp.compare(array[i], pivot);
+            if (cmp < 0) {
+                swap(array, lt++, i++);
+            } else if (cmp > 0) {
+                swap(array, i, gt--);
+            } else {
+                i++;
+            }
+        }
+        return bounds(lt, gt);
+    }
+
+    /**
+     * Делит диапазон листа на три части относительно медианы трех.
+     * Работает так же, как {@link #partition(Object[], Comparator, int, int)}.
+     */
+    static <T> long partition(CustomList<T> list, Comparator<? super T> comp, int low, int high) {
+        T pivot = medianOfThree(list, comp, low, (low + high) >>> 1, high);
+
+        int lt = low;
+        int gt = high;
+        int i = low;
+        while (i <= gt) {
+            int cmp = comp.compare(list.get(i), pivot);
+            if (cmp < 0) {
+                swap(list, lt++, i++);
+            } else if (cmp > 0) {
+                swap(list, i, gt--);
+            } else {
+                i++;
+            }
+        }
+        return bounds(lt, gt);
+    }
+
+    private static long bounds(int lt, int gt) {
+        return ((long) lt << 32) | (gt & 0xFFFFFFFFL);
+    }
+
+    static int lessBound(long bounds) {
+        return (int) (bounds >>> 32);
+    }
+
+    static int greaterBound(long bounds) {
+        return (int) bounds;
+    }
+
+    private static <T> T medianOfThree(T[] array, Comparator<? super T> comp, int a, int b, int c) {
+        T x = array[a];
+        T y = array[b];
+        T z = array[c];
+        if (comp.compare(x, y) < 0) {
+            if (comp.compare(y, z) < 0) {
+                return y;
+            }
+            return comp.compare(x, z) < 0 ? z : x;
+        }
+        if (comp.compare(x, z) < 0) {
+            return x;
+        }
+        return comp.compare(y, z) < 0 ? z : y;
+    }
+
+    private static <T> T medianOfThree(CustomList<T> list, Comparator<? super T> comp, int a, int b, int c) {
+        T x = list.get(a);
+        T y = list.get(b);
+        T z = list.get(c);
+        if (comp.compare(x, y) < 0) {
+            if (comp.compare(y, z) < 0) {
+                return y;
+            }
+            return comp.compare(x, z) < 0 ? z : x;
+        }
+        if (comp.compare(x, z) < 0) {
+            return x;
+        }
+        return comp.compare(y, z) < 0 ? z : y;
+    }
+
+    static <T> void insertionSort(T[] array, Comparator<? super T> comp, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            T current = array[i];
+            int j = i - 1;
+            while (j >= low && comp.compare(array[j], current) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    static <T> void insertionSort(CustomList<T> list, Comparator<? super T> comp, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            T current = list.get(i);
+            int j = i - 1;
+            while (j >= low && comp.compare(list.get(j), current) > 0) {
+                list.set(j + 1, list.get(j));
+                j--;
+            }
+            list.set(j + 1, current);
+        }
+    }
+
+    static <T> void heapSort(T[] array, Comparator<? super T> comp, int low, int high) {
+        int length = high - low + 1;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(array, comp, low, i, length);
+        }
+        for (int last = length - 1; last > 0; last--) {
+            swap(array, low, low + last);
+            siftDown(array, comp, low, 0, last);
+        }
+    }
+
+    static <T> void heapSort(CustomList<T> list, Comparator<? super T> comp, int low, int high) {
+        int length = high - low + 1;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(list, comp, low, i, length);
+        }
+        for (int last = length - 1; last > 0; last--) {
+            swap(list, low, low + last);
+            siftDown(list, comp, low, 0, last);
+        }
+    }
+
+    /**
+     * Просеивает элемент кучи с индексом {@code node} (относительно {@code offset}) вниз.
+     */
+    static <T> void siftDown(T[] array, Comparator<? super T> comp, int offset, int node, int length) {
+        T value = array[offset + node];
+        int half = length >>> 1;
+        while (node < half) {
+            int child = 2 * node + 1;
+            if (child + 1 < length && comp.compare(array[offset + child], array[offset + child + 1]) < 0) {
+                child++;
+            }
+            if (comp.compare(value, array[offset + child]) >= 0) {
+                break;
+            }
+            array[offset + node] = array[offset + child];
+            node = child;
+        }
+        array[offset + node] = value;
+    }
+
+    private static <T> void siftDown(CustomList<T> list, Comparator<? super T> comp, int offset, int node,
+                                     int length) {
+        T value = list.get(offset + node);
+        int half = length >>> 1;
+        while (node < half) {
+            int child = 2 * node + 1;
+            T childValue = list.get(offset + child);
+            if (child + 1 < length) {
+                T rightValue = list.get(offset + child + 1);
+                if (comp.compare(childValue, rightValue) < 0) {
+                    child++;
+                    childValue = rightValue;
+                }
+            }
+            if (comp.compare(value, childValue) >= 0) {
+                break;
+            }
+            list.set(offset + node, childValue);
+            node = child;
+        }
+        list.set(offset + node, value);
+    }
+
+    private static void swap(Object[] array, int i, int j) {
+        Object temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    private static <T> void swap(CustomList<T> list, int i, int j) {
+        T temp = list.get(i);
+        list.set(i, list.get(j));
+        list.set(j, temp);
+    }
+
+    /**
+     * Сортирует диапазон массива {@code int[]} по возрастанию без упаковки и без выделения памяти.
+     *
+     * @param array массив, который нужно отсортировать
+     * @param start нижняя граница сортируемого диапазона
+     * @param end   верхняя граница сортируемого диапазона
+     */
+    public static void sort(int[] array, int start, int end) {
+        if (start >= end) {
+            return;
+        }
+        introSort(array, start, end, depthLimit(end - start + 1));
+    }
+
+    private static void introSort(int[] array, int low, int high, int depth) {
+
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depth == 0) {
+                heapSort(array, low, high);
+                return;
+            }
+            depth--;
+
+            int pivot = medianOfThree(array, low, (low + high) >>> 1, high);
+
+            int lt = low;
+            int gt = high;
+            int i = low;
+            while (i <= gt) {
+                int cmp = Integer.compare(array[i], pivot);
+                if (cmp < 0) {
+                    swap(array, lt++, i++);
+                } else if (cmp > 0) {
+                    swap(array, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (lt - low < high - gt) {
+                introSort(array, low, lt - 1, depth);
+                low = gt + 1;
+            } else {
+                introSort(array, gt + 1, high, depth);
+                high = lt - 1;
+            }
+        }
+        insertionSort(array, low, high);
+    }
+
+    private static int medianOfThree(int[] array, int a, int b, int c) {
+        int x = array[a];
+        int y = array[b];
+        int z = array[c];
+        if (Integer.compare(x, y) < 0) {
+            if (Integer.compare(y, z) < 0) {
+                return y;
+            }
+            return Integer.compare(x, z) < 0 ? z : x;
+        }
+        if (Integer.compare(x, z) < 0) {
+            return x;
+        }
+        return Integer.compare(y, z) < 0 ? z : y;
+    }
+
+    private static void insertionSort(int[] array, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            int current = array[i];
+            int j = i - 1;
+            while (j >= low && Integer.compare(array[j], current) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    static void heapSort(int[] array, int low, int high) {
+        int length = high - low + 1;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(array, low, i, length);
+        }
+        for (int last = length - 1; last > 0; last--) {
+            swap(array, low, low + last);
+            siftDown(array, low, 0, last);
+        }
+    }
+
+    private static void siftDown(int[] array, int offset, int node, int length) {
+        int value = array[offset + node];
+        int half = length >>> 1;
+        while (node < half) {
+            int child = 2 * node + 1;
+            if (child + 1 < length && Integer.compare(array[offset + child], array[offset + child + 1]) < 0) {
+                child++;
+            }
+            if (Integer.compare(value, array[offset + child]) >= 0) {
+                break;
+            }
+            array[offset + node] = array[offset + child];
+            node = child;
+        }
+        array[offset + node] = value;
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * Сортирует диапазон массива {@code long[]} по возрастанию без упаковки и без выделения памяти.
+     *
+     * @param array массив, который нужно отсортировать
+     * @param start нижняя граница сортируемого диапазона
+     * @param end   верхняя граница сортируемого диапазона
+     */
+    public static void sort(long[] array, int start, int end) {
+        if (start >= end) {
+            return;
+        }
+        introSort(array, start, end, depthLimit(end - start + 1));
+    }
+
+    private static void introSort(long[] array, int low, int high, int depth) {
+
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depth == 0) {
+                heapSort(array, low, high);
+                return;
+            }
+            depth--;
+
+            long pivot = medianOfThree(array, low, (low + high) >>> 1, high);
+
+            int lt = low;
+            int gt = high;
+            int i = low;
+            while (i <= gt) {
+                int cmp = Long.compare(array[i], pivot);
+                if (cmp < 0) {
+                    swap(array, lt++, i++);
+                } else if (cmp > 0) {
+                    swap(array, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (lt - low < high - gt) {
+                introSort(array, low, lt - 1, depth);
+                low = gt + 1;
+            } else {
+                introSort(array, gt + 1, high, depth);
+                high = lt - 1;
+            }
+        }
+        insertionSort(array, low, high);
+    }
+
+    private static long medianOfThree(long[] array, int a, int b, int c) {
+        long x = array[a];
+        long y = array[b];
+        long z = array[c];
+        if (Long.compare(x, y) < 0) {
+            if (Long.compare(y, z) < 0) {
+                return y;
+            }
+            return Long.compare(x, z) < 0 ? z : x;
+        }
+        if (Long.compare(x, z) < 0) {
+            return x;
+        }
+        return Long.compare(y, z) < 0 ? z : y;
+    }
+
+    private static void insertionSort(long[] array, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            long current = array[i];
+            int j = i - 1;
+            while (j >= low && Long.compare(array[j], current) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    static void heapSort(long[] array, int low, int high) {
+        int length = high - low + 1;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(array, low, i, length);
+        }
+        for (int last = length - 1; last > 0; last--) {
+            swap(array, low, low + last);
+            siftDown(array, low, 0, last);
+        }
+    }
+
+    private static void siftDown(long[] array, int offset, int node, int length) {
+        long value = array[offset + node];
+        int half = length >>> 1;
+        while (node < half) {
+            int child = 2 * node + 1;
+            if (child + 1 < length && Long.compare(array[offset + child], array[offset + child + 1]) < 0) {
+                child++;
+            }
+            if (Long.compare(value, array[offset + child]) >= 0) {
+                break;
+            }
+            array[offset + node] = array[offset + child];
+            node = child;
+        }
+        array[offset + node] = value;
+    }
+
+    private static void swap(long[] array, int i, int j) {
+        long temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * Сортирует диапазон массива {@code double[]} по возрастанию в порядке {@link Double#compare(double, double)}
+     * без упаковки и без выделения памяти.
+     *
+     * @param array массив, который нужно отсортировать
+     * @param start нижняя граница сортируемого диапазона
+     * @param end   верхняя граница сортируемого диапазона
+     */
+    public static void sort(double[] array, int start, int end) {
+        if (start >= end) {
+            return;
+        }
+        introSort(array, start, end, depthLimit(end - start + 1));
+    }
+
+    private static void introSort(double[] array, int low, int high, int depth) {
+
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depth == 0) {
+                heapSort(array, low, high);
+                return;
+            }
+            depth--;
+
+            double pivot = medianOfThree(array, low, (low + high) >>> 1, high);
+
+            int lt = low;
+            int gt = high;
+            int i = low;
+            while (i <= gt) {
+                int cmp = Double.compare(array[i], pivot);
+                if (cmp < 0) {
+                    swap(array, lt++, i++);
+                } else if (cmp > 0) {
+                    swap(array, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (lt - low < high - gt) {
+                introSort(array, low, lt - 1, depth);
+                low = gt + 1;
+            } else {
+                introSort(array, gt + 1, high, depth);
+                high = lt - 1;
+            }
+        }
+        insertionSort(array, low, high);
+    }
+
+    private static double medianOfThree(double[] array, int a, int b, int c) {
+        double x = array[a];
+        double y = array[b];
+        double z = array[c];
+        if (Double.compare(x, y) < 0) {
+            if (Double.compare(y, z) < 0) {
+                return y;
+            }
+            return Double.compare(x, z) < 0 ? z : x;
+        }
+        if (Double.compare(x, z) < 0) {
+            return x;
+        }
+        return Double.compare(y, z) < 0 ? z : y;
+    }
+
+    private static void insertionSort(double[] array, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            double current = array[i];
+            int j = i - 1;
+            while (j >= low && Double.compare(array[j], current) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    static void heapSort(double[] array, int low, int high) {
+        int length = high - low + 1;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(array, low, i, length);
+        }
+        for (int last = length - 1; last > 0; last--) {
+            swap(array, low, low + last);
+            siftDown(array, low, 0, last);
+        }
+    }
+
+    private static void siftDown(double[] array, int offset, int node, int length) {
+        double value = array[offset + node];
+        int half = length >>> 1;
+        while (node < half) {
+            int child = 2 * node + 1;
+            if (child + 1 < length && Double.compare(array[offset + child], array[offset + child + 1]) < 0) {
+                child++;
+            }
+            if (Double.compare(value, array[offset + child]) >= 0) {
+                break;
+            }
+            array[offset + node] = array[offset + child];
+            node = child;
+        }
+        array[offset + node] = value;
+    }
+
+    private static void swap(double[] array, int i, int j) {
+        double temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * Подзадача параллельной сортировки диапазона {@code [low, high]} массива.
+     */
+    private static final class ParallelSortTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final T[] array;
+        private final Comparator<? super T> comp;
+        private final int low;
+        private final int high;
+        private final int depth;
+        private final int threshold;
+
+        ParallelSortTask(T[] array, Comparator<? super T> comp, int low, int high, int depth, int threshold) {
+            this.array = array;
+            this.comp = comp;
+            this.low = low;
+            this.high = high;
+            this.depth = depth;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low + 1 <= threshold) {
+                introSort(array, comp, low, high, depth);
+                return;
+            }
+            if (depth == 0) {
+                heapSort(array, comp, low, high);
+                return;
+            }
+
+            long bounds = partition(array, comp, low, high);
+            invokeAll(new ParallelSortTask<>(array, comp, low, lessBound(bounds) - 1, depth - 1, threshold),
+                    new ParallelSortTask<>(array, comp, greaterBound(bounds) + 1, high, depth - 1, threshold));
+        }
+    }
+}
@@ -0,0 +1,402 @@
+package ru.aston.util;
+
+import ru.aston.CustomArrayList;
+import ru.aston.CustomList;
+import ru.aston.IndexedCustomArrayList;
+
+import java.util.Comparator;
+
+/**
+ * Класс, реализующий устойчивую адаптивную сортировку слиянием (в стиле TimSort) массивов и листов
+ * {@link CustomList}.
+ *
+ * <p>Устойчивость означает, что равные элементы сохраняют взаимный порядок, поэтому лист можно сортировать
+ * сначала по второстепенному, а затем по основному ключу. Сортировка адаптивна:
+ * <ul>
+ *     <li>диапазон делится на уже упорядоченные серии (<i>run</i>), строго убывающие серии разворачиваются;</li>
+ *     <li>короткие серии дополняются до минимальной длины сортировкой вставками с двоичным поиском позиции;</li>
+ *     <li>серии сливаются по правилам стека TimSort, поэтому сливаются серии близкой длины;</li>
+ *     <li>перед слиянием двоичным поиском отбрасываются элементы, уже стоящие на своих местах, а если серии
+ *     уже упорядочены относительно друг друга, слияние не выполняется.</li>
+ * </ul>
+ * Поэтому уже отсортированные данные и данные из нескольких упорядоченных пакетов сортируются почти за линейное
+ * время, в худшем случае время работы {@code O(n log n)}.
+ *
+ * <p>Для слияния используется один вспомогательный буфер не длиннее половины диапазона, который выделяется
+ * при первом слиянии и переиспользуется всеми последующими. Если сортируемый лист является
+ * {@link CustomArrayList}, сортировка выполняется напрямую над его внутренним массивом.
+ * Границы диапазонов во всех методах включительные, как и в {@link QuickSortUtil}.
+ *
+ * @author Серова Дарья
+ * @version 1.0
+ * @see QuickSortUtil
+ * @since 2023-08-15
+ */
+
+public final class MergeSortUtil {
+
+    /**
+     * Длина диапазона, меньше которой он сортируется вставками целиком, и верхняя граница минимальной длины серии.
+     */
+    static final int MIN_MERGE = 32;
+
+    /**
+     * Размер стека серий, достаточный для диапазона длиной {@link Integer#MAX_VALUE}.
+     */
+    private static final int MAX_RUN_STACK = 49;
+
+    private MergeSortUtil() {
+    }
+
+    /**
+     * Устойчиво сортирует диапазон массива согласно Comparable.
+     *
+     * @param array массив, который нужно отсортировать
+     * @param start нижняя граница сортируемого диапазона
+     * @param end   верхняя граница сортируемого диапазона
+     * @throws ClassCastException если элементы массива не реализуют Comparable
+     */
+    public static void sort(Object[] array, int start, int end) {
+        sort(array, IntroSortUtil.NATURAL_ORDER, start, end);
+    }
+
+    /**
+     * Устойчиво сортирует диапазон массива согласно правилам сортировки <Strong>comp</Strong>.
+     *
+     * @param array массив, который нужно отсортировать
+     * @param comp  правила сортировки заданные пользователем
+     * @param start нижняя граница сортируемого диапазона
+     * @param end   верхняя граница сортируемого диапазона
+     * @param <T>   тип элементов содержащихся в массиве
+     */
+    public static <T> void sort(T[] array, Comparator<? super T> comp, int start, int end) {
+        if (start >= end) {
+            return;
+        }
+        new MergeState<>(array, comp).sort(start, end + 1);
+    }
+
+    /**
+     * Устойчиво сортирует диапазон листа согласно Comparable.
+     * {@link CustomArrayList} сортируется напрямую во внутреннем массиве, остальные листы копируются в массив,
+     * сортируются и записываются обратно через {@code set}.
+     *
+     * @param list  лист, который нужно отсортировать
+     * @param start нижняя граница сортируемого диапазона
+     * @param end   верхняя граница сортируемого диапазона
+     * @param <T>   тип элементов содержащихся в листе
+     */
+    public static <T extends Comparable<? super T>> void sort(CustomList<T> list, int start, int end) {
+        if (list instanceof CustomArrayList) {
+            ((CustomArrayList<T>) list).stableSort(null, start, end);
+            return;
+        }
+        if (list instanceof IndexedCustomArrayList) {
+            ((IndexedCustomArrayList<T>) list).stableSort(null, start, end);
+            return;
+        }
+        sort(list, Comparator.naturalOrder(), start, end);
+    }
+
+    /**
+     * Устойчиво сортирует диапазон листа согласно правилам сортировки <Strong>comp</Strong>.
+     * {@link CustomArrayList} сортируется напрямую во внутреннем массиве, остальные листы копируются в массив,
+     * сортируются и записываются обратно через {@code set}.
+     *
+     * @param list  лист, который нужно отсортировать
+     * @param comp  правила сортировки заданные пользователем
+     * @param start нижняя граница сортируемого диапазона
+     * @param end   верхняя граница сортируемого диапазона
+     * @param <T>   тип элементов содержащихся в листе
+     */
+    public static <T> void sort(CustomList<T> list, Comparator<? super T> comp, int start, int end) {
+        if (list instanceof CustomArrayList) {
+            ((CustomArrayList<T>) list).stableSort(comp, start, end);
+            return;
+        }
+        if (list instanceof IndexedCustomArrayList) {
+            ((IndexedCustomArrayList<T>) list).stableSort(comp, start, end);
+            return;
+        }
+        if (start >= end) {
+            return;
+        }
+        int length = end - start + 1;
+        Object[] copy = new Object[length];
+        for (int i = 0; i < length; i++) {
+            copy[i] = list.get(start + i);
+        }
+        sort((T[]) copy, comp, 0, length - 1);
+        for (int i = 0; i < length; i++) {
+            list.set(start + i, (T) copy[i]);
+        }
+    }
+
+    /**
+     * Возвращает минимальную длину серии для диапазона длиной {@code length}: число от {@code MIN_MERGE / 2}
+     * до {@code MIN_MERGE}, при котором количество серий равно или чуть меньше степени двойки.
+     */
+    static int minRunLength(int length) {
+        int remainder = 0;
+        while (length >= MIN_MERGE) {
+            remainder |= length & 1;
+            length >>= 1;
+        }
+        return length + remainder;
+    }
+
+    /**
+     * Состояние одной сортировки: сортируемый массив, стек еще не слитых серий и буфер слияния.
+     * Границы диапазонов внутри класса - правая граница не включительно.
+     */
+    private static final class MergeState<T> {
+
+        private final T[] array;
+
+        private final Comparator<? super T> comp;
+
+        private final int[] runBase = new int[MAX_RUN_STACK];
+
+        private final int[] runLength = new int[MAX_RUN_STACK];
+
+        private int stackSize;
+
+        /**
+         * Буфер слияния, выделяется при первом слиянии.
+         */
+        private Object[] buffer;
+
+        private int bufferCapacity;
+
+        MergeState(T[] array, Comparator<? super T> comp) {
+            this.array = array;
+            this.comp = comp;
+        }
+
+        void sort(int low, int high) {
+            int remaining = high - low;
+            if (remaining < MIN_MERGE) {
+                int initialRun = countRunAndMakeAscending(low, high);
+                binaryInsertionSort(low, high, low + initialRun);
+                return;
+            }
+            bufferCapacity = remaining >>> 1;
+            int minRun = minRunLength(remaining);
+            do {
+                int run = countRunAndMakeAscending(low, high);
+                if (run < minRun) {
+                    int forced = Math.min(remaining, minRun);
+                    binaryInsertionSort(low, low + forced, low + run);
+                    run = forced;
+                }
+                pushRun(low, run);
+                mergeCollapse();
+                low += run;
+                remaining -= run;
+            } while (remaining != 0);
+            mergeForceCollapse();
+        }
+
+        /**
+         * Возвращает длину серии, начинающейся с {@code low}. Строго убывающая серия разворачивается,
+         * нестрогая не учитывается, чтобы не нарушить устойчивость.
+         */
+        private int countRunAndMakeAscending(int low, int high) {
+            int runHigh = low + 1;
+            if (runHigh == high) {
+                return 1;
+            }
+            if (comp.compare(array[runHigh++], array[low]) < 0) {
+                while (runHigh < high && comp.compare(array[runHigh], array[runHigh - 1]) < 0) {
+                    runHigh++;
+                }
+                reverse(low, runHigh);
+            } else {
+                while (runHigh < high && comp.compare(array[runHigh], array[runHigh - 1]) >= 0) {
+                    runHigh++;
+                }
+            }
+            return runHigh - low;
+        }
+
+        private void reverse(int low, int high) {
+            high--;
+            while (low < high) {
+                T tmp = array[low];
+                array[low++] = array[high];
+                array[high--] = tmp;
+            }
+        }
+
+        /**
+         * Сортирует {@code [low, high)} вставками, если {@code [low, start)} уже отсортирован.
+         * Позиция вставки ищется двоичным поиском после равных элементов.
+         */
+        private void binaryInsertionSort(int low, int high, int start) {
+            for (; start < high; start++) {
+                T pivot = array[start];
+                int left = low;
+                int right = start;
+                while (left < right) {
+                    int mid = (left + right) >>> 1;
+                    if (comp.compare(pivot, array[mid]) < 0) {
+                        right = mid;
+                    } else {
+                        left = mid + 1;
+                    }
+                }
+                System.arraycopy(array, left, array, left + 1, start - left);
+                array[left] = pivot;
+            }
+        }
+
+        private void pushRun(int base, int length) {
+            runBase[stackSize] = base;
+            runLength[stackSize] = length;
+            stackSize++;
+        }
+
+        /**
+         * Сливает серии на вершине стека, пока длины серий не убывают достаточно быстро:
+         * {@code len[i - 2] > len[i - 1] + len[i]} и {@code len[i - 1] > len[i]}.
+         */
+        private void mergeCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1]
+                        || n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1]) {
+                    if (runLength[n - 1] < runLength[n + 1]) {
+                        n--;
+                    }
+                } else if (runLength[n] > runLength[n + 1]) {
+                    break;
+                }
+                mergeAt(n);
+            }
+        }
+
+        private void mergeForceCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+                    n--;
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Сливает серии {@code i} и {@code i + 1} стека.
+         */
+        private void mergeAt(int i) {
+            int base1 = runBase[i];
+            int length1 = runLength[i];
+            int base2 = runBase[i + 1];
+            int length2 = runLength[i + 1];
+
+            runLength[i] = length1 + length2;
+            if (i == stackSize - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLength[i + 1] = runLength[i + 2];
+            }
+            stackSize--;
+
+            int skipped = upperBound(array[base2], base1, length1) - base1;
+            base1 += skipped;
+            length1 -= skipped;
+            if (length1 == 0) {
+                return;
+            }
+            length2 = lowerBound(array[base1 + length1 - 1], base2, length2) - base2;
+            if (length2 == 0) {
+                return;
+            }
+            if (length1 <= length2) {
+                mergeLow(base1, length1, base2, length2);
+            } else {
+                mergeHigh(base1, length1, base2, length2);
+            }
+        }
+
+        /**
+         * Возвращает позицию первого элемента в {@code [base, base + length)}, большего {@code key}.
+         */
+        private int upperBound(T key, int base, int length) {
+            int left = base;
+            int right = base + length;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (comp.compare(key, array[mid]) < 0) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+            return left;
+        }
+
+        /**
+         * Возвращает позицию первого элемента в {@code [base, base + length)}, не меньшего {@code key}.
+         */
+        private int lowerBound(T key, int base, int length) {
+            int left = base;
+            int right = base + length;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (comp.compare(array[mid], key) < 0) {
+                    left = mid + 1;
+                } else {
+                    right = mid;
+                }
+            }
+            return left;
+        }
+
+        /**
+         * Сливает соседние серии слева направо, копируя в буфер первую (более короткую) серию.
+         */
+        private void mergeLow(int base1, int length1, int base2, int length2) {
+            Object[] tmp = ensureBuffer(length1);
+            System.arraycopy(array, base1, tmp, 0, length1);
+            int cursor1 = 0;
+            int cursor2 = base2;
+            int end2 = base2 + length2;
+            int dest = base1;
+            while (cursor1 < length1 && cursor2 < end2) {
+                if (comp.compare(array[cursor2], (T) tmp[cursor1]) < 0) {
+                    array[dest++] = array[cursor2++];
+                } else {
+                    array[dest++] = (T) tmp[cursor1++];
+                }
+            }
+            System.arraycopy(tmp, cursor1, array, dest, length1 - cursor1);
+        }
+
+        /**
+         * Сливает соседние серии справа налево, копируя в буфер вторую (более короткую) серию.
+         */
+        private void mergeHigh(int base1, int length1, int base2, int length2) {
+            Object[] tmp = ensureBuffer(length2);
+            System.arraycopy(array, base2, tmp, 0, length2);
+            int cursor1 = base1 + length1 - 1;
+            int cursor2 = length2 - 1;
+            int dest = base2 + length2 - 1;
+            while (cursor1 >= base1 && cursor2 >= 0) {
+                if (comp.compare((T) tmp[cursor2], array[cursor1]) < 0) {
+                    array[dest--] = array[cursor1--];
+                } else {
+                    array[dest--] = (T) tmp[cursor2--];
+                }
+            }
+            System.arraycopy(tmp, 0, array, dest - cursor2, cursor2 + 1);
+        }
+
+        private Object[] ensureBuffer(int length) {
+            if (buffer == null || buffer.length < length) {
+                buffer = new Object[Math.max(length, bufferCapacity)];
+            }
+            return buffer;
+        }
+    }
+
+}
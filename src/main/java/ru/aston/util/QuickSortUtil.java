@@ -1,26 +1,43 @@
 package ru.aston.util;
 
+import ru.aston.CustomArrayList;
 import ru.aston.CustomList;
+import ru.aston.DoubleCustomArrayList;
+import ru.aston.IndexedCustomArrayList;
+import ru.aston.IntCustomArrayList;
+import ru.aston.LongCustomArrayList;
 
 import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Класс, предоставляющий метод быстрой сортировки текущего листа с типом данных, поддерживающих сортировку
  * в соответствии с Comparable.
+ * <p>Сортировка выполняется интроспективным алгоритмом {@link IntroSortUtil}: медиана трех в качестве опорного
+ * элемента, деление на три части, пирамидальная сортировка при превышении глубины рекурсии и сортировка вставками
+ * для коротких диапазонов. Время работы {@code O(n log n)} в худшем случае, глубина стека {@code O(log n)}.
+ * <p>Если сортируемый лист является {@link CustomArrayList}, сортировка выполняется напрямую над его внутренним
+ * массивом, минуя {@link CustomList#get(int)} и {@link CustomList#set(int, Object)}.
+ * <p>Списки {@link IntCustomArrayList}, {@link LongCustomArrayList} и {@link DoubleCustomArrayList} сортируются
+ * по возрастанию над примитивным массивом без упаковки и без выделения памяти.
+ * <p>Методы {@code parallelQuickSort} распределяют независимые части листа по потокам {@link ForkJoinPool}.
  *
  * @author Серова Дарья
  * @version 1.0
+ * @see IntroSortUtil
  * @since 2023-08-15
  */
 
 public class QuickSortUtil {
 
+    /**
+     * Длина диапазона по умолчанию, начиная с которой параллельная сортировка сортирует части последовательно.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 13;
+
     /**
      * Метод быстрой сортировки текущего листа в соответствии с заданным порядком сортировки согласно Comparable.
-     * Вызывает внутри себя приватный метод, делящий лист на два подлиста - элементы меньше опорного - слева,
-     * элементы больше опорного - справа, с дальнейшей сортировкой.
      * Конструкция if() проверяет длину листа, если длина листа равна 0 или уже нечего делить.
-     * Метод quickSort вызывается рекурсивно для сортировки левой и правой части после деления исходного листа.
      *
      * @param list  лист, который нужно отсортировать
      * @param start верхняя граница сортируемого листа
@@ -32,18 +49,32 @@ public class QuickSortUtil {
         if (start >= end) {
             return;
         }
-
-        int i = partition(list, start, end);
-        quickSort(list, start, i - 1);
-        quickSort(list, i + 1, end);
+        if (list instanceof CustomArrayList) {
+            ((CustomArrayList<T>) list).sort(null, start, end);
+            return;
+        }
+        if (list instanceof IndexedCustomArrayList) {
+            ((IndexedCustomArrayList<T>) list).sort(null, start, end);
+            return;
+        }
+        if (list instanceof IntCustomArrayList) {
+            ((IntCustomArrayList) list).sort(start, end);
+            return;
+        }
+        if (list instanceof LongCustomArrayList) {
+            ((LongCustomArrayList) list).sort(start, end);
+            return;
+        }
+        if (list instanceof DoubleCustomArrayList) {
+            ((DoubleCustomArrayList) list).sort(start, end);
+            return;
+        }
+        IntroSortUtil.sort(list, start, end);
     }
 
     /**
      * Метод быстрой сортировки текущего листа в соответствии с пользовательским порядком сортировки Comparator.<p>
-     * Вызывает внутри себя приватный метод, делящий лист на два подлиста - элементы меньше опорного - слева,
-     * элементы больше опорного - справа, с дальнейшей сортировкой.
      * Конструкция if() проверяет длину листа, если длина листа равна 0 или уже нечего делить.
-     * Метод quickSort вызывается рекурсивно для сортировки левой и правой части после деления исходного листа.
      *
      * @param list  лист, который нужно отсортировать
      * @param comp  правила сортировки заданные пользователем
@@ -56,97 +87,160 @@ public class QuickSortUtil {
         if (start >= end) {
             return;
         }
-        int i = partition(list, comp, start, end);
-        quickSort(list, comp, start, i - 1);
-        quickSort(list, comp, i + 1, end);
+        if (list instanceof CustomArrayList) {
+            ((CustomArrayList<T>) list).sort(comp, start, end);
+            return;
+        }
+        if (list instanceof IndexedCustomArrayList) {
+            ((IndexedCustomArrayList<T>) list).sort(comp, start, end);
+            return;
+        }
+        IntroSortUtil.sort(list, comp, start, end);
     }
 
     /**
-     * Приватный метод деления текущего листа на два подлиста.<p>
-     * После деления листа на два подлиста, возвращает индекс опорного элемента, относительно которого находятся меньшие
-     * и большие элементы.<p>
-     * В листе выбирается опорный элемент <Strong>pivot</Strong> (последний элемент в листе), лист разбивается на подлисты.
-     * С помощью итерации, где i - индекс текущего элемента в листе, перебираются все элементы.<p>
-     * Если элемент больше опорного, то поиск происходит дальше, если меньше, то найденный элемент записывается
-     * в промежуточную переменную <Strong>temp</Strong> и меняется местами с элементом <Strong>swap</Strong>,
-     * swap увеличивается на единицу.<p>
-     * Переменная <Strong>swap</Strong> хранит индекс перемещаемого элемента. Подразумевается, что swap - это элемент,
-     * который больше опорного и должен быть перемещен в правую часть исходного листа.<p>
-     * Возможен случай, когда меньший элемент будет сам опорный элемент и в цикле он не будет найден. В таком случае
-     * опорный элемент записывается в промежуточную переменную temp, элемент под индексом swap и опорный элемент
-     * меняются местами.
+     * Метод быстрой сортировки массива в соответствии с заданным порядком сортировки согласно Comparable.
+     * Работает так же, как {@link #quickSort(CustomList, int, int)}, но обращается к элементам массива напрямую.
      *
-     * @param list  лист, который нужно отсортировать
-     * @param low   нижняя граница сортируемого листа
-     * @param right верхняя граница сортируемого листа
-     * @param <T>   тип элементов содержащихся в листе.
-     * @return swap индекс опорного элемента, делящего лист на два подлиста
+     * @param array массив, который нужно отсортировать
+     * @param start верхняя граница сортируемого диапазона
+     * @param end   нижняя граница сортируемого диапазона
+     * @throws ClassCastException если элементы массива не реализуют Comparable
      */
-    private static <T extends Comparable<? super T>> int partition(CustomList<T> list, int low, int right) {
-
-        T pivot = list.get(right);
-        int swap = low;
-
-        for (int i = low; i < right; i++) {
-            if (list.get(i).compareTo(pivot) < 0) {
-                T temp = list.get(i);
-                list.set(i, list.get(swap));
-                list.set(swap, temp);
-                swap++;
-            }
-        }
+    public static void quickSort(Object[] array, int start, int end) {
+        IntroSortUtil.sort(array, start, end);
+    }
 
-        T temp = pivot;
-        list.set(right, list.get(swap));
-        list.set(swap, temp);
+    /**
+     * Метод быстрой сортировки массива в соответствии с пользовательским порядком сортировки Comparator.
+     * Работает так же, как {@link #quickSort(CustomList, Comparator, int, int)}, но обращается к элементам
+     * массива напрямую.
+     *
+     * @param array массив, который нужно отсортировать
+     * @param comp  правила сортировки заданные пользователем
+     * @param start верхняя граница сортируемого диапазона
+     * @param end   нижняя граница сортируемого диапазона
+     * @param <T>   тип элементов содержащихся в массиве
+     */
+    public static <T> void quickSort(T[] array, Comparator<? super T> comp, int start, int end) {
+        IntroSortUtil.sort(array, comp, start, end);
+    }
 
-        return swap;
+    /**
+     * Метод быстрой сортировки массива {@code int[]} по возрастанию без упаковки
+     * и без выделения памяти.
+     *
+     * @param array массив, который нужно отсортировать
+     * @param start верхняя граница сортируемого диапазона
+     * @param end   нижняя граница сортируемого диапазона
+     */
+    public static void quickSort(int[] array, int start, int end) {
+        IntroSortUtil.sort(array, start, end);
+    }
+
+    /**
+     * Метод быстрой сортировки массива {@code long[]} по возрастанию без упаковки
+     * и без выделения памяти.
+     *
+     * @param array массив, который нужно отсортировать
+     * @param start верхняя граница сортируемого диапазона
+     * @param end   нижняя граница сортируемого диапазона
+     */
+    public static void quickSort(long[] array, int start, int end) {
+        IntroSortUtil.sort(array, start, end);
     }
 
     /**
-     * Приватный метод деления текущего листа на два подлиста.<p>
-     * После деления листа на два подлиста, возвращает индекс опорного элемента, относительно которого находятся меньшие
-     * и большие элементы.<p>
-     * В листе выбирается опорный элемент <Strong>pivot</Strong> (последний элемент в листе), лист разбивается на подлисты.
-     * С помощью итерации, где i - индекс текущего элемента в листе, перебираются все элементы.<p>
-     * В конструкции if() реализован поиск меньшего элемента относительно опорного согласно правилам сортировки
-     * <Strong>comp</Strong>.
-     * Если метод <Strong>compare</Strong> возвращает 1, элемент больше опорного, то поиск происходит дальше,
-     * если возвращает -1, то элемент меньше опорного и найденный элемент записывается в промежуточную
-     * переменную <Strong>temp</Strong> и меняется местами с элементом <Strong>swap</Strong>,
-     * swap увеличивается на единицу.<p>
-     * Переменная <Strong>swap</Strong> хранит индекс перемещаемого элемента. Подразумевается, что swap - это элемент,
-     * который больше опорного и должен быть перемещен в правую часть исходного листа.<p>
-     * Возможен случай, когда меньший элемент будет сам опорный элемент и в цикле он не будет найден. В таком случае
-     * опорный элемент записывается в промежуточную переменную temp, элемент под индексом swap и опорный элемент
-     * меняются местами.
+     * Метод быстрой сортировки массива {@code double[]} по возрастанию в порядке
+     * {@link Double#compare(double, double)} без упаковки и без выделения памяти.
+     *
+     * @param array массив, который нужно отсортировать
+     * @param start верхняя граница сортируемого диапазона
+     * @param end   нижняя граница сортируемого диапазона
+     */
+    public static void quickSort(double[] array, int start, int end) {
+        IntroSortUtil.sort(array, start, end);
+    }
+
+    /**
+     * Параллельная сортировка листа согласно Comparable в общем пуле {@link ForkJoinPool#commonPool()}
+     * с порогом {@link #DEFAULT_PARALLEL_THRESHOLD}.
      *
      * @param list  лист, который нужно отсортировать
-     * @param comp  правила сортировки заданные пользователем
-     * @param low   нижняя граница сортируемого листа
-     * @param right верхняя граница сортируемого листа
-     * @param <T>   тип элементов содержащихся в листе.
-     * @return swap индекс опорного элемента, делящего лист на два подлиста
+     * @param start верхняя граница сортируемого листа
+     * @param end   нижняя граница сортируемого листа
+     * @param <T>   тип элементов содержащихся в листе
      */
-    private static <T> int partition(CustomList<T> list, Comparator<? super T> comp, int low, int right) {
-
-        T pivot = list.get(right);
-        int swap = low;
-
-        for (int i = low; i < right; i++) {
-            if (comp.compare(list.get(i), pivot) < 0) {
-                T temp = list.get(i);
-                list.set(i, list.get(swap));
-                list.set(swap, temp);
-                swap++;
-            }
+    public static <T extends Comparable<? super T>> void parallelQuickSort(CustomList<T> list, int start, int end) {
+        parallelQuickSort(list, start, end, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Параллельная сортировка листа согласно Comparable в заданном пуле.<p>
+     * После каждого деления обе части длиннее {@code threshold} сортируются как независимые подзадачи пула,
+     * более короткие части и лист не длиннее {@code threshold} сортируются последовательно.
+     * Параллельно сортируется только {@link CustomArrayList}; остальные реализации {@link CustomList}
+     * не гарантируют безопасность одновременных {@code set} и сортируются последовательно.
+     *
+     * @param list      лист, который нужно отсортировать
+     * @param start     верхняя граница сортируемого листа
+     * @param end       нижняя граница сортируемого листа
+     * @param pool      пул, в котором выполняется сортировка
+     * @param threshold длина диапазона, начиная с которой части сортируются последовательно
+     * @param <T>       тип элементов содержащихся в листе
+     * @throws IllegalArgumentException если {@code threshold < 1}
+     */
+    public static <T extends Comparable<? super T>> void parallelQuickSort(CustomList<T> list, int start, int end,
+                                                                           ForkJoinPool pool, int threshold) {
+        if (list instanceof CustomArrayList) {
+            ((CustomArrayList<T>) list).parallelSort(null, start, end, pool, threshold);
+            return;
         }
+        checkThreshold(threshold);
+        quickSort(list, start, end);
+    }
 
-        T temp = pivot;
-        list.set(right, list.get(swap));
-        list.set(swap, temp);
+    /**
+     * Параллельная сортировка листа согласно Comparator в общем пуле {@link ForkJoinPool#commonPool()}
+     * с порогом {@link #DEFAULT_PARALLEL_THRESHOLD}.
+     *
+     * @param list  лист, который нужно отсортировать
+     * @param comp  правила сортировки заданные пользователем
+     * @param start верхняя граница сортируемого листа
+     * @param end   нижняя граница сортируемого листа
+     * @param <T>   тип элементов содержащихся в листе
+     */
+    public static <T> void parallelQuickSort(CustomList<T> list, Comparator<? super T> comp, int start, int end) {
+        parallelQuickSort(list, comp, start, end, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
 
-        return swap;
+    /**
+     * Параллельная сортировка листа согласно Comparator в заданном пуле.
+     * Работает так же, как {@link #parallelQuickSort(CustomList, int, int, ForkJoinPool, int)}.
+     *
+     * @param list      лист, который нужно отсортировать
+     * @param comp      правила сортировки заданные пользователем
+     * @param start     верхняя граница сортируемого листа
+     * @param end       нижняя граница сортируемого листа
+     * @param pool      пул, в котором выполняется сортировка
+     * @param threshold длина диапазона, начиная с которой части сортируются последовательно
+     * @param <T>       тип элементов содержащихся в листе
+     * @throws IllegalArgumentException если {@code threshold < 1}
+     */
+    public static <T> void parallelQuickSort(CustomList<T> list, Comparator<? super T> comp, int start, int end,
+                                             ForkJoinPool pool, int threshold) {
+        if (list instanceof CustomArrayList) {
+            ((CustomArrayList<T>) list).parallelSort(comp, start, end, pool, threshold);
+            return;
+        }
+        checkThreshold(threshold);
+        quickSort(list, comp, start, end);
+    }
+
+    private static void checkThreshold(int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Parallel threshold can't be less than 1!");
+        }
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,264 @@
+package ru.aston.util;
+
+import ru.aston.CustomList;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Класс, реализующий поразрядную сортировку листов {@link CustomList} по ключу, извлекаемому из элемента.
+ *
+ * <p>В отличие от сортировки с компаратором, ключ каждого элемента извлекается ровно один раз, а элементы
+ * распределяются по корзинам без вызовов компаратора, поэтому время работы {@code O(n * k)}, где {@code k} -
+ * длина ключа в байтах:
+ * <ul>
+ *     <li>{@link #sortByLongKey} - LSD сортировка по 8 разрядам {@code long} ключа, по 8 бит за проход.
+ *     Гистограммы всех разрядов строятся за один проход, разряды, одинаковые у всех элементов, пропускаются,
+ *     поэтому ключи из небольшого диапазона (например {@code int} идентификаторы) сортируются за 2-4 прохода;</li>
+ *     <li>{@link #sortByStringKey} - MSD сортировка по байтам символов строки с явным стеком корзин, короткие
+ *     диапазоны досортировываются вставками. Глубина стека вызовов не зависит от длины общего префикса ключей.</li>
+ * </ul>
+ * Обе сортировки устойчивы. Ключи и элементы копируются в массивы, для распределения используется по одному
+ * вспомогательному массиву ключей, элементов и счетчиков на всю сортировку, после сортировки элементы записываются
+ * в лист через {@code set}. Сортировка с компаратором остается доступной в {@link QuickSortUtil}
+ * и {@link MergeSortUtil}. Границы диапазонов во всех методах включительные, как и в {@link QuickSortUtil}.
+ *
+ * @author Серова Дарья
+ * @version 1.0
+ * @see QuickSortUtil
+ * @since 2023-08-15
+ */
+
+public final class RadixSortUtil {
+
+    private static final int RADIX = 256;
+
+    private static final int LONG_DIGITS = Long.BYTES;
+
+    /**
+     * Длина диапазона, меньше которой строки досортировываются вставками.
+     */
+    static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private RadixSortUtil() {
+    }
+
+    /**
+     * Устойчиво сортирует диапазон листа по возрастанию {@code long} ключа.
+     *
+     * @param list  лист, который нужно отсортировать
+     * @param key   функция, извлекающая ключ элемента; вызывается один раз для каждого элемента
+     * @param start нижняя граница сортируемого диапазона
+     * @param end   верхняя граница сортируемого диапазона
+     * @param <T>   тип элементов содержащихся в листе
+     */
+    public static <T> void sortByLongKey(CustomList<T> list, ToLongFunction<? super T> key, int start, int end) {
+        if (start >= end) {
+            return;
+        }
+        int length = end - start + 1;
+        Object[] elements = new Object[length];
+        long[] keys = new long[length];
+        int[][] counts = new int[LONG_DIGITS][RADIX];
+        for (int i = 0; i < length; i++) {
+            T element = list.get(start + i);
+            long value = key.applyAsLong(element) ^ Long.MIN_VALUE;
+            elements[i] = element;
+            keys[i] = value;
+            for (int digit = 0; digit < LONG_DIGITS; digit++) {
+                counts[digit][(int) (value >>> (digit << 3)) & 0xFF]++;
+            }
+        }
+
+        Object[] elementBuffer = null;
+        long[] keyBuffer = null;
+        for (int digit = 0; digit < LONG_DIGITS; digit++) {
+            int[] count = counts[digit];
+            if (count[(int) (keys[0] >>> (digit << 3)) & 0xFF] == length) {
+                continue;
+            }
+            if (elementBuffer == null) {
+                elementBuffer = new Object[length];
+                keyBuffer = new long[length];
+            }
+            int offset = 0;
+            for (int bucket = 0; bucket < RADIX; bucket++) {
+                int bucketSize = count[bucket];
+                count[bucket] = offset;
+                offset += bucketSize;
+            }
+            int shift = digit << 3;
+            for (int i = 0; i < length; i++) {
+                int position = count[(int) (keys[i] >>> shift) & 0xFF]++;
+                elementBuffer[position] = elements[i];
+                keyBuffer[position] = keys[i];
+            }
+            Object[] elementSwap = elements;
+            elements = elementBuffer;
+            elementBuffer = elementSwap;
+            long[] keySwap = keys;
+            keys = keyBuffer;
+            keyBuffer = keySwap;
+        }
+        writeBack(list, elements, start);
+    }
+
+    /**
+     * Устойчиво сортирует диапазон листа по строковому ключу в порядке {@link String#compareTo(String)}.
+     *
+     * @param list  лист, который нужно отсортировать
+     * @param key   функция, извлекающая ключ элемента; вызывается один раз для каждого элемента
+     * @param start нижняя граница сортируемого диапазона
+     * @param end   верхняя граница сортируемого диапазона
+     * @param <T>   тип элементов содержащихся в листе
+     * @throws NullPointerException если функция вернула {@code null}
+     */
+    public static <T> void sortByStringKey(CustomList<T> list, Function<? super T, String> key, int start, int end) {
+        if (start >= end) {
+            return;
+        }
+        int length = end - start + 1;
+        StringSorter sorter = new StringSorter(length);
+        for (int i = 0; i < length; i++) {
+            T element = list.get(start + i);
+            String value = key.apply(element);
+            if (value == null) {
+                throw new NullPointerException("Sort key can't be null!");
+            }
+            sorter.elements[i] = element;
+            sorter.keys[i] = value;
+        }
+        sorter.sort(0, length, 0);
+        writeBack(list, sorter.elements, start);
+    }
+
+    private static <T> void writeBack(CustomList<T> list, Object[] elements, int start) {
+        for (int i = 0; i < elements.length; i++) {
+            list.set(start + i, (T) elements[i]);
+        }
+    }
+
+    /**
+     * MSD сортировка строк. Каждый символ рассматривается как два байта: старший, затем младший,
+     * конец строки попадает в корзину перед всеми байтами. Диапазоны внутри класса - правая граница не включительно.
+     * Необработанные корзины хранятся в явном стеке, а диапазон, все строки которого попадают в одну корзину,
+     * переходит к следующему байту без распределения, поэтому длина общего префикса не ограничена размером
+     * стека вызовов. Массив счетчиков один на всю сортировку.
+     */
+    private static final class StringSorter {
+
+        private final Object[] elements;
+
+        private final String[] keys;
+
+        private final Object[] elementBuffer;
+
+        private final String[] keyBuffer;
+
+        private final int[] count = new int[RADIX + 2];
+
+        /**
+         * Стек необработанных корзин: тройки {@code low, high, depth}.
+         */
+        private int[] stack = new int[3 * 16];
+
+        private int top;
+
+        StringSorter(int length) {
+            this.elements = new Object[length];
+            this.keys = new String[length];
+            this.elementBuffer = new Object[length];
+            this.keyBuffer = new String[length];
+        }
+
+        void sort(int low, int high, int depth) {
+            push(low, high, depth);
+            while (top > 0) {
+                top -= 3;
+                sortBucket(stack[top], stack[top + 1], stack[top + 2]);
+            }
+        }
+
+        /**
+         * Распределяет диапазон по корзинам байта {@code depth} и добавляет в стек корзины из двух и более строк.
+         */
+        private void sortBucket(int low, int high, int depth) {
+            int length = high - low;
+            while (true) {
+                if (length < INSERTION_SORT_THRESHOLD) {
+                    insertionSort(low, high);
+                    return;
+                }
+                Arrays.fill(count, 0);
+                for (int i = low; i < high; i++) {
+                    count[byteAt(keys[i], depth) + 2]++;
+                }
+                int firstBucket = byteAt(keys[low], depth) + 2;
+                if (count[firstBucket] != length) {
+                    break;
+                }
+                if (firstBucket == 1) {
+                    // все строки закончились и равны
+                    return;
+                }
+                depth++;
+            }
+            for (int bucket = 0; bucket < RADIX + 1; bucket++) {
+                count[bucket + 1] += count[bucket];
+            }
+            for (int i = low; i < high; i++) {
+                int position = count[byteAt(keys[i], depth) + 1]++;
+                elementBuffer[position] = elements[i];
+                keyBuffer[position] = keys[i];
+            }
+            System.arraycopy(elementBuffer, 0, elements, low, length);
+            System.arraycopy(keyBuffer, 0, keys, low, length);
+            for (int bucket = 0; bucket < RADIX; bucket++) {
+                int bucketLow = low + count[bucket];
+                int bucketHigh = low + count[bucket + 1];
+                if (bucketHigh - bucketLow > 1) {
+                    push(bucketLow, bucketHigh, depth + 1);
+                }
+            }
+        }
+
+        private void push(int low, int high, int depth) {
+            if (top + 3 > stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            stack[top] = low;
+            stack[top + 1] = high;
+            stack[top + 2] = depth;
+            top += 3;
+        }
+
+        /**
+         * Возвращает байт {@code depth} строки или {@code -1}, если строка закончилась.
+         */
+        private static int byteAt(String key, int depth) {
+            int index = depth >>> 1;
+            if (index >= key.length()) {
+                return -1;
+            }
+            char c = key.charAt(index);
+            return (depth & 1) == 0 ? c >>> 8 : c & 0xFF;
+        }
+
+        private void insertionSort(int low, int high) {
+            for (int i = low + 1; i < high; i++) {
+                Object element = elements[i];
+                String value = keys[i];
+                int j = i;
+                while (j > low && keys[j - 1].compareTo(value) > 0) {
+                    elements[j] = elements[j - 1];
+                    keys[j] = keys[j - 1];
+                    j--;
+                }
+                elements[j] = element;
+                keys[j] = value;
+            }
+        }
+    }
+
+}
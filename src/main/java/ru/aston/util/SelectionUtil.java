@@ -0,0 +1,298 @@
+package ru.aston.util;
+
+import ru.aston.CustomArrayList;
+import ru.aston.CustomList;
+import ru.aston.IndexedCustomArrayList;
+
+import java.util.Comparator;
+
+/**
+ * Класс, предоставляющий выбор k-го элемента, частичную сортировку и выбор первых k элементов листа
+ * без полной сортировки.
+ * <ul>
+ *     <li>{@code select} - быстрый выбор (quickselect) на том же делении на три части, что и {@link IntroSortUtil}:
+ *     после деления обрабатывается только часть, содержащая позицию {@code k}. Среднее время {@code O(n)},
+ *     при превышении глубины деления диапазон досортировывается пирамидальной сортировкой;</li>
+ *     <li>{@code partialSort} - выбор {@code k}-го элемента и сортировка только первых {@code k} позиций,
+ *     время {@code O(n + k log k)};</li>
+ *     <li>{@code topK} - первые {@code k} элементов в порядке сортировки через ограниченную кучу размера {@code k}.
+ *     Исходный лист не изменяется, время {@code O(n log k)}, дополнительная память {@code O(k)}.</li>
+ * </ul>
+ * Если лист является {@link CustomArrayList}, {@code select} и {@code partialSort} работают напрямую
+ * над его внутренним массивом. Порядок равных элементов не сохраняется.
+ *
+ * @author Серова Дарья
+ * @version 1.0
+ * @see QuickSortUtil
+ * @see IntroSortUtil
+ * @since 2023-08-15
+ */
+
+public final class SelectionUtil {
+
+    private SelectionUtil() {
+    }
+
+    /**
+     * Переставляет элементы листа так, что в позиции {@code k} оказывается элемент, который стоял бы там
+     * после сортировки согласно Comparable, все элементы до него не больше, а после - не меньше его.
+     *
+     * @param list лист
+     * @param k    позиция искомого элемента в отсортированном порядке, начиная с 0
+     * @param <T>  тип элементов содержащихся в листе
+     * @return k-й по порядку элемент
+     * @throws IndexOutOfBoundsException если {@code (k < 0 || k >= size)}
+     */
+    public static <T extends Comparable<? super T>> T select(CustomList<T> list, int k) {
+        if (list instanceof CustomArrayList) {
+            return ((CustomArrayList<T>) list).select(null, k);
+        }
+        if (list instanceof IndexedCustomArrayList) {
+            return ((IndexedCustomArrayList<T>) list).select(null, k);
+        }
+        return select(list, Comparator.naturalOrder(), k);
+    }
+
+    /**
+     * Переставляет элементы листа так, что в позиции {@code k} оказывается элемент, который стоял бы там
+     * после сортировки согласно правилам <Strong>comp</Strong>.
+     *
+     * @param list лист
+     * @param comp правила сортировки заданные пользователем
+     * @param k    позиция искомого элемента в отсортированном порядке, начиная с 0
+     * @param <T>  тип элементов содержащихся в листе
+     * @return k-й по порядку элемент
+     * @throws IndexOutOfBoundsException если {@code (k < 0 || k >= size)}
+     */
+    public static <T> T select(CustomList<T> list, Comparator<? super T> comp, int k) {
+        if (list instanceof CustomArrayList) {
+            return ((CustomArrayList<T>) list).select(comp, k);
+        }
+        if (list instanceof IndexedCustomArrayList) {
+            return ((IndexedCustomArrayList<T>) list).select(comp, k);
+        }
+        checkSelectIndex(k, list.size());
+        int low = 0;
+        int high = list.size() - 1;
+        int depth = IntroSortUtil.depthLimit(high - low + 1);
+        while (high - low + 1 > IntroSortUtil.INSERTION_SORT_THRESHOLD) {
+            if (depth == 0) {
+                IntroSortUtil.heapSort(list, comp, low, high);
+                return list.get(k);
+            }
+            depth--;
+            long bounds = IntroSortUtil.partition(list, comp, low, high);
+            int lt = IntroSortUtil.lessBound(bounds);
+            int gt = IntroSortUtil.greaterBound(bounds);
+            if (k < lt) {
+                high = lt - 1;
+            } else if (k > gt) {
+                low = gt + 1;
+            } else {
+                return list.get(k);
+            }
+        }
+        IntroSortUtil.insertionSort(list, comp, low, high);
+        return list.get(k);
+    }
+
+    /**
+     * Выполняет быстрый выбор в диапазоне массива согласно Comparable.
+     *
+     * @param array массив
+     * @param start нижняя граница диапазона
+     * @param end   верхняя граница диапазона
+     * @param k     позиция в массиве, на которую нужно поставить элемент, {@code start <= k <= end}
+     * @return элемент в позиции {@code k} после выбора
+     * @throws ClassCastException если элементы массива не реализуют Comparable
+     */
+    public static Object select(Object[] array, int start, int end, int k) {
+        return select(array, IntroSortUtil.NATURAL_ORDER, start, end, k);
+    }
+
+    /**
+     * Выполняет быстрый выбор в диапазоне массива согласно правилам сортировки <Strong>comp</Strong>.
+     *
+     * @param array массив
+     * @param comp  правила сортировки заданные пользователем
+     * @param start нижняя граница диапазона
+     * @param end   верхняя граница диапазона
+     * @param k     позиция в массиве, на которую нужно поставить элемент, {@code start <= k <= end}
+     * @param <T>   тип элементов содержащихся в массиве
+     * @return элемент в позиции {@code k} после выбора
+     */
+    public static <T> T select(T[] array, Comparator<? super T> comp, int start, int end, int k) {
+        int low = start;
+        int high = end;
+        int depth = IntroSortUtil.depthLimit(high - low + 1);
+        while (high - low + 1 > IntroSortUtil.INSERTION_SORT_THRESHOLD) {
+            if (depth == 0) {
+                IntroSortUtil.heapSort(array, comp, low, high);
+                return array[k];
+            }
+            depth--;
+            long bounds = IntroSortUtil.partition(array, comp, low, high);
+            int lt = IntroSortUtil.lessBound(bounds);
+            int gt = IntroSortUtil.greaterBound(bounds);
+            if (k < lt) {
+                high = lt - 1;
+            } else if (k > gt) {
+                low = gt + 1;
+            } else {
+                return array[k];
+            }
+        }
+        IntroSortUtil.insertionSort(array, comp, low, high);
+        return array[k];
+    }
+
+    /**
+     * Ставит в первые {@code k} позиций листа {@code k} наименьших элементов согласно Comparable
+     * в отсортированном порядке. Порядок остальных элементов не определен.
+     *
+     * @param list лист
+     * @param k    количество сортируемых первых позиций
+     * @param <T>  тип элементов содержащихся в листе
+     * @throws IndexOutOfBoundsException если {@code (k < 0 || k > size)}
+     */
+    public static <T extends Comparable<? super T>> void partialSort(CustomList<T> list, int k) {
+        if (list instanceof CustomArrayList) {
+            ((CustomArrayList<T>) list).partialSort(null, k);
+            return;
+        }
+        if (list instanceof IndexedCustomArrayList) {
+            ((IndexedCustomArrayList<T>) list).partialSort(null, k);
+            return;
+        }
+        partialSort(list, Comparator.naturalOrder(), k);
+    }
+
+    /**
+     * Ставит в первые {@code k} позиций листа {@code k} наименьших элементов согласно правилам <Strong>comp</Strong>
+     * в отсортированном порядке. Порядок остальных элементов не определен.
+     *
+     * @param list лист
+     * @param comp правила сортировки заданные пользователем
+     * @param k    количество сортируемых первых позиций
+     * @param <T>  тип элементов содержащихся в листе
+     * @throws IndexOutOfBoundsException если {@code (k < 0 || k > size)}
+     */
+    public static <T> void partialSort(CustomList<T> list, Comparator<? super T> comp, int k) {
+        if (list instanceof CustomArrayList) {
+            ((CustomArrayList<T>) list).partialSort(comp, k);
+            return;
+        }
+        if (list instanceof IndexedCustomArrayList) {
+            ((IndexedCustomArrayList<T>) list).partialSort(comp, k);
+            return;
+        }
+        checkPartialSortCount(k, list.size());
+        if (k == 0) {
+            return;
+        }
+        select(list, comp, k - 1);
+        IntroSortUtil.sort(list, comp, 0, k - 2);
+    }
+
+    /**
+     * Сортирует первые {@code k - start} позиций диапазона массива согласно Comparable.
+     *
+     * @param array массив
+     * @param start нижняя граница диапазона
+     * @param end   верхняя граница диапазона
+     * @param k     позиция, следующая за последней сортируемой, {@code start <= k <= end + 1}
+     * @throws ClassCastException если элементы массива не реализуют Comparable
+     */
+    public static void partialSort(Object[] array, int start, int end, int k) {
+        partialSort(array, IntroSortUtil.NATURAL_ORDER, start, end, k);
+    }
+
+    /**
+     * Сортирует первые {@code k - start} позиций диапазона массива согласно правилам <Strong>comp</Strong>.
+     *
+     * @param array массив
+     * @param comp  правила сортировки заданные пользователем
+     * @param start нижняя граница диапазона
+     * @param end   верхняя граница диапазона
+     * @param k     позиция, следующая за последней сортируемой, {@code start <= k <= end + 1}
+     * @param <T>   тип элементов содержащихся в массиве
+     */
+    public static <T> void partialSort(T[] array, Comparator<? super T> comp, int start, int end, int k) {
+        if (k <= start) {
+            return;
+        }
+        select(array, comp, start, end, k - 1);
+        IntroSortUtil.sort(array, comp, start, k - 2);
+    }
+
+    /**
+     * Возвращает новый лист с первыми {@code k} элементами в порядке Comparable. Исходный лист не изменяется.
+     *
+     * @param list лист
+     * @param k    количество элементов
+     * @param <T>  тип элементов содержащихся в листе
+     * @return отсортированный лист из {@code min(k, size)} наименьших элементов
+     * @throws IllegalArgumentException если {@code k < 0}
+     */
+    public static <T extends Comparable<? super T>> CustomArrayList<T> topK(CustomList<? extends T> list, int k) {
+        return topK(list, k, Comparator.naturalOrder());
+    }
+
+    /**
+     * Возвращает новый лист с первыми {@code k} элементами в порядке <Strong>comp</Strong>, выбранными
+     * за один проход с ограниченной кучей размера {@code k}. Исходный лист не изменяется.
+     *
+     * @param list лист
+     * @param k    количество элементов
+     * @param comp правила сортировки заданные пользователем
+     * @param <T>  тип элементов содержащихся в листе
+     * @return отсортированный лист из {@code min(k, size)} первых в порядке <Strong>comp</Strong> элементов
+     * @throws IllegalArgumentException если {@code k < 0}
+     */
+    public static <T> CustomArrayList<T> topK(CustomList<? extends T> list, int k, Comparator<? super T> comp) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k can't be less than 0!");
+        }
+        int size = list.size();
+        int capacity = Math.min(k, size);
+        T[] heap = (T[]) new Object[capacity];
+        if (capacity > 0) {
+            for (int i = 0; i < capacity; i++) {
+                heap[i] = list.get(i);
+            }
+            for (int i = capacity / 2 - 1; i >= 0; i--) {
+                IntroSortUtil.siftDown(heap, comp, 0, i, capacity);
+            }
+            for (int i = capacity; i < size; i++) {
+                T element = list.get(i);
+                if (comp.compare(element, heap[0]) < 0) {
+                    heap[0] = element;
+                    IntroSortUtil.siftDown(heap, comp, 0, 0, capacity);
+                }
+            }
+            IntroSortUtil.heapSort(heap, comp, 0, capacity - 1);
+        }
+        CustomArrayList<T> result = new CustomArrayList<>(capacity);
+        result.addAll(heap);
+        return result;
+    }
+
+    /**
+     * Проверяет позицию выбора {@code 0 <= k < size}.
+     */
+    private static void checkSelectIndex(int k, int size) {
+        if (k < 0 || k >= size) {
+            throw new IndexOutOfBoundsException("k = " + k + " is out of bounds for size = " + size);
+        }
+    }
+
+    /**
+     * Проверяет количество позиций частичной сортировки {@code 0 <= k <= size}.
+     */
+    private static void checkPartialSortCount(int k, int size) {
+        if (k < 0 || k > size) {
+            throw new IndexOutOfBoundsException("k = " + k + " is out of bounds for size = " + size);
+        }
+    }
+
+}
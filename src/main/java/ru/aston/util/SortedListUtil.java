@@ -0,0 +1,221 @@
+package ru.aston.util;
+
+import ru.aston.CustomArrayList;
+import ru.aston.CustomList;
+
+import java.util.Comparator;
+
+/**
+ * Класс, предоставляющий операции над отсортированными листами: двоичный поиск, вставку с сохранением
+ * порядка и слияние двух отсортированных листов.
+ * <p>Все методы предполагают, что лист уже отсортирован в порядке Comparable или переданного компаратора,
+ * например методами {@link QuickSortUtil}. Для неотсортированного листа результат не определен.
+ *
+ * @author Серова Дарья
+ * @version 1.0
+ * @see QuickSortUtil
+ * @since 2023-08-15
+ */
+
+public final class SortedListUtil {
+
+    private SortedListUtil() {
+    }
+
+    /**
+     * Ищет элемент в отсортированном в соответствии с Comparable листе двоичным поиском за {@code O(log n)}.
+     *
+     * @param list отсортированный лист.
+     * @param key  искомый элемент.
+     * @param <T>  тип элементов в листе.
+     * @return позиция элемента, если он есть в листе, иначе {@code -(точка вставки) - 1}. Точка вставки - позиция
+     * первого элемента, большего искомого, или размер листа. Если равных элементов несколько, возвращается
+     * позиция любого из них.
+     */
+    public static <T extends Comparable<? super T>> int binarySearch(CustomList<? extends T> list, T key) {
+        return binarySearch(list, key, Comparator.naturalOrder());
+    }
+
+    /**
+     * Ищет элемент в отсортированном в соответствии с компаратором листе двоичным поиском за {@code O(log n)}.
+     *
+     * @param list отсортированный лист.
+     * @param key  искомый элемент.
+     * @param comp компаратор, по которому отсортирован лист.
+     * @param <T>  тип элементов в листе.
+     * @return позиция элемента, если он есть в листе, иначе {@code -(точка вставки) - 1}.
+     */
+    public static <T> int binarySearch(CustomList<? extends T> list, T key, Comparator<? super T> comp) {
+        int low = 0;
+        int high = list.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = comp.compare(list.get(mid), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Вставляет элемент в отсортированный в соответствии с Comparable лист, сохраняя порядок. Позиция ищется
+     * двоичным поиском, затем элемент вставляется одним вызовом {@link CustomList#add(int, Object)}.
+     * Элемент вставляется после равных ему элементов, поэтому порядок вставки равных элементов сохраняется.
+     *
+     * @param list    отсортированный лист.
+     * @param element вставляемый элемент.
+     * @param <T>     тип элементов в листе.
+     * @return позиция, в которую вставлен элемент.
+     */
+    public static <T extends Comparable<? super T>> int insertSorted(CustomList<T> list, T element) {
+        return insertSorted(list, element, Comparator.naturalOrder());
+    }
+
+    /**
+     * Вставляет элемент в отсортированный в соответствии с компаратором лист, сохраняя порядок.
+     * Элемент вставляется после равных ему элементов.
+     *
+     * @param list    отсортированный лист.
+     * @param element вставляемый элемент.
+     * @param comp    компаратор, по которому отсортирован лист.
+     * @param <T>     тип элементов в листе.
+     * @return позиция, в которую вставлен элемент.
+     */
+    public static <T> int insertSorted(CustomList<T> list, T element, Comparator<? super T> comp) {
+        int index = upperBound(list, element, comp);
+        list.add(index, element);
+        return index;
+    }
+
+    /**
+     * Сливает два отсортированных в соответствии с Comparable листа в новый отсортированный лист за
+     * {@code O(n + m)}. Исходные листы не изменяются.
+     *
+     * @param first  первый отсортированный лист.
+     * @param second второй отсортированный лист.
+     * @param <T>    тип элементов в листах.
+     * @return новый отсортированный лист с элементами обоих листов.
+     */
+    public static <T extends Comparable<? super T>> CustomArrayList<T> merge(CustomList<? extends T> first,
+                                                                            CustomList<? extends T> second) {
+        return merge(first, second, Comparator.naturalOrder());
+    }
+
+    /**
+     * Сливает два отсортированных в соответствии с компаратором листа в новый отсортированный лист за
+     * {@code O(n + m)}. Слияние устойчиво: из равных элементов первыми идут элементы первого листа.
+     * Емкость результата задается сразу.
+     *
+     * @param first  первый отсортированный лист.
+     * @param second второй отсортированный лист.
+     * @param comp   компаратор, по которому отсортированы листы.
+     * @param <T>    тип элементов в листах.
+     * @return новый отсортированный лист с элементами обоих листов.
+     */
+    public static <T> CustomArrayList<T> merge(CustomList<? extends T> first, CustomList<? extends T> second,
+                                               Comparator<? super T> comp) {
+        int firstSize = first.size();
+        int secondSize = second.size();
+        CustomArrayList<T> result = new CustomArrayList<>(firstSize + secondSize);
+        int i = 0;
+        int j = 0;
+        while (i < firstSize && j < secondSize) {
+            T left = first.get(i);
+            T right = second.get(j);
+            if (comp.compare(left, right) <= 0) {
+                result.add(left);
+                i++;
+            } else {
+                result.add(right);
+                j++;
+            }
+        }
+        for (; i < firstSize; i++) {
+            result.add(first.get(i));
+        }
+        for (; j < secondSize; j++) {
+            result.add(second.get(j));
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает позицию первого элемента отсортированного в соответствии с Comparable листа, не меньшего
+     * {@code key}, двоичным поиском за {@code O(log n)}.
+     *
+     * @param list отсортированный лист.
+     * @param key  искомый элемент.
+     * @param <T>  тип элементов в листе.
+     * @return позиция первого элемента, не меньшего искомого, или размер листа.
+     */
+    public static <T extends Comparable<? super T>> int lowerBound(CustomList<? extends T> list, T key) {
+        return lowerBound(list, key, Comparator.naturalOrder());
+    }
+
+    /**
+     * Возвращает позицию первого элемента отсортированного в соответствии с компаратором листа, не меньшего
+     * {@code key}, двоичным поиском за {@code O(log n)}.
+     *
+     * @param list отсортированный лист.
+     * @param key  искомый элемент.
+     * @param comp компаратор, по которому отсортирован лист.
+     * @param <T>  тип элементов в листе.
+     * @return позиция первого элемента, не меньшего искомого, или размер листа.
+     */
+    public static <T> int lowerBound(CustomList<? extends T> list, T key, Comparator<? super T> comp) {
+        int low = 0;
+        int high = list.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comp.compare(list.get(mid), key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Возвращает позицию первого элемента отсортированного в соответствии с Comparable листа, большего
+     * {@code key}, двоичным поиском за {@code O(log n)}.
+     *
+     * @param list отсортированный лист.
+     * @param key  искомый элемент.
+     * @param <T>  тип элементов в листе.
+     * @return позиция первого элемента, большего искомого, или размер листа.
+     */
+    public static <T extends Comparable<? super T>> int upperBound(CustomList<? extends T> list, T key) {
+        return upperBound(list, key, Comparator.naturalOrder());
+    }
+
+    /**
+     * Возвращает позицию первого элемента отсортированного в соответствии с компаратором листа, большего
+     * {@code key}, двоичным поиском за {@code O(log n)}.
+     *
+     * @param list отсортированный лист.
+     * @param key  искомый элемент.
+     * @param comp компаратор, по которому отсортирован лист.
+     * @param <T>  тип элементов в листе.
+     * @return позиция первого элемента, большего искомого, или размер листа.
+     */
+    public static <T> int upperBound(CustomList<? extends T> list, T key, Comparator<? super T> comp) {
+        int low = 0;
+        int high = list.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comp.compare(list.get(mid), key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+}
@@ -0,0 +1,93 @@
+package ru.aston;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.aston.util.QuickSortUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ChunkedCustomListTest {
+
+    @Test
+    public void shouldAllocateChunksWithoutCopyingOnGrowth() {
+
+        //given
+        ChunkedCustomList<Integer> list = new ChunkedCustomList<>(4);
+
+        //when
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        //then
+        assertEquals(100, list.size());
+        assertEquals(100, list.capacity());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, list.get(i));
+        }
+    }
+
+    @Test
+    public void shouldMatchArrayListOnRandomInsertsAndRemovals() {
+
+        //given
+        ChunkedCustomList<Integer> list = new ChunkedCustomList<>(8);
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(14);
+
+        //when
+        for (int i = 0; i < 5000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            }
+        }
+        list.removeRange(10, 200);
+        expected.subList(10, 200).clear();
+
+        //then
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void shouldSortChunkedList() {
+
+        //given
+        ChunkedCustomList<Integer> list = new ChunkedCustomList<>(16);
+        Random random = new Random(14);
+        for (int i = 0; i < 1000; i++) {
+            list.add(random.nextInt(100));
+        }
+
+        //when
+        QuickSortUtil.quickSort(list, 0, list.size() - 1);
+
+        //then
+        for (int i = 1; i < list.size(); i++) {
+            Assertions.assertTrue(list.get(i - 1) <= list.get(i));
+        }
+    }
+
+    @Test
+    public void shouldThrowIllegalArgumentExceptionWhenChunkCapacityIsNotPowerOfTwo() {
+
+        //then
+        IllegalArgumentException thrown = Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new ChunkedCustomList<Integer>(12);
+        }, "IllegalArgumentException was expected");
+
+        Assertions.assertEquals("Chunk capacity must be a positive power of two!", thrown.getMessage());
+    }
+
+}
@@ -0,0 +1,97 @@
+package ru.aston;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.aston.util.QuickSortUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CircularCustomListTest {
+
+    @Test
+    public void shouldAddAndRemoveAtBothEnds() {
+
+        //given
+        CircularCustomList<Integer> list = new CircularCustomList<>(4);
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            list.addFirst(-i);
+            list.addLast(i);
+        }
+
+        //then
+        assertEquals(20, list.size());
+        assertEquals(-9, list.get(0));
+        assertEquals(9, list.get(19));
+        assertEquals(-9, list.removeFirst());
+        assertEquals(9, list.removeLast());
+        assertEquals(-8, list.get(0));
+        assertEquals(8, list.get(17));
+    }
+
+    @Test
+    public void shouldMatchArrayListOnRandomInsertsAndRemovals() {
+
+        //given
+        CircularCustomList<Integer> list = new CircularCustomList<>();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(13);
+
+        //when
+        for (int i = 0; i < 5000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            }
+        }
+
+        //then
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void shouldSortWrappedList() {
+
+        //given
+        CircularCustomList<Integer> list = new CircularCustomList<>(8);
+        for (int i = 0; i < 6; i++) {
+            list.addFirst(i);
+            list.addLast(-i);
+        }
+
+        //when
+        QuickSortUtil.quickSort(list, 0, list.size() - 1);
+
+        //then
+        for (int i = 1; i < list.size(); i++) {
+            Assertions.assertTrue(list.get(i - 1) <= list.get(i));
+        }
+    }
+
+    @Test
+    public void shouldThrowIndexOutOfBoundsExceptionWhenRemovingFromEmptyList() {
+
+        //given
+        CircularCustomList<Integer> list = new CircularCustomList<>();
+
+        //then
+        IndexOutOfBoundsException thrown = Assertions.assertThrows(IndexOutOfBoundsException.class,
+                list::removeFirst, "IndexOutOfBoundsException was expected");
+
+        Assertions.assertEquals("Index cannot be greater than the current array size = 0 or less than 0!",
+                thrown.getMessage());
+    }
+
+}
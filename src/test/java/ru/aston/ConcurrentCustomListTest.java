@@ -0,0 +1,105 @@
+package ru.aston;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentCustomListTest {
+
+    private static final int THREADS = 8;
+
+    private static final int PER_THREAD = 50_000;
+
+    @Test
+    public void shouldAddElementsFromManyThreads() throws Exception {
+
+        //given
+        ConcurrentCustomList<Integer> arr = new ConcurrentCustomList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+
+        //when
+        Future<?>[] writers = new Future<?>[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            int base = t * PER_THREAD;
+            writers[t] = executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < PER_THREAD; i++) {
+                    arr.add(base + i);
+                }
+                return null;
+            });
+        }
+        Future<?> reader = executor.submit(() -> {
+            start.await();
+            int seen = 0;
+            while (seen < THREADS * PER_THREAD) {
+                int size = arr.size();
+                assertTrue(size >= seen);
+                for (int i = seen; i < size; i++) {
+                    assertNotNull(arr.get(i));
+                }
+                seen = size;
+            }
+            return null;
+        });
+        start.countDown();
+        for (Future<?> writer : writers) {
+            writer.get(30, TimeUnit.SECONDS);
+        }
+        reader.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        //then
+        assertEquals(THREADS * PER_THREAD, arr.size());
+        boolean[] found = new boolean[THREADS * PER_THREAD];
+        for (int i = 0; i < arr.size(); i++) {
+            int value = arr.get(i);
+            Assertions.assertFalse(found[value]);
+            found[value] = true;
+        }
+    }
+
+    @Test
+    public void shouldSetAndClearElements() {
+
+        //given
+        ConcurrentCustomList<String> arr = new ConcurrentCustomList<>();
+        for (int i = 0; i < 100; i++) {
+            arr.add("name" + i);
+        }
+
+        //when
+        String old = arr.set(40, "name");
+
+        //then
+        assertEquals("name40", old);
+        assertEquals("name", arr.get(40));
+        arr.clear();
+        assertEquals(0, arr.size());
+        arr.add("name1");
+        assertEquals("name1", arr.get(0));
+    }
+
+    @Test
+    public void shouldThrowUnsupportedOperationExceptionWhenInsertIntoMiddle() {
+
+        //given
+        ConcurrentCustomList<String> arr = new ConcurrentCustomList<>();
+        arr.add("name1");
+
+        //then
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> arr.add(0, "name0"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> arr.remove(0));
+    }
+
+}
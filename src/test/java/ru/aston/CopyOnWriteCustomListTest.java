@@ -0,0 +1,151 @@
+package ru.aston;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CopyOnWriteCustomListTest {
+
+    @Test
+    public void shouldAddSetAndRemoveElements() {
+
+        //given
+        CustomList<String> arr = new CopyOnWriteCustomList<>();
+
+        //when
+        arr.add("name1");
+        arr.add("name3");
+        arr.add(1, "name2");
+        String old = arr.set(0, "name0");
+        String removed = arr.remove(2);
+
+        //then
+        assertEquals(2, arr.size());
+        assertEquals("name1", old);
+        assertEquals("name3", removed);
+        assertEquals("name0", arr.get(0));
+        assertEquals("name2", arr.get(1));
+    }
+
+    @Test
+    public void shouldKeepSnapshotUnchanged() {
+
+        //given
+        CopyOnWriteCustomList<String> arr = new CopyOnWriteCustomList<>();
+        arr.add("name1");
+        arr.add("name2");
+
+        //when
+        CustomList<String> snapshot = arr.snapshot();
+        arr.set(0, "name0");
+        arr.clear();
+
+        //then
+        assertEquals(0, arr.size());
+        assertEquals(2, snapshot.size());
+        assertEquals("name1", snapshot.get(0));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> snapshot.add("name3"));
+    }
+
+    @Test
+    public void shouldPublishBatchAtOnce() {
+
+        //given
+        CopyOnWriteCustomList<Integer> arr = new CopyOnWriteCustomList<>();
+        arr.add(1);
+        CustomList<Integer> before = arr.snapshot();
+
+        //when
+        arr.update(list -> {
+            list.add(2);
+            list.add(0, 0);
+            list.set(2, 20);
+            assertEquals(1, arr.size());
+        });
+
+        //then
+        assertEquals(1, before.size());
+        assertEquals(3, arr.size());
+        assertEquals(0, arr.get(0));
+        assertEquals(1, arr.get(1));
+        assertEquals(20, arr.get(2));
+    }
+
+    @Test
+    public void shouldNotPublishBatchWhenItFails() {
+
+        //given
+        CopyOnWriteCustomList<Integer> arr = new CopyOnWriteCustomList<>();
+        arr.add(1);
+
+        //when
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> arr.update(list -> {
+            list.add(2);
+            list.remove(5);
+        }));
+
+        //then
+        assertEquals(1, arr.size());
+    }
+
+    @Test
+    public void shouldIterateSingleSnapshotWhileOtherThreadPublishes() throws InterruptedException {
+
+        //given
+        int size = 1000;
+        CopyOnWriteCustomList<Integer> arr = new CopyOnWriteCustomList<>();
+        for (int i = 0; i < size; i++) {
+            arr.add(0);
+        }
+        Iterator<Integer> started = arr.iterator();
+        arr.update(list -> list.removeRange(0, size / 2));
+        Thread writer = new Thread(() -> {
+            for (int version = 1; version <= 500; version++) {
+                int value = version;
+                arr.update(list -> {
+                    for (int i = 0; i < list.size(); i++) {
+                        list.set(i, value);
+                    }
+                });
+            }
+        });
+
+        //when
+        writer.start();
+        int mixedTraversals = 0;
+        while (writer.isAlive()) {
+            Integer first = null;
+            boolean mixed = false;
+            for (Integer element : arr) {
+                if (first == null) {
+                    first = element;
+                }
+                mixed |= !first.equals(element);
+            }
+            long[] sum = new long[1];
+            arr.forEach(element -> sum[0] += element);
+            if (mixed || sum[0] % (size / 2) != 0 || arr.stream().distinct().count() != 1) {
+                mixedTraversals++;
+            }
+        }
+        writer.join();
+        int startedCount = 0;
+        while (started.hasNext()) {
+            assertEquals(0, started.next());
+            startedCount++;
+        }
+
+        //then
+        assertEquals(0, mixedTraversals);
+        assertEquals(size, startedCount);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> {
+            Iterator<Integer> iterator = arr.iterator();
+            iterator.next();
+            iterator.remove();
+        }, "UnsupportedOperationException was expected");
+    }
+
+}
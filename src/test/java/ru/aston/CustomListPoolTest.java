@@ -0,0 +1,98 @@
+package ru.aston;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CustomListPoolTest {
+
+    @Test
+    public void shouldReuseReleasedListWithItsBackingArray() {
+
+        //given
+        CustomListPool pool = new CustomListPool();
+        CustomArrayList<Integer> list = pool.acquire();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        int capacity = list.capacity();
+
+        //when
+        boolean released = pool.release(list);
+        CustomArrayList<String> reused = pool.acquire(50);
+
+        //then
+        Assertions.assertTrue(released);
+        Assertions.assertSame(list, reused);
+        assertEquals(0, reused.size());
+        assertEquals(capacity, reused.capacity());
+        assertEquals(0, pool.pooledCount());
+    }
+
+    @Test
+    public void shouldServeRequestFromSufficientSizeClassOnly() {
+
+        //given
+        CustomListPool pool = new CustomListPool();
+        CustomArrayList<Integer> small = pool.acquire(16);
+        CustomArrayList<Integer> large = pool.acquire(1000);
+        pool.release(small);
+        pool.release(large);
+
+        //when
+        CustomArrayList<Integer> forLarge = pool.acquire(600);
+        CustomArrayList<Integer> fresh = pool.acquire(600);
+
+        //then
+        assertEquals(16, small.capacity());
+        assertEquals(1024, large.capacity());
+        Assertions.assertSame(large, forLarge);
+        Assertions.assertNotSame(small, fresh);
+        assertEquals(1024, fresh.capacity());
+        Assertions.assertSame(small, pool.acquire(10));
+    }
+
+    @Test
+    public void shouldDropOversizedListsAndOverflow() {
+
+        //given
+        CustomListPool pool = new CustomListPool(64, 1);
+
+        //then
+        Assertions.assertFalse(pool.release(new CustomArrayList<>(1000)));
+        Assertions.assertFalse(pool.release(new CustomArrayList<>(10)));
+        Assertions.assertTrue(pool.release(new CustomArrayList<>(20)));
+        Assertions.assertFalse(pool.release(new CustomArrayList<>(20)));
+        assertEquals(1, pool.pooledCount());
+        assertEquals(1000, pool.acquire(1000).capacity());
+    }
+
+    @Test
+    public void shouldKeepSeparateFreeListsPerThread() throws InterruptedException {
+
+        //given
+        CustomListPool pool = new CustomListPool();
+        pool.release(pool.acquire());
+        AtomicReference<Integer> otherThreadCount = new AtomicReference<>();
+
+        //when
+        Thread thread = new Thread(() -> otherThreadCount.set(pool.pooledCount()));
+        thread.start();
+        thread.join();
+
+        //then
+        assertEquals(0, otherThreadCount.get());
+        assertEquals(1, pool.pooledCount());
+    }
+
+    @Test
+    public void shouldThrowIllegalArgumentExceptionWhenConfigurationIsInvalid() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new CustomListPool(8, 4));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new CustomListPool(64, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new CustomListPool().acquire(-1));
+    }
+
+}
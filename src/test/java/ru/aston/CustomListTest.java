@@ -7,8 +7,17 @@ import ru.aston.util.TestObject;
 import ru.aston.util.TestObjectComparator;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static ru.aston.util.QuickSortUtil.parallelQuickSort;
 import static ru.aston.util.QuickSortUtil.quickSort;
 
 public class CustomListTest {
@@ -290,6 +299,69 @@ public class CustomListTest {
                 + ". Total size of array = " + 10, thrown.getMessage());
     }
 
+    @Test
+    public void shouldThrowIndexOutOfBoundsExceptionWhenRemovingFromEmptyList() {
+
+        //given
+        CustomArrayList<Integer> arr = new CustomArrayList<>(0);
+
+        //then
+        IndexOutOfBoundsException thrown = Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+            arr.remove(0);
+        }, "IndexOutOfBoundsException was expected");
+
+        Assertions.assertEquals("Element can't be found! Number of elements in array = 0. Total size of array = 0",
+                thrown.getMessage());
+    }
+
+    @Test
+    public void shouldShrinkCapacityWithHysteresisAfterRemovals() {
+
+        //given
+        CustomArrayList<Integer> arr = new CustomArrayList<>(1000);
+        for (int i = 0; i < 1000; i++) {
+            arr.add(i);
+        }
+        arr.setAutoShrink(0.25);
+
+        //when
+        arr.removeRange(300, 1000);
+        int capacityAfterRange = arr.capacity();
+        while (arr.size() > 249) {
+            arr.remove(arr.size() - 1);
+        }
+        int capacityAfterRemove = arr.capacity();
+        arr.add(249);
+        arr.remove(249);
+
+        //then
+        assertEquals(1000, capacityAfterRange);
+        assertEquals(498, capacityAfterRemove);
+        assertEquals(498, arr.capacity());
+        assertEquals(248, arr.get(248));
+        arr.clear();
+        assertEquals(10, arr.capacity());
+    }
+
+    @Test
+    public void shouldKeepCapacityOnClearWhenAutoShrinkIsOff() {
+
+        //given
+        CustomArrayList<Integer> arr = new CustomArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            arr.add(i);
+        }
+
+        //when
+        arr.clear();
+
+        //then
+        assertEquals(0, arr.size());
+        assertEquals(100, arr.capacity());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> arr.setAutoShrink(0.5),
+                "IllegalArgumentException was expected");
+    }
+
     @Test
     public void shouldReturnSizeByList() {
 
@@ -420,5 +492,327 @@ public class CustomListTest {
 
     }
 
+    @Test
+    public void shouldKeepAllElementsWhenCapacityIncreases() {
+
+        //given
+        CustomList<Integer> arr = new CustomArrayList<>(3);
+
+        //when
+        for (int i = 0; i < 25; i++) {
+            arr.add(i);
+        }
+        arr.add(0, -1);
+
+        //then
+        assertEquals(arr.size(), 26);
+        for (int i = 0; i < 25; i++) {
+            assertEquals(arr.get(i + 1), i);
+        }
+    }
+
+    @Test
+    public void shouldSortLargeCustomArrayList() {
+
+        //given
+        Random random = new Random(7);
+        Integer[] expected = new Integer[1000];
+        CustomList<Integer> arr = new CustomArrayList<>();
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = random.nextInt(100);
+            arr.add(expected[i]);
+        }
+
+        //when
+        quickSort(arr, 0, arr.size() - 1);
+        Arrays.sort(expected);
+
+        //then
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(arr.get(i), expected[i]);
+        }
+    }
+
+    @Test
+    public void shouldSortRangeOfCustomArrayListWithComparator() {
+
+        //given
+        CustomList<Integer> arr = new CustomArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            arr.add(i);
+        }
+
+        //when
+        quickSort(arr, Comparator.reverseOrder(), 5, 14);
+
+        //then
+        for (int i = 0; i < 5; i++) {
+            assertEquals(arr.get(i), i);
+        }
+        for (int i = 5; i < 15; i++) {
+            assertEquals(arr.get(i), 19 - i);
+        }
+        for (int i = 15; i < 20; i++) {
+            assertEquals(arr.get(i), i);
+        }
+    }
+
+    @Test
+    public void shouldThrowIndexOutOfBoundsExceptionWhenSortRangeIsOutOfList() {
+
+        //given
+        CustomList<Integer> arr = new CustomArrayList<>();
+        arr.add(2);
+        arr.add(1);
+
+        //then
+        IndexOutOfBoundsException thrown = Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+            quickSort(arr, 0, 5);
+        }, "IndexOutOfBoundsException was expected");
+
+        Assertions.assertEquals("Sort range [0, 5] is out of bounds for size = 2", thrown.getMessage());
+    }
+
+    @Test
+    public void shouldSortListInParallelWithComparator() {
+
+        //given
+        Random random = new Random(11);
+        Integer[] expected = new Integer[50_000];
+        CustomList<Integer> arr = new CustomArrayList<>();
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = random.nextInt();
+            arr.add(expected[i]);
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        //when
+        parallelQuickSort(arr, Comparator.reverseOrder(), 0, arr.size() - 1, pool, 1000);
+        Arrays.sort(expected, Comparator.reverseOrder());
+        pool.shutdown();
+
+        //then
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(arr.get(i), expected[i]);
+        }
+    }
+
+    @Test
+    public void shouldInsertAllElementsIntoMiddle() {
+
+        //given
+        CustomList<Integer> arr = new CustomArrayList<>(4);
+        CustomList<Integer> batch = new CustomArrayList<>();
+        CustomList<Integer> other = new CopyOnWriteCustomList<>();
+        for (int i = 0; i < 4; i++) {
+            arr.add(i);
+            batch.add(100 + i);
+            other.add(200 + i);
+        }
+
+        //when
+        arr.addAll(2, batch);
+        arr.addAll(0, other);
+        arr.addAll(new Integer[]{300, 301});
+
+        //then
+        Integer[] expected = {200, 201, 202, 203, 0, 1, 100, 101, 102, 103, 2, 3, 300, 301};
+        assertEquals(arr.size(), expected.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(arr.get(i), expected[i]);
+        }
+    }
+
+    @Test
+    public void shouldInsertListIntoItself() {
+
+        //given
+        CustomList<Integer> arr = new CustomArrayList<>();
+        arr.add(1);
+        arr.add(2);
+
+        //when
+        arr.addAll(1, arr);
+
+        //then
+        assertEquals(arr.size(), 4);
+        assertEquals(arr.get(0), 1);
+        assertEquals(arr.get(1), 1);
+        assertEquals(arr.get(2), 2);
+        assertEquals(arr.get(3), 2);
+    }
+
+    @Test
+    public void shouldInsertWrapperOfSameListIntoItself() {
+
+        //given
+        CustomArrayList<Integer> arr = new CustomArrayList<>();
+        arr.add(0);
+        arr.add(1);
+        arr.add(2);
+        CustomList<Integer> wrapper = new InstrumentedCustomList<>(arr);
+
+        //when
+        arr.addAll(1, wrapper);
+
+        //then
+        assertEquals(6, arr.size());
+        assertEquals("0,0,1,2,1,2", arr.stream().map(String::valueOf).collect(Collectors.joining(",")));
+    }
+
+    @Test
+    public void shouldRemoveRangeAndElementsByFilter() {
+
+        //given
+        CustomList<Integer> arr = new CustomArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            arr.add(i);
+        }
+
+        //when
+        arr.removeRange(5, 10);
+        boolean removed = arr.removeIf(value -> value % 2 == 0);
+
+        //then
+        Assertions.assertTrue(removed);
+        Integer[] expected = {1, 3, 11, 13, 15, 17, 19};
+        assertEquals(arr.size(), expected.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(arr.get(i), expected[i]);
+        }
+    }
+
+    @Test
+    public void shouldKeepUntestedElementsWhenFilterThrows() {
+
+        //given
+        CustomList<Integer> arr = new CustomArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            arr.add(i);
+        }
+
+        //when
+        Assertions.assertThrows(IllegalStateException.class, () -> arr.removeIf(value -> {
+            if (value == 6) {
+                throw new IllegalStateException();
+            }
+            return value % 2 == 0;
+        }));
+
+        //then
+        Integer[] expected = {1, 3, 5, 6, 7, 8, 9};
+        assertEquals(arr.size(), expected.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(arr.get(i), expected[i]);
+        }
+    }
+
+    @Test
+    public void shouldIterateAndRemoveWithIterator() {
+
+        //given
+        CustomList<Integer> arr = new CustomArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            arr.add(i);
+        }
+
+        //when
+        int sum = 0;
+        for (Integer value : arr) {
+            sum += value;
+        }
+        Iterator<Integer> iterator = arr.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        //then
+        assertEquals(45, sum);
+        assertEquals(Arrays.asList(1, 3, 5, 7, 9), arr.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void shouldThrowConcurrentModificationExceptionWhenListChangesDuringIteration() {
+
+        //given
+        CustomList<Integer> arr = new CustomArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            arr.add(i);
+        }
+
+        //then
+        Assertions.assertThrows(ConcurrentModificationException.class, () -> {
+            for (Integer value : arr) {
+                if (value == 3) {
+                    arr.add(100);
+                }
+            }
+        }, "ConcurrentModificationException was expected");
+        Assertions.assertThrows(ConcurrentModificationException.class, () -> arr.forEach(value -> arr.remove(0)),
+                "ConcurrentModificationException was expected");
+    }
+
+    @Test
+    public void shouldSplitEvenlyAndSumInParallelStream() {
+
+        //given
+        CustomList<Integer> arr = new CustomArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            arr.add(i);
+        }
+
+        //when
+        Spliterator<Integer> right = arr.spliterator();
+        Spliterator<Integer> left = right.trySplit();
+        long sum = arr.parallelStream().mapToLong(Integer::longValue).sum();
+
+        //then
+        assertEquals(50000, left.estimateSize());
+        assertEquals(50000, right.estimateSize());
+        Assertions.assertTrue(right.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        assertEquals(4999950000L, sum);
+    }
+
+    @Test
+    public void shouldStreamListWithDefaultIterator() {
+
+        //given
+        CustomList<Integer> list = new CircularCustomList<>();
+        for (int i = 0; i < 5; i++) {
+            list.add(0, i);
+        }
+
+        //when
+        String joined = list.stream().map(String::valueOf).collect(Collectors.joining(","));
+
+        //then
+        assertEquals("4,3,2,1,0", joined);
+    }
+
+    @Test
+    public void shouldFindElementsByEquals() {
+
+        //given
+        CustomArrayList<String> arr = new CustomArrayList<>();
+        CustomList<String> circular = new CircularCustomList<>();
+        for (String s : new String[]{"a", null, "b", "a", null}) {
+            arr.add(s);
+            circular.add(s);
+        }
+
+        //then
+        assertEquals(0, arr.indexOf("a"));
+        assertEquals(3, arr.lastIndexOf("a"));
+        assertEquals(1, arr.indexOf(null));
+        assertEquals(4, arr.lastIndexOf(null));
+        assertEquals(-1, arr.indexOf("c"));
+        assertEquals(0, circular.indexOf(new String("a")));
+        assertEquals(3, circular.lastIndexOf("a"));
+        assertEquals(4, circular.lastIndexOf(null));
+        Assertions.assertTrue(circular.contains("b"));
+        Assertions.assertFalse(circular.contains("c"));
+    }
 
 }
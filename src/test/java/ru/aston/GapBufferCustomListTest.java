@@ -0,0 +1,102 @@
+package ru.aston;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.aston.util.QuickSortUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class GapBufferCustomListTest {
+
+    @Test
+    public void shouldInsertSequenceAtCursor() {
+
+        //given
+        GapBufferCustomList<Integer> list = new GapBufferCustomList<>(2);
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+
+        //when
+        for (int i = 0; i < 5; i++) {
+            list.add(5 + i, 100 + i);
+        }
+        list.remove(10);
+
+        //then
+        assertEquals(14, list.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, list.get(i));
+            assertEquals(100 + i, list.get(5 + i));
+        }
+        assertEquals(6, list.get(10));
+        assertEquals(9, list.get(13));
+    }
+
+    @Test
+    public void shouldMatchArrayListOnClusteredEdits() {
+
+        //given
+        GapBufferCustomList<Integer> list = new GapBufferCustomList<>();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(13);
+        int cursor = 0;
+
+        //when
+        for (int i = 0; i < 5000; i++) {
+            cursor = Math.max(0, Math.min(expected.size(), cursor + random.nextInt(7) - 3));
+            if (cursor == expected.size() || random.nextInt(3) > 0) {
+                list.add(cursor, i);
+                expected.add(cursor, i);
+            } else {
+                assertEquals(expected.remove(cursor), list.remove(cursor));
+            }
+        }
+
+        //then
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void shouldSortListWithGapInTheMiddle() {
+
+        //given
+        GapBufferCustomList<Integer> list = new GapBufferCustomList<>();
+        for (int i = 0; i < 20; i++) {
+            list.add(i / 2, 20 - i);
+        }
+
+        //when
+        QuickSortUtil.quickSort(list, 0, list.size() - 1);
+
+        //then
+        for (int i = 1; i < list.size(); i++) {
+            Assertions.assertTrue(list.get(i - 1) <= list.get(i));
+        }
+    }
+
+    @Test
+    public void shouldClearList() {
+
+        //given
+        GapBufferCustomList<Integer> list = new GapBufferCustomList<>();
+        list.add(1);
+        list.add(0, 2);
+
+        //when
+        list.clear();
+        list.add(3);
+
+        //then
+        assertEquals(1, list.size());
+        assertEquals(3, list.get(0));
+    }
+
+}
@@ -0,0 +1,95 @@
+package ru.aston;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class GrowthPolicyTest {
+
+    @Test
+    public void shouldGrowCapacityByDefaultPolicy() {
+
+        //given
+        CustomArrayList<Integer> arr = new CustomArrayList<>(3);
+
+        //when
+        for (int i = 0; i < 4; i++) {
+            arr.add(i);
+        }
+
+        //then
+        assertEquals(7, arr.capacity());
+    }
+
+    @Test
+    public void shouldGrowCapacityByGeometricAndAdditivePolicies() {
+
+        //given
+        CustomArrayList<Integer> geometric = new CustomArrayList<>(10, GrowthPolicy.geometric(1.5));
+        CustomArrayList<Integer> additive = new CustomArrayList<>(10, GrowthPolicy.additive(100));
+
+        //when
+        for (int i = 0; i < 11; i++) {
+            geometric.add(i);
+            additive.add(i);
+        }
+
+        //then
+        assertEquals(16, geometric.capacity());
+        assertEquals(110, additive.capacity());
+        assertEquals(10, geometric.get(10));
+        assertEquals(10, additive.get(10));
+    }
+
+    @Test
+    public void shouldThrowIllegalStateExceptionWhenCappedCapacityIsExceeded() {
+
+        //given
+        CustomArrayList<Integer> arr = new CustomArrayList<>(2, GrowthPolicy.capped(GrowthPolicy.DEFAULT, 4));
+        for (int i = 0; i < 4; i++) {
+            arr.add(i);
+        }
+
+        //then
+        assertEquals(4, arr.capacity());
+        IllegalStateException thrown = Assertions.assertThrows(IllegalStateException.class, () -> {
+            arr.add(4);
+        }, "IllegalStateException was expected");
+
+        Assertions.assertEquals("List capacity can't be greater than 4!", thrown.getMessage());
+        assertEquals(4, arr.size());
+    }
+
+    @Test
+    public void shouldEnsureCapacityAndTrimToSize() {
+
+        //given
+        CustomArrayList<Integer> arr = new CustomArrayList<>();
+
+        //when
+        arr.ensureCapacity(1000);
+        int ensured = arr.capacity();
+        for (int i = 0; i < 1000; i++) {
+            arr.add(i);
+        }
+        int afterAdd = arr.capacity();
+        arr.removeRange(10, 1000);
+        arr.trimToSize();
+
+        //then
+        assertEquals(1000, ensured);
+        assertEquals(1000, afterAdd);
+        assertEquals(10, arr.capacity());
+        assertEquals(9, arr.get(9));
+    }
+
+    @Test
+    public void shouldThrowIllegalArgumentExceptionWhenPolicyIsInvalid() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.geometric(1.0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.additive(0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> GrowthPolicy.capped(GrowthPolicy.DEFAULT, 0));
+    }
+
+}
@@ -0,0 +1,175 @@
+package ru.aston;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.aston.util.QuickSortUtil;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class IndexedCustomArrayListTest {
+
+    @Test
+    public void shouldFindFirstAndLastPositionsOfDuplicates() {
+
+        //given
+        IndexedCustomArrayList<String> list = new IndexedCustomArrayList<>();
+
+        //when
+        for (String s : new String[]{"a", "b", null, "a", "c", null, "a"}) {
+            list.add(s);
+        }
+
+        //then
+        assertEquals(0, list.indexOf("a"));
+        assertEquals(6, list.lastIndexOf("a"));
+        assertEquals(2, list.indexOf(null));
+        assertEquals(5, list.lastIndexOf(null));
+        assertEquals(-1, list.indexOf("d"));
+        Assertions.assertTrue(list.contains("c"));
+        Assertions.assertFalse(list.contains("d"));
+    }
+
+    @Test
+    public void shouldUpdateIndexOnSetAndRemove() {
+
+        //given
+        IndexedCustomArrayList<String> list = new IndexedCustomArrayList<>();
+        for (String s : new String[]{"a", "b", "a", "b"}) {
+            list.add(s);
+        }
+
+        //when
+        list.set(0, "b");
+        list.remove(3);
+        list.remove(0);
+
+        //then
+        assertEquals(0, list.indexOf("b"));
+        assertEquals(0, list.lastIndexOf("b"));
+        assertEquals(1, list.indexOf("a"));
+        assertEquals(2, list.size());
+    }
+
+    @Test
+    public void shouldMatchLinearScanAfterRandomOperations() {
+
+        //given
+        IndexedCustomArrayList<Integer> indexed = new IndexedCustomArrayList<>();
+        CustomArrayList<Integer> expected = new CustomArrayList<>();
+        Random random = new Random(24);
+
+        //when
+        for (int step = 0; step < 20000; step++) {
+            Integer value = random.nextInt(10) == 0 ? null : random.nextInt(200);
+            int op = random.nextInt(10);
+            if (op < 4 || expected.size() == 0) {
+                indexed.add(value);
+                expected.add(value);
+            } else if (op < 6) {
+                int index = random.nextInt(expected.size());
+                indexed.set(index, value);
+                expected.set(index, value);
+            } else if (op < 7) {
+                indexed.remove(expected.size() - 1);
+                expected.remove(expected.size() - 1);
+            } else if (op < 8) {
+                int index = random.nextInt(expected.size() + 1);
+                indexed.add(index, value);
+                expected.add(index, value);
+            } else if (op < 9) {
+                int index = random.nextInt(expected.size());
+                indexed.remove(index);
+                expected.remove(index);
+            } else {
+                Integer probe = random.nextInt(10) == 0 ? null : random.nextInt(200);
+                assertEquals(expected.indexOf(probe), indexed.indexOf(probe));
+                assertEquals(expected.lastIndexOf(probe), indexed.lastIndexOf(probe));
+            }
+        }
+
+        //then
+        assertEquals(expected.size(), indexed.size());
+        for (int i = -1; i < 200; i++) {
+            Integer probe = i < 0 ? null : i;
+            assertEquals(expected.indexOf(probe), indexed.indexOf(probe));
+            assertEquals(expected.lastIndexOf(probe), indexed.lastIndexOf(probe));
+        }
+    }
+
+    @Test
+    public void shouldRebuildIndexAfterBulkChanges() {
+
+        //given
+        IndexedCustomArrayList<Integer> list = new IndexedCustomArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i % 10);
+        }
+
+        //when
+        list.removeIf(i -> i == 3);
+        list.removeRange(0, 10);
+        list.sort(Comparator.naturalOrder(), 0, list.size() - 1);
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        iterator.remove();
+
+        //then
+        assertEquals(79, list.size());
+        assertEquals(0, list.indexOf(0));
+        assertEquals(6, list.lastIndexOf(0));
+        assertEquals(7, list.indexOf(1));
+        Assertions.assertFalse(list.contains(3));
+        list.clear();
+        Assertions.assertFalse(list.contains(0));
+        list.add(5);
+        assertEquals(0, list.indexOf(5));
+    }
+
+    @Test
+    public void shouldUpdateIndexCheaplyWithHeavyDuplicates() {
+        Assertions.assertTimeout(Duration.ofSeconds(10), () -> {
+
+            //given
+            int size = 200_000;
+            IndexedCustomArrayList<Integer> list = new IndexedCustomArrayList<>();
+            CustomArrayList<Integer> expected = new CustomArrayList<>();
+            Random random = new Random(240);
+            for (int i = 0; i < size; i++) {
+                Integer value = random.nextInt(2);
+                list.add(value);
+                expected.add(value);
+            }
+            list.indexOf(0);
+
+            //when
+            for (int i = 0, j = size - 1; i < j; i++, j--) {
+                list.set(i, list.set(j, list.get(i)));
+                expected.set(i, expected.set(j, expected.get(i)));
+            }
+            assertLookupsMatch(expected, list);
+            QuickSortUtil.quickSort(list, 0, size - 1);
+            QuickSortUtil.quickSort(expected, 0, size - 1);
+            assertLookupsMatch(expected, list);
+            while (list.size() > size / 2) {
+                list.remove(list.size() - 1);
+                expected.remove(expected.size() - 1);
+            }
+
+            //then
+            assertLookupsMatch(expected, list);
+        });
+    }
+
+    private static void assertLookupsMatch(CustomArrayList<Integer> expected, IndexedCustomArrayList<Integer> list) {
+        for (int probe = 0; probe < 3; probe++) {
+            assertEquals(expected.indexOf(probe), list.indexOf(probe));
+            assertEquals(expected.lastIndexOf(probe), list.lastIndexOf(probe));
+        }
+    }
+
+}
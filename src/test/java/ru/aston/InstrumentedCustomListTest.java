@@ -0,0 +1,77 @@
+package ru.aston;
+
+import org.junit.jupiter.api.Test;
+import ru.aston.metrics.ListMetrics;
+import ru.aston.metrics.ListMetricsSnapshot;
+
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class InstrumentedCustomListTest {
+
+    @Test
+    public void shouldCountOperationsOfWrappedCustomArrayList() {
+
+        //given
+        InstrumentedCustomList<Integer> list = new InstrumentedCustomList<>(new CustomArrayList<>(2));
+
+        //when
+        list.add(1);
+        list.add(2);
+        list.add(0, 0);
+        list.removeRange(0, 1);
+        list.sort(Comparator.reverseOrder(), 0, list.size() - 1);
+        ListMetricsSnapshot snapshot = list.metrics().snapshot();
+
+        //then
+        assertEquals(3, snapshot.getAdditions());
+        assertEquals(1, snapshot.getRemovals());
+        assertEquals(1, snapshot.getResizes());
+        assertEquals(2 + 2, snapshot.getShiftedElements());
+        assertEquals(1, snapshot.getSorts());
+        assertEquals(2, list.get(0));
+        assertEquals(1, list.get(1));
+    }
+
+    @Test
+    public void shouldCountSortOnceWhenSharingMetricsOfWrappedList() {
+
+        //given
+        CustomArrayList<Integer> delegate = new CustomArrayList<>();
+        ListMetrics metrics = delegate.enableMetrics();
+        InstrumentedCustomList<Integer> list = new InstrumentedCustomList<>(delegate, metrics);
+        delegate.add(1);
+        delegate.add(0);
+
+        //when
+        list.sort(null, 0, list.size() - 1);
+
+        //then
+        assertEquals(1, metrics.snapshot().getSorts());
+        assertEquals(0, list.get(0));
+    }
+
+    @Test
+    public void shouldCountOperationsOfListWithoutCapacity() {
+
+        //given
+        InstrumentedCustomList<Integer> list = new InstrumentedCustomList<>(new CircularCustomList<>());
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        list.remove(3);
+        list.clear();
+        ListMetricsSnapshot snapshot = list.metrics().snapshot();
+
+        //then
+        assertEquals(10, snapshot.getAdditions());
+        assertEquals(10, snapshot.getRemovals());
+        assertEquals(6, snapshot.getShiftedElements());
+        assertEquals(0, snapshot.getResizes());
+        assertEquals(0, list.size());
+    }
+
+}
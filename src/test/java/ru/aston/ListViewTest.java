@@ -0,0 +1,74 @@
+package ru.aston;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ListViewTest {
+
+    @Test
+    public void shouldFilterMapAndCollectInOnePass() {
+
+        //given
+        CustomList<Integer> list = new CustomArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        AtomicInteger filtered = new AtomicInteger();
+
+        //when
+        CustomArrayList<String> result = list.view()
+                .filter(value -> {
+                    filtered.incrementAndGet();
+                    return value % 2 == 1;
+                })
+                .map(value -> "#" + value)
+                .collect();
+
+        //then
+        assertEquals(10, filtered.get());
+        assertEquals(5, result.size());
+        assertEquals("#1", result.get(0));
+        assertEquals("#9", result.get(4));
+    }
+
+    @Test
+    public void shouldNotEvaluateUntilTerminalOperation() {
+
+        //given
+        CustomList<Integer> list = new CustomArrayList<>();
+        list.add(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        //when
+        ListView<Integer> view = list.view().map(value -> calls.incrementAndGet());
+        list.add(2);
+
+        //then
+        assertEquals(0, calls.get());
+        assertEquals(3, view.reduce(0, Integer::sum));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void shouldSizeCollectedListUpFrontWhenSizeIsKnown() {
+
+        //given
+        CustomList<Integer> list = new CustomArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        //when
+        CustomArrayList<Long> result = list.view().map(Integer::longValue).collect();
+
+        //then
+        assertEquals(100, result.size());
+        assertEquals(100, result.capacity());
+        assertEquals(100, list.view().map(value -> value * 2).count());
+        assertEquals(2450, list.view().filter(value -> value % 2 == 0).sum(Integer::longValue));
+    }
+
+}
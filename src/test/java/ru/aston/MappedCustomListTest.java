@@ -0,0 +1,97 @@
+package ru.aston;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.aston.codec.ElementCodecs;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MappedCustomListTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void shouldReopenListFromFile() throws IOException {
+
+        //given
+        Path file = dir.resolve("list.bin");
+
+        //when
+        try (MappedCustomList<Long> arr = MappedCustomList.open(file, ElementCodecs.LONG, 8)) {
+            for (long i = 0; i < 100; i++) {
+                arr.add(i * 10);
+            }
+            arr.add(0, -1L);
+            arr.remove(50);
+            arr.set(1, 7L);
+            arr.force();
+        }
+
+        //then
+        try (MappedCustomList<Long> arr = MappedCustomList.open(file, ElementCodecs.LONG, 32)) {
+            assertEquals(100, arr.size());
+            assertEquals(-1L, arr.get(0));
+            assertEquals(7L, arr.get(1));
+            assertEquals(480L, arr.get(49));
+            assertEquals(500L, arr.get(50));
+            assertEquals(990L, arr.get(99));
+        }
+    }
+
+    @Test
+    public void shouldKeepClearedStateAfterReopen() throws IOException {
+
+        //given
+        Path file = dir.resolve("cleared.bin");
+        try (MappedCustomList<Integer> arr = MappedCustomList.open(file, ElementCodecs.INT)) {
+            arr.add(1);
+            arr.add(2);
+
+            //when
+            arr.clear();
+        }
+
+        //then
+        try (MappedCustomList<Integer> arr = MappedCustomList.open(file, ElementCodecs.INT)) {
+            assertEquals(0, arr.size());
+        }
+    }
+
+    @Test
+    public void shouldThrowIOExceptionWhenElementSizeDoesNotMatch() throws IOException {
+
+        //given
+        Path file = dir.resolve("ints.bin");
+        try (MappedCustomList<Integer> arr = MappedCustomList.open(file, ElementCodecs.INT)) {
+            arr.add(1);
+        }
+
+        //then
+        IOException thrown = Assertions.assertThrows(IOException.class, () -> {
+            MappedCustomList.open(file, ElementCodecs.LONG);
+        }, "IOException was expected");
+
+        Assertions.assertEquals("File " + file + " stores elements of 4 bytes, but codec expects 8",
+                thrown.getMessage());
+    }
+
+    @Test
+    public void shouldThrowIOExceptionWhenFileIsNotList() throws IOException {
+
+        //given
+        Path file = dir.resolve("garbage.bin");
+        Files.write(file, new byte[64]);
+
+        //then
+        Assertions.assertThrows(IOException.class, () -> {
+            MappedCustomList.open(file, ElementCodecs.INT);
+        }, "IOException was expected");
+    }
+
+}
@@ -0,0 +1,139 @@
+package ru.aston;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.aston.codec.ElementCodecs;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static ru.aston.util.QuickSortUtil.quickSort;
+
+public class OffHeapCustomListTest {
+
+    @Test
+    public void shouldBehaveLikeCustomArrayListAcrossChunks() {
+
+        //given
+        Random random = new Random(8);
+        CustomList<Long> expected = new CustomArrayList<>();
+
+        //when
+        try (OffHeapCustomList<Long> arr = new OffHeapCustomList<>(ElementCodecs.LONG, 4)) {
+            for (int i = 0; i < 2000; i++) {
+                long value = random.nextLong();
+                int op = random.nextInt(4);
+                if (op == 0 || expected.size() == 0) {
+                    expected.add(value);
+                    arr.add(value);
+                } else if (op == 1) {
+                    int index = random.nextInt(expected.size() + 1);
+                    expected.add(index, value);
+                    arr.add(index, value);
+                } else if (op == 2) {
+                    int index = random.nextInt(expected.size());
+                    assertEquals(expected.set(index, value), arr.set(index, value));
+                } else {
+                    int index = random.nextInt(expected.size());
+                    assertEquals(expected.remove(index), arr.remove(index));
+                }
+            }
+
+            //then
+            assertEquals(expected.size(), arr.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i), arr.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void shouldSortOffHeapList() {
+
+        //given
+        Random random = new Random(9);
+        try (OffHeapCustomList<Integer> arr = new OffHeapCustomList<>(ElementCodecs.INT, 64)) {
+            for (int i = 0; i < 5000; i++) {
+                arr.add(random.nextInt(1000));
+            }
+
+            //when
+            quickSort(arr, Comparator.reverseOrder(), 0, arr.size() - 1);
+
+            //then
+            for (int i = 1; i < arr.size(); i++) {
+                Assertions.assertTrue(arr.get(i - 1) >= arr.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void shouldThrowIllegalStateExceptionWhenListIsClosed() {
+
+        //given
+        OffHeapCustomList<Double> arr = new OffHeapCustomList<>(ElementCodecs.DOUBLE);
+        arr.add(1.5);
+
+        //when
+        arr.close();
+
+        //then
+        IllegalStateException thrown = Assertions.assertThrows(IllegalStateException.class, () -> {
+            arr.get(0);
+        }, "IllegalStateException was expected");
+
+        Assertions.assertEquals("List is closed!", thrown.getMessage());
+        assertEquals(0, arr.allocatedBytes());
+    }
+
+    @Test
+    public void shouldInsertAndRemoveRangesAcrossChunks() {
+
+        //given
+        CustomList<Integer> batch = new CustomArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            batch.add(100 + i);
+        }
+
+        try (OffHeapCustomList<Integer> arr = new OffHeapCustomList<>(ElementCodecs.INT, 4)) {
+            for (int i = 0; i < 10; i++) {
+                arr.add(i);
+            }
+
+            //when
+            arr.addAll(3, batch);
+            arr.removeRange(1, 5);
+            arr.removeIf(value -> value % 2 == 1);
+
+            //then
+            Integer[] expected = {0, 102, 104, 106, 108, 4, 6, 8};
+            assertEquals(expected.length, arr.size());
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i], arr.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void shouldInsertWrapperOfSameListIntoItself() {
+
+        //given
+        try (OffHeapCustomList<Integer> arr = new OffHeapCustomList<>(ElementCodecs.INT, 4)) {
+            for (int i = 0; i < 6; i++) {
+                arr.add(i);
+            }
+
+            //when
+            arr.addAll(1, new InstrumentedCustomList<>(arr));
+
+            //then
+            assertEquals(12, arr.size());
+            int[] expected = {0, 0, 1, 2, 3, 4, 5, 1, 2, 3, 4, 5};
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i], arr.get(i));
+            }
+        }
+    }
+
+}
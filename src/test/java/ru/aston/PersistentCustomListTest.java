@@ -0,0 +1,168 @@
+package ru.aston;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PersistentCustomListTest {
+
+    @Test
+    public void shouldKeepPreviousVersionsUnchanged() {
+
+        //given
+        List<PersistentCustomList<Integer>> versions = new ArrayList<>();
+        PersistentCustomList<Integer> list = PersistentCustomList.empty();
+
+        //when
+        for (int i = 0; i < 2000; i++) {
+            versions.add(list);
+            list = list.plus(i);
+        }
+        PersistentCustomList<Integer> changed = list.with(100, -1).with(1999, -2);
+
+        //then
+        for (int v = 0; v < versions.size(); v += 97) {
+            PersistentCustomList<Integer> version = versions.get(v);
+            assertEquals(v, version.size());
+            for (int i = 0; i < version.size(); i++) {
+                assertEquals(i, version.get(i));
+            }
+        }
+        assertEquals(100, list.get(100));
+        assertEquals(-1, changed.get(100));
+        assertEquals(-2, changed.get(1999));
+    }
+
+    @Test
+    public void shouldRemoveLastElementsDownToEmptyList() {
+
+        //given
+        PersistentCustomList<Integer> list = PersistentCustomList.empty();
+        for (int i = 0; i < 1100; i++) {
+            list = list.plus(i);
+        }
+
+        //when
+        PersistentCustomList<Integer> shrunk = list;
+        for (int i = 1099; i >= 0; i--) {
+            assertEquals(i, shrunk.get(i));
+            shrunk = shrunk.minusLast();
+            assertEquals(i, shrunk.size());
+        }
+
+        //then
+        assertEquals(0, shrunk.size());
+        assertEquals(1099, list.get(1099));
+        assertEquals(5, shrunk.plus(5).get(0));
+    }
+
+    @Test
+    public void shouldMatchArrayListOnMiddleInsertsAndRemovals() {
+
+        //given
+        PersistentCustomList<Integer> list = PersistentCustomList.empty();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(15);
+
+        //when
+        for (int i = 0; i < 300; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                int index = random.nextInt(expected.size() + 1);
+                list = list.plus(index, i);
+                expected.add(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                list = list.minus(index);
+                expected.remove(index);
+            }
+        }
+
+        //then
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void shouldInsertAndRemoveAtLeafAndLevelBoundaries() {
+
+        //given
+        int[] sizes = {1, 31, 32, 33, 64, 65, 1024, 1056, 1057, 33_000};
+        int[] indexes = {0, 1, 31, 32, 33, 1023, 1024, 1025, 32_767, 32_768};
+
+        for (int size : sizes) {
+            PersistentCustomList.Builder<Integer> builder = PersistentCustomList.builder();
+            for (int i = 0; i < size; i++) {
+                builder.add(i);
+            }
+            PersistentCustomList<Integer> list = builder.build();
+            for (int index : indexes) {
+                if (index >= size) {
+                    continue;
+                }
+
+                //when
+                PersistentCustomList<Integer> inserted = list.plus(index, -1);
+                PersistentCustomList<Integer> removed = list.minus(index);
+
+                //then
+                assertEquals(size + 1, inserted.size());
+                assertEquals(size - 1, removed.size());
+                for (int i = 0; i < size; i++) {
+                    assertEquals(i, list.get(i));
+                    assertEquals(i < index ? i : i == index ? -1 : i - 1, inserted.get(i));
+                    if (i < size - 1) {
+                        assertEquals(i < index ? i : i + 1, removed.get(i));
+                    }
+                }
+                assertEquals(size - 1, inserted.get(size));
+                assertEquals(7, removed.plus(7).get(size - 1));
+            }
+        }
+    }
+
+    @Test
+    public void shouldBuildListWithBuilderWithoutChangingSource() {
+
+        //given
+        PersistentCustomList.Builder<Integer> builder = PersistentCustomList.builder();
+        for (int i = 0; i < 5000; i++) {
+            builder.add(i);
+        }
+        PersistentCustomList<Integer> source = builder.build();
+
+        //when
+        PersistentCustomList<Integer> edited = source.toBuilder().set(10, -10).add(5000).build();
+
+        //then
+        assertEquals(5000, source.size());
+        assertEquals(10, source.get(10));
+        assertEquals(5001, edited.size());
+        assertEquals(-10, edited.get(10));
+        assertEquals(5000, edited.get(5000));
+        assertEquals(4999, edited.get(4999));
+        Assertions.assertThrows(IllegalStateException.class, () -> builder.add(1),
+                "IllegalStateException was expected");
+    }
+
+    @Test
+    public void shouldThrowUnsupportedOperationExceptionOnMutation() {
+
+        //given
+        PersistentCustomList<Integer> list = PersistentCustomList.copyOf(new CustomArrayList<>());
+
+        //then
+        UnsupportedOperationException thrown = Assertions.assertThrows(UnsupportedOperationException.class, () -> {
+            list.add(1);
+        }, "UnsupportedOperationException was expected");
+
+        Assertions.assertEquals("PersistentCustomList is immutable!", thrown.getMessage());
+    }
+
+}
@@ -0,0 +1,128 @@
+package ru.aston;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static ru.aston.util.QuickSortUtil.quickSort;
+
+public class PrimitiveCustomArrayListTest {
+
+    @Test
+    public void shouldAddGetSetAndRemoveInts() {
+
+        //given
+        IntCustomArrayList arr = new IntCustomArrayList(2);
+
+        //when
+        for (int i = 0; i < 30; i++) {
+            arr.addInt(i);
+        }
+        arr.addInt(0, -1);
+        int old = arr.setInt(5, 100);
+        int removed = arr.removeInt(1);
+
+        //then
+        assertEquals(30, arr.size());
+        assertEquals(-1, arr.getInt(0));
+        assertEquals(4, old);
+        assertEquals(0, removed);
+        assertEquals(100, arr.getInt(4));
+        assertEquals(29, arr.getInt(29));
+    }
+
+    @Test
+    public void shouldThrowIndexOutOfBoundsExceptionWhenGetLongByWrongIndex() {
+
+        //given
+        LongCustomArrayList arr = new LongCustomArrayList();
+        arr.addLong(1L);
+
+        //then
+        IndexOutOfBoundsException thrown = Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+            arr.getLong(1);
+        }, "IndexOutOfBoundsException was expected");
+
+        Assertions.assertEquals("Index cannot be greater than the current array size = " + 1
+                + " or less than 0!", thrown.getMessage());
+    }
+
+    @Test
+    public void shouldThrowNullPointerExceptionWhenAddNullToPrimitiveList() {
+
+        //given
+        CustomList<Integer> arr = new IntCustomArrayList();
+
+        //then
+        Assertions.assertThrows(NullPointerException.class, () -> arr.add(null));
+        assertEquals(0, arr.size());
+    }
+
+    @Test
+    public void shouldSortIntList() {
+
+        //given
+        Random random = new Random(5);
+        int[] expected = new int[10_000];
+        IntCustomArrayList arr = new IntCustomArrayList();
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = random.nextInt(100);
+            arr.addInt(expected[i]);
+        }
+
+        //when
+        quickSort(arr, 0, arr.size() - 1);
+        Arrays.sort(expected);
+
+        //then
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], arr.getInt(i));
+        }
+    }
+
+    @Test
+    public void shouldSortLongList() {
+
+        //given
+        Random random = new Random(6);
+        long[] expected = new long[10_000];
+        LongCustomArrayList arr = new LongCustomArrayList();
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = random.nextLong();
+            arr.addLong(expected[i]);
+        }
+
+        //when
+        quickSort(arr, 0, arr.size() - 1);
+        Arrays.sort(expected);
+
+        //then
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], arr.getLong(i));
+        }
+    }
+
+    @Test
+    public void shouldSortDoubleListWithNaNAndSignedZeros() {
+
+        //given
+        double[] expected = {3.5, Double.NaN, -0.0, 0.0, -7.25, Double.NEGATIVE_INFINITY, 1e10, 0.0, -0.0};
+        DoubleCustomArrayList arr = new DoubleCustomArrayList();
+        for (double value : expected) {
+            arr.addDouble(value);
+        }
+
+        //when
+        quickSort(arr, 0, arr.size() - 1);
+        Arrays.sort(expected);
+
+        //then
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(Double.doubleToLongBits(expected[i]), Double.doubleToLongBits(arr.getDouble(i)));
+        }
+    }
+
+}
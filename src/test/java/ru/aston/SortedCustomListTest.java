@@ -0,0 +1,115 @@
+package ru.aston;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SortedCustomListTest {
+
+    @Test
+    public void shouldKeepElementsSortedOnAdd() {
+
+        //given
+        SortedCustomList<Integer> list = new SortedCustomList<>();
+        Random random = new Random(18);
+
+        //when
+        for (int i = 0; i < 1000; i++) {
+            list.add(random.nextInt(500));
+        }
+        list.remove(10);
+
+        //then
+        assertEquals(999, list.size());
+        for (int i = 1; i < list.size(); i++) {
+            Assertions.assertTrue(list.get(i - 1) <= list.get(i));
+        }
+        int index = list.binarySearch(list.get(500));
+        assertEquals(list.get(500), list.get(index));
+    }
+
+    @Test
+    public void shouldMergeAddedListUsingComparator() {
+
+        //given
+        SortedCustomList<Integer> list = new SortedCustomList<>(Comparator.reverseOrder());
+        list.add(5);
+        list.add(1);
+        CustomList<Integer> other = new CustomArrayList<>();
+        other.add(3);
+        other.add(7);
+        other.add(0);
+
+        //when
+        list.addAll(other);
+
+        //then
+        Integer[] expected = {7, 5, 3, 1, 0};
+        assertEquals(expected.length, list.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], list.get(i));
+        }
+        assertEquals(-6, list.binarySearch(-1));
+    }
+
+    @Test
+    public void shouldFindElementsWithinEqualOrderRange() {
+
+        //given
+        SortedCustomList<String> list = new SortedCustomList<>(Comparator.comparingInt(String::length));
+
+        //when
+        for (String s : new String[]{"bb", "a", "cc", "dd", "bb"}) {
+            list.add(s);
+        }
+
+        //then
+        assertEquals(1, list.indexOf("bb"));
+        assertEquals(4, list.lastIndexOf("bb"));
+        assertEquals(2, list.indexOf("cc"));
+        assertEquals(2, list.lastIndexOf("cc"));
+        Assertions.assertTrue(list.contains("dd"));
+        Assertions.assertFalse(list.contains("ee"));
+        assertEquals(-1, list.indexOf("zzz"));
+        assertEquals(-1, list.lastIndexOf(""));
+    }
+
+    @Test
+    public void shouldMatchLinearScanOnLookup() {
+
+        //given
+        SortedCustomList<Integer> list = new SortedCustomList<>();
+        CustomArrayList<Integer> expected = new CustomArrayList<>();
+        Random random = new Random(180);
+        for (int i = 0; i < 1000; i++) {
+            list.add(random.nextInt(300));
+        }
+        expected.addAll(list);
+
+        //then
+        for (int i = -1; i <= 300; i++) {
+            assertEquals(expected.indexOf(i), list.indexOf(i));
+            assertEquals(expected.lastIndexOf(i), list.lastIndexOf(i));
+            assertEquals(expected.contains(i), list.contains(i));
+        }
+    }
+
+    @Test
+    public void shouldThrowUnsupportedOperationExceptionOnInsertByIndex() {
+
+        //given
+        SortedCustomList<Integer> list = new SortedCustomList<>();
+
+        //then
+        UnsupportedOperationException thrown = Assertions.assertThrows(UnsupportedOperationException.class, () -> {
+            list.add(0, 1);
+        }, "UnsupportedOperationException was expected");
+
+        Assertions.assertEquals("SortedCustomList doesn't support insertion by index!", thrown.getMessage());
+    }
+
+}
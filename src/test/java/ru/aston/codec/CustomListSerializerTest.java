@@ -0,0 +1,159 @@
+package ru.aston.codec;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.aston.CustomArrayList;
+import ru.aston.util.Fixture;
+import ru.aston.util.TestObject;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CustomListSerializerTest {
+
+    @Test
+    public void shouldWriteAndReadLongList() throws IOException {
+
+        //given
+        CustomArrayList<Long> arr = new CustomArrayList<>();
+        for (long i = 0; i < 100_000; i++) {
+            arr.add(i * 31);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        arr.writeTo(out, StreamCodecs.LONG);
+        CustomArrayList<Long> result = CustomArrayList.readFrom(new ByteArrayInputStream(out.toByteArray()),
+                StreamCodecs.LONG);
+
+        //then
+        assertEquals(arr.size(), result.size());
+        assertEquals(arr.size(), result.capacity());
+        for (int i = 0; i < arr.size(); i++) {
+            assertEquals(arr.get(i), result.get(i));
+        }
+    }
+
+    @Test
+    public void shouldWriteAndReadSeveralStringListsFromOneStream() throws IOException {
+
+        //given
+        CustomArrayList<String> first = new CustomArrayList<>();
+        first.add("name1");
+        first.add(null);
+        first.add("имя");
+        first.add("x".repeat(200_000));
+        CustomArrayList<String> second = new CustomArrayList<>();
+        second.add("name2");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        first.writeTo(out, StreamCodecs.STRING);
+        second.writeTo(out, StreamCodecs.STRING);
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+        CustomArrayList<String> firstResult = CustomArrayList.readFrom(in, StreamCodecs.STRING);
+        CustomArrayList<String> secondResult = CustomArrayList.readFrom(in, StreamCodecs.STRING);
+
+        //then
+        assertEquals(4, firstResult.size());
+        assertEquals("name1", firstResult.get(0));
+        assertEquals(null, firstResult.get(1));
+        assertEquals("имя", firstResult.get(2));
+        assertEquals(200_000, firstResult.get(3).length());
+        assertEquals(1, secondResult.size());
+        assertEquals("name2", secondResult.get(0));
+        assertEquals(0, in.available());
+    }
+
+    @Test
+    public void shouldWriteAndReadListWithCustomCodec() throws IOException {
+
+        //given
+        StreamCodec<TestObject> codec = new StreamCodec<>() {
+            @Override
+            public int id() {
+                return 100;
+            }
+
+            @Override
+            public void write(DataOutput out, TestObject element) throws IOException {
+                out.writeLong(element.getId());
+                out.writeUTF(element.getName());
+                out.writeInt(element.getYear());
+                out.writeUTF(element.getCreateDate().toString());
+            }
+
+            @Override
+            public TestObject read(DataInput in) throws IOException {
+                Long id = in.readLong();
+                String name = in.readUTF();
+                Integer year = in.readInt();
+                return Fixture.generateTestObject(id, LocalDateTime.parse(in.readUTF()), year, name);
+            }
+        };
+        CustomArrayList<TestObject> arr = new CustomArrayList<>();
+        for (long i = 0; i < 5000; i++) {
+            arr.add(Fixture.generateTestObject(i, LocalDateTime.now(), 1990 + (int) i % 30, "name" + i));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        arr.writeTo(out, codec);
+        CustomArrayList<TestObject> result = CustomArrayList.readFrom(new ByteArrayInputStream(out.toByteArray()),
+                codec);
+
+        //then
+        assertEquals(arr.size(), result.size());
+        assertEquals(arr.size(), result.capacity());
+        for (int i = 0; i < arr.size(); i++) {
+            assertEquals(arr.get(i), result.get(i));
+        }
+    }
+
+    @Test
+    public void shouldThrowIOExceptionWhenCodecDoesNotMatch() throws IOException {
+
+        //given
+        CustomArrayList<Integer> arr = new CustomArrayList<>();
+        arr.add(1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        arr.writeTo(out, StreamCodecs.INT);
+
+        //then
+        IOException thrown = Assertions.assertThrows(IOException.class, () -> {
+            CustomArrayList.readFrom(new ByteArrayInputStream(out.toByteArray()), StreamCodecs.LONG);
+        }, "IOException was expected");
+
+        Assertions.assertEquals("CustomList was written with codec 1, but codec 2 is used to read it",
+                thrown.getMessage());
+    }
+
+    @Test
+    public void shouldThrowIOExceptionWhenHeaderSizeExceedsData() {
+
+        //given
+        ByteBuffer data = ByteBuffer.allocate(CustomListSerializer.HEADER_SIZE + Integer.BYTES)
+                .putInt(CustomListSerializer.MAGIC)
+                .putShort(CustomListSerializer.VERSION)
+                .putShort((short) 0)
+                .putInt(StreamCodecs.INT.id())
+                .putInt(Integer.MAX_VALUE)
+                .putInt(0);
+
+        //then
+        IOException thrown = Assertions.assertThrows(IOException.class, () -> {
+            CustomArrayList.readFrom(new ByteArrayInputStream(data.array()), StreamCodecs.INT);
+        }, "IOException was expected");
+
+        Assertions.assertEquals("Corrupted CustomList data: expected " + Integer.MAX_VALUE + " elements, found 0",
+                thrown.getMessage());
+    }
+
+}
@@ -0,0 +1,89 @@
+package ru.aston.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.aston.CustomArrayList;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ListMetricsTest {
+
+    @Test
+    public void shouldCountResizesShiftsAndSortsOfCustomArrayList() {
+
+        //given
+        CustomArrayList<Integer> list = new CustomArrayList<>(4);
+        ListMetrics metrics = list.enableMetrics();
+
+        //when
+        for (int i = 0; i < 5; i++) {
+            list.add(i);
+        }
+        list.add(0, -1);
+        list.remove(1);
+        list.sort(null, 0, list.size() - 1);
+        ListMetricsSnapshot snapshot = metrics.snapshot();
+
+        //then
+        assertEquals(6, snapshot.getAdditions());
+        assertEquals(1, snapshot.getRemovals());
+        assertEquals(1, snapshot.getResizes());
+        assertEquals(4, snapshot.getCopiedOnResize());
+        assertEquals(5 + 4, snapshot.getShiftedElements());
+        assertEquals(1, snapshot.getSorts());
+        long samples = 0;
+        for (long count : snapshot.getFillRatioHistogram()) {
+            samples += count;
+        }
+        assertEquals(7, samples);
+    }
+
+    @Test
+    public void shouldResetAndStopCountingWhenDisabled() {
+
+        //given
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        ListMetrics metrics = list.enableMetrics();
+        list.add(1);
+
+        //when
+        metrics.reset();
+        list.disableMetrics();
+        list.add(2);
+
+        //then
+        assertEquals(0, metrics.getAdditions());
+        Assertions.assertNull(list.metrics());
+    }
+
+    @Test
+    public void shouldExposeMetricsThroughJmx() throws Exception {
+
+        //given
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        ListMetrics metrics = list.enableMetrics();
+        list.add(1);
+        list.add(2);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        //when
+        ObjectName name = metrics.register("jmx-test");
+
+        //then
+        try {
+            assertEquals(2L, server.getAttribute(name, "Additions"));
+            server.invoke(name, "reset", new Object[0], new String[0]);
+            assertEquals(0L, server.getAttribute(name, "Additions"));
+            Assertions.assertThrows(IllegalStateException.class, () -> metrics.register("jmx-test"),
+                    "IllegalStateException was expected");
+        } finally {
+            metrics.unregister();
+        }
+        Assertions.assertFalse(server.isRegistered(name));
+    }
+
+}
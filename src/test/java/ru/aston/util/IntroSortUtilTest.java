@@ -0,0 +1,149 @@
+package ru.aston.util;
+
+import org.junit.jupiter.api.Test;
+import ru.aston.CustomArrayList;
+import ru.aston.CustomList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class IntroSortUtilTest {
+
+    private static final int SIZE = 100_000;
+
+    @Test
+    public void shouldSortAlreadySortedList() {
+
+        //given
+        Integer[] expected = new Integer[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            expected[i] = i;
+        }
+
+        //when
+        CustomList<Integer> list = toList(expected);
+        IntroSortUtil.sort(list, 0, list.size() - 1);
+
+        //then
+        assertSorted(list, expected);
+    }
+
+    @Test
+    public void shouldSortReversedListWithComparator() {
+
+        //given
+        Integer[] expected = new Integer[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            expected[i] = i;
+        }
+
+        //when
+        CustomList<Integer> list = toList(expected);
+        IntroSortUtil.sort(list, Comparator.reverseOrder(), 0, list.size() - 1);
+        Arrays.sort(expected, Comparator.reverseOrder());
+
+        //then
+        assertSorted(list, expected);
+    }
+
+    @Test
+    public void shouldSortListWithManyDuplicates() {
+
+        //given
+        Random random = new Random(1);
+        Integer[] expected = new Integer[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            expected[i] = random.nextInt(3);
+        }
+
+        //when
+        CustomList<Integer> list = toList(expected);
+        IntroSortUtil.sort(list, 0, list.size() - 1);
+        Arrays.sort(expected);
+
+        //then
+        assertSorted(list, expected);
+    }
+
+    @Test
+    public void shouldSortArrayRange() {
+
+        //given
+        Random random = new Random(2);
+        Integer[] array = new Integer[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            array[i] = random.nextInt();
+        }
+        Integer[] expected = array.clone();
+
+        //when
+        IntroSortUtil.sort(array, 10, SIZE - 11);
+        Arrays.sort(expected, 10, SIZE - 10);
+
+        //then
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    public void shouldSortWithHeapSortFallback() {
+
+        //given
+        Random random = new Random(3);
+        Integer[] array = new Integer[1000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt(500);
+        }
+        Integer[] expected = array.clone();
+        CustomList<Integer> list = toList(array);
+
+        //when
+        IntroSortUtil.heapSort(array, Comparator.naturalOrder(), 0, array.length - 1);
+        IntroSortUtil.heapSort(list, Comparator.naturalOrder(), 0, list.size() - 1);
+        Arrays.sort(expected);
+
+        //then
+        assertArrayEquals(expected, array);
+        assertSorted(list, expected);
+    }
+
+    @Test
+    public void shouldSortArrayInParallel() {
+
+        //given
+        Random random = new Random(4);
+        Integer[] array = new Integer[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            array[i] = random.nextInt(1000);
+        }
+        Integer[] expected = array.clone();
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        //when
+        IntroSortUtil.parallelSort(array, 0, SIZE - 1, pool, 256);
+        Arrays.sort(expected);
+        pool.shutdown();
+
+        //then
+        assertArrayEquals(expected, array);
+    }
+
+    private static CustomList<Integer> toList(Integer[] values) {
+        CustomList<Integer> list = new CustomArrayList<>(values.length);
+        for (Integer value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    private static void assertSorted(CustomList<Integer> list, Integer[] expected) {
+        assertEquals(expected.length, list.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], list.get(i));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package ru.aston.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.aston.CircularCustomList;
+import ru.aston.CustomArrayList;
+import ru.aston.CustomList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MergeSortUtilTest {
+
+    @Test
+    public void shouldSortStablyLikeArraysSort() {
+
+        //given
+        Random random = new Random(19);
+        Comparator<int[]> byKey = Comparator.comparingInt(pair -> pair[0]);
+        for (int length : new int[]{0, 1, 2, 31, 32, 33, 100, 1000, 10000}) {
+            int[][] array = new int[length][];
+            for (int i = 0; i < length; i++) {
+                array[i] = new int[]{random.nextInt(50), i};
+            }
+            int[][] expected = array.clone();
+
+            //when
+            MergeSortUtil.sort(array, byKey, 0, length - 1);
+            Arrays.sort(expected, byKey);
+
+            //then
+            for (int i = 0; i < length; i++) {
+                Assertions.assertSame(expected[i], array[i]);
+            }
+        }
+    }
+
+    @Test
+    public void shouldSortSortedBatchesInNearlyLinearTime() {
+
+        //given
+        int length = 1 << 16;
+        CustomArrayList<Integer> list = new CustomArrayList<>(length);
+        for (int batch = 0; batch < 4; batch++) {
+            for (int i = 0; i < length / 4; i++) {
+                list.add(i * 4 + batch);
+            }
+        }
+        AtomicLong comparisons = new AtomicLong();
+        Comparator<Integer> counting = (o1, o2) -> {
+            comparisons.incrementAndGet();
+            return o1.compareTo(o2);
+        };
+
+        //when
+        MergeSortUtil.sort(list, counting, 0, list.size() - 1);
+
+        //then
+        for (int i = 0; i < length; i++) {
+            assertEquals(i, list.get(i));
+        }
+        Assertions.assertTrue(comparisons.get() < 4L * length, "comparisons = " + comparisons.get());
+    }
+
+    @Test
+    public void shouldSortDescendingRunsAndSubRange() {
+
+        //given
+        CustomList<Integer> list = new CustomArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            list.add(200 - i);
+        }
+
+        //when
+        MergeSortUtil.sort(list, 50, 149);
+
+        //then
+        assertEquals(200, list.get(0));
+        assertEquals(51, list.get(50));
+        assertEquals(150, list.get(149));
+        assertEquals(1, list.get(199));
+    }
+
+    @Test
+    public void shouldSortListWithoutInternalArrayStably() {
+
+        //given
+        CustomList<TestObject> list = new CircularCustomList<>();
+        Random random = new Random(19);
+        for (long i = 0; i < 500; i++) {
+            list.add(Fixture.generateTestObject(i, null, random.nextInt(10), "name"));
+        }
+
+        //when
+        MergeSortUtil.sort(list, Comparator.comparing(TestObject::getYear), 0, list.size() - 1);
+
+        //then
+        for (int i = 1; i < list.size(); i++) {
+            TestObject previous = list.get(i - 1);
+            TestObject current = list.get(i);
+            Assertions.assertTrue(previous.getYear() < current.getYear()
+                    || previous.getYear().equals(current.getYear()) && previous.getId() < current.getId());
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+package ru.aston.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.aston.CircularCustomList;
+import ru.aston.CustomArrayList;
+import ru.aston.CustomList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RadixSortUtilTest {
+
+    @Test
+    public void shouldSortByLongKeyStably() {
+
+        //given
+        Random random = new Random(20);
+        long[] specialKeys = {Long.MIN_VALUE, Long.MAX_VALUE, -1, 0, 1};
+        CustomList<long[]> list = new CustomArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            long key = i < specialKeys.length ? specialKeys[i] : random.nextInt(2000) - 1000;
+            list.add(new long[]{key, i});
+        }
+        long[][] expected = new long[list.size()][];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = list.get(i);
+        }
+        Arrays.sort(expected, Comparator.comparingLong(pair -> pair[0]));
+
+        //when
+        RadixSortUtil.sortByLongKey(list, pair -> pair[0], 0, list.size() - 1);
+
+        //then
+        for (int i = 0; i < expected.length; i++) {
+            Assertions.assertSame(expected[i], list.get(i));
+        }
+    }
+
+    @Test
+    public void shouldSortByStringKeyLikeCompareTo() {
+
+        //given
+        Random random = new Random(20);
+        String[] alphabet = {"", "a", "ab", "b", "а", "ÿ", "Ā", "z"};
+        CustomList<String> list = new CircularCustomList<>();
+        for (int i = 0; i < 3000; i++) {
+            StringBuilder value = new StringBuilder();
+            int parts = random.nextInt(4);
+            for (int p = 0; p < parts; p++) {
+                value.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            list.add(value.toString());
+        }
+        String[] expected = new String[list.size()];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = list.get(i);
+        }
+        Arrays.sort(expected);
+
+        //when
+        RadixSortUtil.sortByStringKey(list, value -> value, 0, list.size() - 1);
+
+        //then
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], list.get(i));
+        }
+    }
+
+    @Test
+    public void shouldSortSubRangeByStringKeyOfObjects() {
+
+        //given
+        CustomList<TestObject> list = new CustomArrayList<>();
+        String[] names = {"x", "delta", "alpha", "charlie", "bravo", "a"};
+        for (int i = 0; i < names.length; i++) {
+            list.add(Fixture.generateTestObject((long) i, null, null, names[i]));
+        }
+
+        //when
+        RadixSortUtil.sortByStringKey(list, TestObject::getName, 1, 4);
+
+        //then
+        String[] expected = {"x", "alpha", "bravo", "charlie", "delta", "a"};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], list.get(i).getName());
+        }
+    }
+
+    @Test
+    public void shouldSortStringKeysWithLongCommonPrefix() {
+
+        //given
+        Random random = new Random(200);
+        String prefix = "/data/" + "p".repeat(20_000);
+        CustomList<String> list = new CustomArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            list.add(prefix + random.nextInt(100));
+        }
+        for (int i = 0; i < 2000; i++) {
+            list.add("a".repeat(i) + "b");
+        }
+        String[] expected = new String[list.size()];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = list.get(i);
+        }
+        Arrays.sort(expected);
+
+        //when
+        RadixSortUtil.sortByStringKey(list, value -> value, 0, list.size() - 1);
+
+        //then
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], list.get(i));
+        }
+    }
+
+}
@@ -0,0 +1,118 @@
+package ru.aston.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.aston.CircularCustomList;
+import ru.aston.CustomArrayList;
+import ru.aston.CustomList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SelectionUtilTest {
+
+    @Test
+    public void shouldSelectKthElementInArrayAndOtherLists() {
+
+        //given
+        Random random = new Random(21);
+        Integer[] values = new Integer[2000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(300);
+        }
+        Integer[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        for (int k : new int[]{0, 1, 17, 999, 1998, 1999}) {
+            CustomList<Integer> arrayList = new CustomArrayList<>();
+            CustomList<Integer> circularList = new CircularCustomList<>();
+            for (Integer value : values) {
+                arrayList.add(value);
+                circularList.add(value);
+            }
+
+            //when
+            Integer selected = SelectionUtil.select(arrayList, k);
+            Integer selectedCircular = SelectionUtil.select(circularList, Comparator.naturalOrder(), k);
+
+            //then
+            assertEquals(sorted[k], selected);
+            assertEquals(sorted[k], selectedCircular);
+            for (int i = 0; i < values.length; i++) {
+                Assertions.assertTrue(i <= k ? arrayList.get(i) <= selected : arrayList.get(i) >= selected);
+                Assertions.assertTrue(i <= k
+                        ? circularList.get(i) <= selectedCircular
+                        : circularList.get(i) >= selectedCircular);
+            }
+        }
+    }
+
+    @Test
+    public void shouldSortOnlyFirstKPositions() {
+
+        //given
+        CustomList<Integer> list = new CustomArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add((i * 7919) % 1000);
+        }
+
+        //when
+        SelectionUtil.partialSort(list, Comparator.reverseOrder(), 10);
+
+        //then
+        for (int i = 0; i < 10; i++) {
+            assertEquals(999 - i, list.get(i));
+        }
+        assertEquals(1000, list.size());
+    }
+
+    @Test
+    public void shouldReturnTopKWithoutChangingSource() {
+
+        //given
+        CustomList<Integer> list = new CircularCustomList<>();
+        Random random = new Random(21);
+        for (int i = 0; i < 5000; i++) {
+            list.add(random.nextInt());
+        }
+        Integer[] sorted = new Integer[list.size()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = list.get(i);
+        }
+        Integer first = list.get(0);
+        Arrays.sort(sorted);
+
+        //when
+        CustomArrayList<Integer> top = SelectionUtil.topK(list, 100);
+        CustomArrayList<Integer> all = SelectionUtil.topK(list, 10000, Comparator.reverseOrder());
+
+        //then
+        assertEquals(100, top.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(sorted[i], top.get(i));
+        }
+        assertEquals(5000, all.size());
+        assertEquals(sorted[4999], all.get(0));
+        assertEquals(first, list.get(0));
+        assertEquals(0, SelectionUtil.topK(list, 0).size());
+    }
+
+    @Test
+    public void shouldThrowIndexOutOfBoundsExceptionWhenKIsOutOfRange() {
+
+        //given
+        CustomList<Integer> list = new CustomArrayList<>();
+        list.add(1);
+
+        //then
+        IndexOutOfBoundsException thrown = Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+            SelectionUtil.select(list, 1);
+        }, "IndexOutOfBoundsException was expected");
+
+        Assertions.assertEquals("k = 1 is out of bounds for size = 1", thrown.getMessage());
+    }
+
+}
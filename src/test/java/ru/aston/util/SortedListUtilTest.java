@@ -0,0 +1,96 @@
+package ru.aston.util;
+
+import org.junit.jupiter.api.Test;
+import ru.aston.CustomArrayList;
+import ru.aston.CustomList;
+
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SortedListUtilTest {
+
+    @Test
+    public void shouldFindElementsAndInsertionPoints() {
+
+        //given
+        CustomList<Integer> list = new CustomArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i * 2);
+        }
+
+        //then
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, SortedListUtil.binarySearch(list, i * 2));
+            assertEquals(-(i + 1) - 1, SortedListUtil.binarySearch(list, i * 2 + 1));
+        }
+        assertEquals(-1, SortedListUtil.binarySearch(list, -5));
+        assertEquals(-101, SortedListUtil.binarySearch(list, 1000, Comparator.naturalOrder()));
+    }
+
+    @Test
+    public void shouldFindBoundsOfEqualRange() {
+
+        //given
+        CustomList<Integer> list = new CustomArrayList<>();
+        for (int value : new int[]{1, 3, 3, 3, 5}) {
+            list.add(value);
+        }
+
+        //then
+        assertEquals(1, SortedListUtil.lowerBound(list, 3));
+        assertEquals(4, SortedListUtil.upperBound(list, 3));
+        assertEquals(1, SortedListUtil.lowerBound(list, 2));
+        assertEquals(1, SortedListUtil.upperBound(list, 2));
+        assertEquals(0, SortedListUtil.lowerBound(list, 0, Comparator.naturalOrder()));
+        assertEquals(5, SortedListUtil.upperBound(list, 5, Comparator.naturalOrder()));
+    }
+
+    @Test
+    public void shouldInsertAfterEqualElements() {
+
+        //given
+        CustomList<TestObject> list = new CustomArrayList<>();
+        Comparator<TestObject> byId = Comparator.comparing(TestObject::getId);
+        TestObject first = Fixture.generateTestObject(1L, null, null, "first");
+        TestObject second = Fixture.generateTestObject(1L, null, null, "second");
+
+        //when
+        SortedListUtil.insertSorted(list, Fixture.generateTestObject(2L, null, null, "two"), byId);
+        SortedListUtil.insertSorted(list, first, byId);
+        int index = SortedListUtil.insertSorted(list, second, byId);
+        SortedListUtil.insertSorted(list, Fixture.generateTestObject(0L, null, null, "zero"), byId);
+
+        //then
+        assertEquals(1, index);
+        assertEquals(0L, list.get(0).getId());
+        assertEquals(first, list.get(1));
+        assertEquals(second, list.get(2));
+        assertEquals(2L, list.get(3).getId());
+    }
+
+    @Test
+    public void shouldMergeTwoSortedLists() {
+
+        //given
+        CustomList<Integer> odd = new CustomArrayList<>();
+        CustomList<Integer> even = new CustomArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            odd.add(2 * i + 1);
+            even.add(2 * i);
+        }
+        even.add(100);
+
+        //when
+        CustomArrayList<Integer> merged = SortedListUtil.merge(odd, even);
+
+        //then
+        assertEquals(21, merged.size());
+        assertEquals(21, merged.capacity());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i, merged.get(i));
+        }
+        assertEquals(100, merged.get(20));
+    }
+
+}